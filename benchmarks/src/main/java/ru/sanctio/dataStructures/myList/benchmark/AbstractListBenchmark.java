@@ -0,0 +1,89 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.ChunkedMyArrayList;
+import ru.sanctio.dataStructures.myList.CircularMyArrayList;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+import ru.sanctio.dataStructures.myList.MyList;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Общее состояние бенчмарков операций MyList.
+ * Каждый бенчмарк прогоняется для всех сочетаний реализации, размера списка и формы элементов.
+ * Реализация ArrayList служит базовой линией для сравнения с MyArrayList.
+ * <p>
+ * Для получения скорости выделения памяти запускайте бенчмарки с профилировщиком {@code -prof gc}.
+ * Чтобы ограничить прогон, параметры можно переопределить, например {@code -p size=1000 -p shape=INTEGER}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class AbstractListBenchmark {
+
+    /**
+     * Начальное значение генератора данных, одинаковое для всех бенчмарков.
+     */
+    static final long SEED = 42L;
+
+    @Param({"MyArrayList", "CircularMyArrayList", "ChunkedMyArrayList", "ArrayList"})
+    public String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    public int size;
+
+    @Param({"INTEGER", "STRING", "POINT"})
+    public ElementShape shape;
+
+    /**
+     * Элементы, которыми заполняется список.
+     */
+    Object[] data;
+
+    /**
+     * Список, над которым выполняются операции.
+     */
+    MyList<Object> list;
+
+    @Setup(Level.Trial)
+    public void createData() {
+        data = shape.createArray(size, SEED);
+        list = newList(size);
+        fill(list);
+    }
+
+    /**
+     * Создает пустой список выбранной реализации.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @return новый пустой список.
+     */
+    MyList<Object> newList(int initialCapacity) {
+        switch (implementation) {
+            case "MyArrayList":
+                return new MyArrayList<>(initialCapacity);
+            case "CircularMyArrayList":
+                return new CircularMyArrayList<>(initialCapacity);
+            case "ChunkedMyArrayList":
+                return new ChunkedMyArrayList<>();
+            case "ArrayList":
+                return new JdkArrayListAdapter<>(initialCapacity);
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    /**
+     * Добавляет в конец указанного списка все элементы из data.
+     *
+     * @param target список для заполнения.
+     */
+    void fill(MyList<Object> target) {
+        for (Object element : data) {
+            target.add(element);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Измеряет add(int, E) в начало, середину и конец списка.
+ * После каждого вызова вставленный элемент удаляется вне измерения,
+ * поэтому размер списка между вызовами не меняется.
+ * На маленьких размерах результат заметно зависит от накладных расходов Level.Invocation.
+ */
+public class AddAtIndexBenchmark extends AbstractListBenchmark {
+
+    @Param({"HEAD", "MIDDLE", "TAIL"})
+    public Position position;
+
+    private final Object marker = new Object();
+    private int index;
+
+    @Setup(Level.Trial)
+    public void computeIndex() {
+        index = position.index(size, true);
+    }
+
+    @Benchmark
+    public void addAtIndex() {
+        list.add(index, marker);
+    }
+
+    @TearDown(Level.Invocation)
+    public void removeMarker() {
+        list.remove(marker);
+    }
+}
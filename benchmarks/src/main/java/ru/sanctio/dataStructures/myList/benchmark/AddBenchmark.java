@@ -0,0 +1,18 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import ru.sanctio.dataStructures.myList.MyList;
+
+/**
+ * Измеряет построение списка из size элементов вызовами add(E),
+ * начиная с емкости по умолчанию, то есть вместе со всеми расширениями массива.
+ */
+public class AddBenchmark extends AbstractListBenchmark {
+
+    @Benchmark
+    public MyList<Object> addToEnd() {
+        MyList<Object> target = newList(10);
+        fill(target);
+        return target;
+    }
+}
@@ -0,0 +1,63 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает преобразование и свертку MyArrayList циклом get/set с replaceAll и reduce
+ * и с их параллельными вариантами в общем ForkJoinPool.
+ * Преобразование переключает младший бит каждого значения, поэтому после пары вызовов
+ * список возвращается к исходному состоянию и может не восстанавливаться между измерениями.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class BulkOperationBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int size;
+
+    private MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        SplittableRandom random = new SplittableRandom(AbstractListBenchmark.SEED);
+        list = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            list.add(random.nextInt());
+        }
+    }
+
+    @Benchmark
+    public void getSetLoop() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, list.get(i) ^ 1);
+        }
+    }
+
+    @Benchmark
+    public void replaceAll() {
+        list.replaceAll(element -> element ^ 1);
+    }
+
+    @Benchmark
+    public void parallelReplaceAll() {
+        list.parallelReplaceAll(element -> element ^ 1);
+    }
+
+    @Benchmark
+    public long reduce() {
+        return list.reduce(0, (e1, e2) -> e1 ^ e2);
+    }
+
+    @Benchmark
+    public long parallelReduce() {
+        return list.parallelReduce(0, (e1, e2) -> e1 ^ e2);
+    }
+}
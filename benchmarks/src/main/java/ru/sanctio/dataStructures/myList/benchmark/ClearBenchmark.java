@@ -0,0 +1,23 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Измеряет clear() заполненного списка. Список заново заполняется перед каждым вызовом вне измерения.
+ */
+public class ClearBenchmark extends AbstractListBenchmark {
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        if (list.isEmpty()) {
+            fill(list);
+        }
+    }
+
+    @Benchmark
+    public void clear() {
+        list.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import ru.sanctio.dataStructures.myList.ConcurrentMyList;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+import ru.sanctio.dataStructures.myList.MyList;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает ConcurrentMyList с MyArrayList, доступ к которому синхронизирован монитором списка,
+ * при одновременном добавлении в конец и чтении по индексу из нескольких потоков.
+ * Список общий для всех потоков и пересоздается перед каждой итерацией.
+ * <p>
+ * Количество потоков задается ключом {@code -t}; метод main прогоняет бенчмарк для 1-64 потоков.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentAddBenchmark {
+
+    private static final Integer ELEMENT = 42;
+
+    /**
+     * Количество элементов в списке перед итерацией, по ним выполняется чтение.
+     */
+    private static final int PREFILLED = 1 << 16;
+
+    @Param({"ConcurrentMyList", "SynchronizedMyArrayList"})
+    public String implementation;
+
+    private MyList<Integer> list;
+    private boolean synchronizedAccess;
+
+    @Setup(Level.Iteration)
+    public void createList() {
+        switch (implementation) {
+            case "ConcurrentMyList":
+                list = new ConcurrentMyList<>();
+                synchronizedAccess = false;
+                break;
+            case "SynchronizedMyArrayList":
+                list = new MyArrayList<>();
+                synchronizedAccess = true;
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+        for (int i = 0; i < PREFILLED; i++) {
+            list.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        if (synchronizedAccess) {
+            synchronized (list) {
+                list.add(ELEMENT);
+            }
+        } else {
+            list.add(ELEMENT);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        int index = ThreadLocalRandom.current().nextInt(PREFILLED);
+        if (synchronizedAccess) {
+            synchronized (list) {
+                return list.get(index);
+            }
+        }
+        return list.get(index);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads = 1; threads <= 64; threads <<= 1) {
+            Options options = new OptionsBuilder()
+                    .include(ConcurrentAddBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import java.util.Random;
+
+/**
+ * Форма элементов, которыми заполняются списки в бенчмарках.
+ * Все формы реализуют Comparable, чтобы их можно было сортировать в естественном порядке.
+ */
+public enum ElementShape {
+
+    /**
+     * Упакованные целые числа.
+     */
+    INTEGER {
+        @Override
+        Object create(Random random) {
+            return random.nextInt();
+        }
+    },
+
+    /**
+     * Строки из шестнадцати латинских букв.
+     */
+    STRING {
+        @Override
+        Object create(Random random) {
+            char[] chars = new char[16];
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = (char) ('a' + random.nextInt(26));
+            }
+            return new String(chars);
+        }
+    },
+
+    /**
+     * Небольшой объект с двумя полями.
+     */
+    POINT {
+        @Override
+        Object create(Random random) {
+            return new Point(random.nextInt(), random.nextInt());
+        }
+    };
+
+    /**
+     * Создает новый элемент этой формы.
+     *
+     * @param random источник случайных значений.
+     * @return новый элемент.
+     */
+    abstract Object create(Random random);
+
+    /**
+     * Создает массив элементов этой формы.
+     *
+     * @param length количество элементов.
+     * @param seed   начальное значение генератора, чтобы данные совпадали между запусками.
+     * @return массив элементов.
+     */
+    Object[] createArray(int length, long seed) {
+        Random random = new Random(seed);
+        Object[] result = new Object[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = create(random);
+        }
+        return result;
+    }
+
+    /**
+     * Точка на плоскости, упорядоченная сначала по x, затем по y.
+     */
+    static final class Point implements Comparable<Point> {
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        @Override
+        public int compareTo(Point o) {
+            int result = Integer.compare(x, o.x);
+            return result != 0 ? result : Integer.compare(y, o.y);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Point point = (Point) o;
+            return x == point.x && y == point.y;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * x + y;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Измеряет equals и hashCode больших MyArrayList.
+ * Сравниваемые списки содержат равные, но разные объекты элементов, второй создан с четырехкратным
+ * запасом емкости; список different отличается только последним элементом. ArrayList служит базовой линией.
+ * hashCodeCached измеряет повторный вызов hashCode при включенном кэшировании.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class EqualsHashCodeBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int size;
+
+    private MyArrayList<Integer> list;
+    private MyArrayList<Integer> spacious;
+    private MyArrayList<Integer> different;
+    private MyArrayList<Integer> cached;
+    private List<Integer> arrayList;
+    private List<Integer> otherArrayList;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        list = new MyArrayList<>(size);
+        spacious = new MyArrayList<>(size * 4);
+        different = new MyArrayList<>(size);
+        cached = new MyArrayList<>(size);
+        arrayList = new ArrayList<>(size);
+        otherArrayList = new ArrayList<>(size * 4);
+        for (int i = 0; i < size; i++) {
+            int value = i * 31;
+            list.add(value);
+            spacious.add(value);
+            different.add(i == size - 1 ? -1 : value);
+            cached.add(value);
+            arrayList.add(value);
+            otherArrayList.add(value);
+        }
+        cached.setHashCaching(true);
+    }
+
+    @Benchmark
+    public boolean equalsEqual() {
+        return list.equals(spacious);
+    }
+
+    @Benchmark
+    public boolean equalsDifferentLast() {
+        return list.equals(different);
+    }
+
+    @Benchmark
+    public boolean arrayListEquals() {
+        return arrayList.equals(otherArrayList);
+    }
+
+    @Benchmark
+    public int hashCodeUncached() {
+        return list.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeCached() {
+        return cached.hashCode();
+    }
+
+    @Benchmark
+    public int arrayListHashCode() {
+        return arrayList.hashCode();
+    }
+}
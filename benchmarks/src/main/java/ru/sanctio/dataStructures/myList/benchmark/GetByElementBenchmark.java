@@ -0,0 +1,24 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Измеряет линейный поиск get(E) элемента, находящегося в начале, середине или конце списка.
+ */
+public class GetByElementBenchmark extends AbstractListBenchmark {
+
+    @Param({"HEAD", "MIDDLE", "TAIL"})
+    public Position position;
+
+    private Object target;
+
+    @Setup(Level.Trial)
+    public void chooseTarget() {
+        target = data[position.index(size, false)];
+    }
+
+    @Benchmark
+    public Object getByElement() {
+        return list.get(target);
+    }
+}
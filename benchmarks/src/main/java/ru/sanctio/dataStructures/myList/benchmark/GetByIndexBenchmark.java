@@ -0,0 +1,31 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Измеряет get(int) по заранее сгенерированной последовательности случайных индексов.
+ */
+public class GetByIndexBenchmark extends AbstractListBenchmark {
+
+    private static final int INDEX_MASK = 1023;
+
+    private final int[] indexes = new int[INDEX_MASK + 1];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void createIndexes() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Object getByIndex() {
+        return list.get(indexes[cursor++ & INDEX_MASK]);
+    }
+}
@@ -0,0 +1,80 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import ru.sanctio.dataStructures.myList.MyList;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+
+/**
+ * Адаптер java.util.ArrayList к интерфейсу MyList, используемый как базовая линия в бенчмарках.
+ * Семантика методов повторяет MyArrayList: конечный индекс сортировки включается в диапазон.
+ */
+final class JdkArrayListAdapter<E> implements MyList<E> {
+
+    private final ArrayList<E> list;
+
+    JdkArrayListAdapter(int initialCapacity) {
+        list = new ArrayList<>(initialCapacity);
+    }
+
+    @Override
+    public void add(E element) {
+        list.add(element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        list.add(index, element);
+    }
+
+    @Override
+    public int size() {
+        return list.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    @Override
+    public E get(int index) {
+        return list.get(index);
+    }
+
+    @Override
+    public E get(E element) {
+        int index = list.indexOf(element);
+        return index < 0 ? null : list.get(index);
+    }
+
+    @Override
+    public boolean remove(E element) {
+        return list.remove(element);
+    }
+
+    @Override
+    public void clear() {
+        list.clear();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        return list.set(index, element);
+    }
+
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        list.subList(fromIndex, toIndex + 1).sort(comparator);
+    }
+
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        list.subList(fromIndex, toIndex + 1).sort(null);
+    }
+
+    @Override
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        list.subList(fromIndex, toIndex + 1).sort(comparator);
+    }
+}
@@ -0,0 +1,74 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+import ru.sanctio.dataStructures.myList.PivotStrategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает стратегии выбора опорного элемента в MyArrayList.sort на случайных данных
+ * и на данных в форме «органной трубы» (возрастающая, затем убывающая последовательность),
+ * неудобных для медианы трех элементов.
+ * <p>
+ * Состояние создается для каждого потока, поэтому sortInFourThreads показывает,
+ * масштабируется ли сортировка одной и той же стратегией в нескольких потоках
+ * без общего генератора случайных чисел.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class PivotStrategyBenchmark {
+
+    @Param({"medianOfThree", "ninther", "random", "seeded"})
+    public String pivot;
+
+    @Param({"random", "organPipe"})
+    public String order;
+
+    @Param({"100000"})
+    public int size;
+
+    private Integer[] data;
+    private MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        SplittableRandom random = new SplittableRandom(AbstractListBenchmark.SEED);
+        data = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = "random".equals(order) ? random.nextInt() : Math.min(i, size - i);
+        }
+        list = new MyArrayList<>(size);
+        list.addAll(data);
+        list.setPivotStrategy(switch (pivot) {
+            case "medianOfThree" -> PivotStrategy.MEDIAN_OF_THREE;
+            case "ninther" -> PivotStrategy.NINTHER;
+            case "random" -> PivotStrategy.RANDOM;
+            case "seeded" -> PivotStrategy.seeded(AbstractListBenchmark.SEED);
+            default -> throw new IllegalArgumentException("Unknown pivot strategy: " + pivot);
+        });
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, data[i]);
+        }
+    }
+
+    @Benchmark
+    public void sort() {
+        list.sort(0, size - 1);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sortInFourThreads() {
+        list.sort(0, size - 1);
+    }
+}
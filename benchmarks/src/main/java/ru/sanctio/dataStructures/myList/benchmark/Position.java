@@ -0,0 +1,30 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+/**
+ * Позиция в списке, над которой выполняется операция.
+ */
+public enum Position {
+    HEAD,
+    MIDDLE,
+    TAIL;
+
+    /**
+     * Возвращает индекс этой позиции в списке указанного размера.
+     *
+     * @param size     размер списка.
+     * @param inclusive true, если допустим индекс, равный размеру списка (вставка в конец).
+     * @return индекс позиции.
+     */
+    int index(int size, boolean inclusive) {
+        switch (this) {
+            case HEAD:
+                return 0;
+            case MIDDLE:
+                return size / 2;
+            case TAIL:
+                return inclusive ? size : size - 1;
+            default:
+                throw new IllegalStateException("Unknown position: " + this);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.DoubleMyArrayList;
+import ru.sanctio.dataStructures.myList.IntMyArrayList;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает векторные и скалярные реализации поиска, подсчета, агрегирования и заполнения
+ * в IntMyArrayList и DoubleMyArrayList.
+ * <p>
+ * Реализация выбирается один раз при загрузке класса ядер, поэтому каждое значение параметра kernels
+ * выполняется в отдельной JVM: скалярная реализация включается системным свойством до первого
+ * обращения к ядрам. Искомый элемент отсутствует в списке, поэтому поиск просматривает его целиком.
+ * Заполнение в обоих режимах выполняется Arrays.fill, векторная реализация ему проигрывала.
+ * <p>
+ * Векторная реализация входит в библиотеку, только если она установлена в профиле vector
+ * (mvn -Pvector install), иначе оба значения kernels измеряют скалярные циклы.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "--add-modules=jdk.incubator.vector"})
+public class PrimitiveKernelsBenchmark {
+
+    private static final String SCALAR_PROPERTY = "ru.sanctio.dataStructures.myList.scalarKernels";
+
+    @Param({"vector", "scalar"})
+    public String kernels;
+
+    @Param({"100", "10000", "1000000"})
+    public int size;
+
+    private IntMyArrayList ints;
+    private DoubleMyArrayList doubles;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        System.setProperty(SCALAR_PROPERTY, Boolean.toString("scalar".equals(kernels)));
+        SplittableRandom random = new SplittableRandom(AbstractListBenchmark.SEED);
+        ints = new IntMyArrayList(size);
+        doubles = new DoubleMyArrayList(size);
+        for (int i = 0; i < size; i++) {
+            ints.add(random.nextInt(1_000_000));
+            doubles.add(random.nextDouble());
+        }
+    }
+
+    @Benchmark
+    public int intIndexOf() {
+        return ints.indexOf(-1);
+    }
+
+    @Benchmark
+    public int intCount() {
+        return ints.count(7);
+    }
+
+    @Benchmark
+    public int intMax() {
+        return ints.max();
+    }
+
+    @Benchmark
+    public long intSum() {
+        return ints.sum();
+    }
+
+    @Benchmark
+    public IntMyArrayList intFill() {
+        ints.fill(0, size - 1, 3);
+        return ints;
+    }
+
+    @Benchmark
+    public int doubleIndexOf() {
+        return doubles.indexOf(-1.0);
+    }
+
+    @Benchmark
+    public double doubleMin() {
+        return doubles.min();
+    }
+
+    @Benchmark
+    public double doubleSum() {
+        return doubles.sum();
+    }
+}
@@ -0,0 +1,36 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Измеряет remove(E) элемента, находящегося в начале, середине или конце списка.
+ * После каждого вызова удаленный элемент возвращается на место вне измерения.
+ */
+public class RemoveBenchmark extends AbstractListBenchmark {
+
+    @Param({"HEAD", "MIDDLE", "TAIL"})
+    public Position position;
+
+    private Object target;
+    private int targetIndex;
+
+    @Setup(Level.Trial)
+    public void chooseTarget() {
+        target = data[position.index(size, false)];
+        //remove(E) удаляет первое вхождение, поэтому возвращать элемент нужно на его индекс
+        targetIndex = 0;
+        while (!target.equals(data[targetIndex])) {
+            targetIndex++;
+        }
+    }
+
+    @Benchmark
+    public boolean remove() {
+        return list.remove(target);
+    }
+
+    @TearDown(Level.Invocation)
+    public void restoreTarget() {
+        list.add(targetIndex, target);
+    }
+}
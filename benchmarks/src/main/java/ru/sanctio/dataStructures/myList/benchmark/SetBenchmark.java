@@ -0,0 +1,32 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Random;
+
+/**
+ * Измеряет set(int, E) по заранее сгенерированной последовательности случайных индексов.
+ */
+public class SetBenchmark extends AbstractListBenchmark {
+
+    private static final int INDEX_MASK = 1023;
+
+    private final int[] indexes = new int[INDEX_MASK + 1];
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void createIndexes() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public Object set() {
+        int index = indexes[cursor++ & INDEX_MASK];
+        return list.set(index, data[index]);
+    }
+}
@@ -0,0 +1,45 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.util.Comparator;
+
+/**
+ * Измеряет обе перегрузки sort, устойчивую и параллельную сортировку на всем списке.
+ * Базовая линия ArrayList не имеет параллельной сортировки, поэтому для нее parallelSort сортирует последовательно.
+ * Перед каждым вызовом вне измерения восстанавливается исходный неупорядоченный порядок элементов.
+ */
+public class SortBenchmark extends AbstractListBenchmark {
+
+    @SuppressWarnings("unchecked")
+    private static final Comparator<Object> REVERSE_ORDER = (Comparator<Object>) (Comparator<?>) Comparator.reverseOrder();
+
+    @Setup(Level.Invocation)
+    public void shuffle() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, data[i]);
+        }
+    }
+
+    @Benchmark
+    public void sortNatural() {
+        list.sort(0, size - 1);
+    }
+
+    @Benchmark
+    public void sortWithComparator() {
+        list.sort(0, size - 1, REVERSE_ORDER);
+    }
+
+    @Benchmark
+    public void parallelSortNatural() {
+        list.parallelSort(0, size - 1);
+    }
+
+    @Benchmark
+    public void stableSortWithComparator() {
+        list.stableSort(0, size - 1, REVERSE_ORDER);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.sanctio.dataStructures.myList.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import ru.sanctio.dataStructures.myList.MyArrayList;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Сравнивает способы отобрать k крайних по порядку элементов большого MyArrayList:
+ * полную сортировку, partialSort и select (k наименьших) и topK (k наибольших).
+ * Перед каждым вызовом вне измерения восстанавливается исходный неупорядоченный порядок элементов;
+ * topK список не изменяет, но восстановление выполняется и для него, чтобы условия совпадали.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class TopKBenchmark {
+
+    @Param({"1000000"})
+    public int size;
+
+    @Param({"100"})
+    public int k;
+
+    private Integer[] data;
+    private MyArrayList<Integer> list;
+
+    @Setup(Level.Trial)
+    public void fill() {
+        SplittableRandom random = new SplittableRandom(AbstractListBenchmark.SEED);
+        data = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            data[i] = random.nextInt();
+        }
+        list = new MyArrayList<>(size);
+        list.addAll(data);
+    }
+
+    @Setup(Level.Invocation)
+    public void restore() {
+        for (int i = 0; i < size; i++) {
+            list.set(i, data[i]);
+        }
+    }
+
+    @Benchmark
+    public Integer fullSort() {
+        list.sort(0, size - 1);
+        return list.get(k - 1);
+    }
+
+    @Benchmark
+    public Integer partialSort() {
+        list.partialSort(k);
+        return list.get(k - 1);
+    }
+
+    @Benchmark
+    public Integer select() {
+        return list.select(k - 1);
+    }
+
+    @Benchmark
+    public MyArrayList<Integer> topK() {
+        return list.topK(k);
+    }
+}
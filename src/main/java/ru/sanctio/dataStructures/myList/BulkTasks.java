@@ -0,0 +1,179 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Параллельные массовые операции над диапазонами массивов, используемые реализациями MyList.
+ * Все границы диапазонов - [low, high), как в subList.
+ * <p>
+ * Диапазон делится пополам задачами ForkJoin до частей длины ParallelSettings.leafSize,
+ * части обрабатываются простым циклом по массиву. Результаты reduce и collect объединяются
+ * в порядке следования частей, поэтому от операции объединения требуется только ассоциативность.
+ */
+final class BulkTasks {
+
+    private BulkTasks() {
+    }
+
+    static <E> void replaceAll(Object[] es, int low, int high, UnaryOperator<E> operator, ParallelSettings settings) {
+        run(low, high, settings, (from, to) -> replaceAll(es, from, to, operator));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> void replaceAll(Object[] es, int low, int high, UnaryOperator<E> operator) {
+        for (int i = low; i < high; i++) {
+            es[i] = operator.apply((E) es[i]);
+        }
+    }
+
+    static <E> void forEach(Object[] es, int low, int high, Consumer<? super E> action, ParallelSettings settings) {
+        run(low, high, settings, (from, to) -> forEach(es, from, to, action));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> void forEach(Object[] es, int low, int high, Consumer<? super E> action) {
+        for (int i = low; i < high; i++) {
+            action.accept((E) es[i]);
+        }
+    }
+
+    static <E> E reduce(Object[] es, int low, int high, E identity, BinaryOperator<E> operator,
+                        ParallelSettings settings) {
+        return compute(low, high, settings, (from, to) -> reduce(es, from, to, identity, operator), operator);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E> E reduce(Object[] es, int low, int high, E identity, BinaryOperator<E> operator) {
+        E result = identity;
+        for (int i = low; i < high; i++) {
+            result = operator.apply(result, (E) es[i]);
+        }
+        return result;
+    }
+
+    static <E, R> R collect(Object[] es, int low, int high, Supplier<R> supplier,
+                            BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner,
+                            ParallelSettings settings) {
+        return compute(low, high, settings, (from, to) -> collect(es, from, to, supplier, accumulator),
+                (left, right) -> {
+                    combiner.accept(left, right);
+                    return left;
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    static <E, R> R collect(Object[] es, int low, int high, Supplier<R> supplier,
+                            BiConsumer<R, ? super E> accumulator) {
+        R container = supplier.get();
+        for (int i = low; i < high; i++) {
+            accumulator.accept(container, (E) es[i]);
+        }
+        return container;
+    }
+
+    private static void run(int low, int high, ParallelSettings settings, RangeConsumer leaf) {
+        ForkJoinPool pool = settings.pool();
+        int leafSize = settings.leafSize(pool, high - low);
+        if (leafSize >= high - low) {
+            leaf.accept(low, high);
+        } else {
+            pool.invoke(new RangeAction(low, high, leafSize, leaf));
+        }
+    }
+
+    private static <R> R compute(int low, int high, ParallelSettings settings, RangeFunction<R> leaf,
+                                 BinaryOperator<R> combiner) {
+        ForkJoinPool pool = settings.pool();
+        int leafSize = settings.leafSize(pool, high - low);
+        if (leafSize >= high - low) {
+            return leaf.apply(low, high);
+        }
+        return pool.invoke(new RangeTask<>(low, high, leafSize, leaf, combiner));
+    }
+
+    /**
+     * Обработка части [from, to) диапазона.
+     */
+    @FunctionalInterface
+    private interface RangeConsumer {
+        void accept(int from, int to);
+    }
+
+    /**
+     * Вычисление результата части [from, to) диапазона.
+     */
+    @FunctionalInterface
+    private interface RangeFunction<R> {
+        R apply(int from, int to);
+    }
+
+    /**
+     * Делит диапазон [low, high) пополам, пока он длиннее leafSize, и обрабатывает части функцией leaf.
+     */
+    private static final class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int low;
+        private final int high;
+        private final int leafSize;
+        private final RangeConsumer leaf;
+
+        RangeAction(int low, int high, int leafSize, RangeConsumer leaf) {
+            this.low = low;
+            this.high = high;
+            this.leafSize = leafSize;
+            this.leaf = leaf;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= leafSize) {
+                leaf.accept(low, high);
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new RangeAction(low, middle, leafSize, leaf), new RangeAction(middle, high, leafSize, leaf));
+        }
+    }
+
+    /**
+     * Делит диапазон [low, high) пополам, пока он длиннее leafSize, вычисляет результаты частей функцией leaf
+     * и объединяет результаты левой и правой половин операцией combiner.
+     */
+    private static final class RangeTask<R> extends RecursiveTask<R> {
+        private static final long serialVersionUID = 1L;
+
+        private final int low;
+        private final int high;
+        private final int leafSize;
+        private final RangeFunction<R> leaf;
+        private final BinaryOperator<R> combiner;
+
+        RangeTask(int low, int high, int leafSize, RangeFunction<R> leaf, BinaryOperator<R> combiner) {
+            this.low = low;
+            this.high = high;
+            this.leafSize = leafSize;
+            this.leaf = leaf;
+            this.combiner = combiner;
+        }
+
+        @Override
+        protected R compute() {
+            if (high - low <= leafSize) {
+                return leaf.apply(low, high);
+            }
+            int middle = (low + high) >>> 1;
+            RangeTask<R> right = new RangeTask<>(middle, high, leafSize, leaf, combiner);
+            right.fork();
+            R left = new RangeTask<>(low, middle, leafSize, leaf, combiner).compute();
+            return combiner.apply(left, right.join());
+        }
+    }
+}
@@ -0,0 +1,526 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Реализация интерфейса MyList, хранящая элементы в массивах (чанках) одинакового размера,
+ * ссылки на которые собраны в справочнике.
+ * <p>
+ * Размер чанка - степень двойки, поэтому get(int) и set вычисляют номер чанка и позицию в нем
+ * сдвигом и маской. При росте выделяется только один новый чанк, а существующие элементы не копируются;
+ * копируется лишь справочник, который в chunkSize раз короче списка. Размер чанка по умолчанию (4096 ссылок)
+ * меньше порога, начиная с которого G1 размещает массив как humongous объект,
+ * поэтому даже очень большой список не требует одного огромного непрерывного массива.
+ * <p>
+ * Вставка и удаление по индексу сдвигают последующие элементы по чанкам, перенося по одному элементу
+ * через границы чанков. Сортировка диапазона, лежащего в одном чанке, выполняется на месте,
+ * иначе диапазон копируется во временный массив, сортируется и записывается обратно.
+ * Разрешает все элементы, включая null значения. Не является потокобезопасным.
+ * Итераторы этого списка являются fail-fast.
+ *
+ * @author Sharychenkov Eugene
+ */
+public class ChunkedMyArrayList<E> implements MyList<E> {
+
+    /**
+     * Размер чанка по умолчанию.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 12;
+    private static final int DEFAULT_DIRECTORY_LENGTH = 4;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private Object[][] chunks;
+    private int chunkCount;
+    private int size;
+    private int modCount;
+
+    /**
+     * Создает пустой список с размером чанка по умолчанию.
+     */
+    public ChunkedMyArrayList() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает пустой список с указанным размером чанка.
+     *
+     * @param chunkSize количество элементов в одном чанке.
+     * @throws IllegalArgumentException если chunkSize не является положительной степенью двойки.
+     */
+    public ChunkedMyArrayList(int chunkSize) {
+        if (chunkSize <= 0 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("ChunkSize must be a positive power of two. Your value: " + chunkSize);
+        }
+        chunkShift = Integer.numberOfTrailingZeros(chunkSize);
+        chunkMask = chunkSize - 1;
+        chunks = new Object[DEFAULT_DIRECTORY_LENGTH][];
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     * Если все чанки заполнены, выделяет один новый чанк.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    @Override
+    public void add(E element) {
+        checkCapacity(size);
+        modCount++;
+        chunks[size >>> chunkShift][size & chunkMask] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     * Все последующие элементы сдвигаются на одну позицию: внутри чанка копированием массива,
+     * а последний элемент каждого чанка переносится в начало следующего.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        checkCapacity(size);
+        modCount++;
+        int lastChunk = size >>> chunkShift;
+        int lastOffset = size & chunkMask;
+        int firstChunk = index >>> chunkShift;
+        int firstOffset = index & chunkMask;
+        for (int c = lastChunk; c > firstChunk; c--) {
+            Object[] chunk = chunks[c];
+            int end = c == lastChunk ? lastOffset : chunkMask;
+            System.arraycopy(chunk, 0, chunk, 1, end);
+            chunk[0] = chunks[c - 1][chunkMask];
+        }
+        Object[] chunk = chunks[firstChunk];
+        int end = firstChunk == lastChunk ? lastOffset : chunkMask;
+        System.arraycopy(chunk, firstOffset, chunk, firstOffset + 1, end - firstOffset);
+        chunk[firstOffset] = element;
+        size++;
+    }
+
+    /**
+     * Проверяет возможность добавить новый элемент в этот список и при необходимости выделяет новый чанк.
+     *
+     * @param currentSize текущее количество элементов.
+     */
+    private void checkCapacity(int currentSize) {
+        long checkSize = currentSize;
+        if (checkSize + 1 > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+        int chunkIndex = currentSize >>> chunkShift;
+        if (chunkIndex == chunkCount) {
+            if (chunkCount == chunks.length) {
+                int newLength = chunks.length > Integer.MAX_VALUE >> 1 ? Integer.MAX_VALUE : chunks.length << 1;
+                chunks = Arrays.copyOf(chunks, newLength);
+            }
+            chunks[chunkCount++] = new Object[chunkMask + 1];
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) chunks[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    private int indexOf(Object element) {
+        for (int c = 0, base = 0; c < chunkCount && base < size; base = ++c << chunkShift) {
+            Object[] chunk = chunks[c];
+            int length = Math.min(chunk.length, size - base);
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(element, chunk[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Если список не содержит элемента, он не изменяется.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        fastRemove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет элемент с указанным индексом без проверки индекса.
+     * Последующие элементы сдвигаются на одну позицию к началу, первый элемент каждого чанка
+     * переносится в конец предыдущего. Освободившиеся чанки не удаляются и используются при следующем росте.
+     *
+     * @param index индекс удаляемого элемента.
+     */
+    private void fastRemove(int index) {
+        modCount++;
+        int last = size - 1;
+        int lastChunk = last >>> chunkShift;
+        int lastOffset = last & chunkMask;
+        int firstChunk = index >>> chunkShift;
+        int firstOffset = index & chunkMask;
+        Object[] chunk = chunks[firstChunk];
+        int end = firstChunk == lastChunk ? lastOffset : chunkMask;
+        System.arraycopy(chunk, firstOffset + 1, chunk, firstOffset, end - firstOffset);
+        for (int c = firstChunk + 1; c <= lastChunk; c++) {
+            Object[] next = chunks[c];
+            chunk[chunkMask] = next[0];
+            end = c == lastChunk ? lastOffset : chunkMask;
+            System.arraycopy(next, 1, next, 0, end);
+            chunk = next;
+        }
+        chunks[lastChunk][lastOffset] = null;
+        size = last;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Все чанки освобождаются, справочник возвращается к исходной длине.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        chunks = new Object[DEFAULT_DIRECTORY_LENGTH][];
+        chunkCount = 0;
+        size = 0;
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        Object[] chunk = chunks[index >>> chunkShift];
+        E oldValue = (E) chunk[index & chunkMask];
+        chunk[index & chunkMask] = element;
+        return oldValue;
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка объектов
+     * в соответствии с указанным Comparator'ом интроспективной сортировкой, как MyArrayList.
+     * Диапазон, лежащий в одном чанке, сортируется на месте, иначе через временный массив размером с диапазон.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        sortRange(fromIndex, toIndex, comparator, false);
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка объектов в порядке возрастания
+     * в соответствии с естественным порядком его элементов интроспективной сортировкой, как MyArrayList.
+     * Диапазон, лежащий в одном чанке, сортируется на месте, иначе через временный массив размером с диапазон.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ClassCastException             если массив содержит элементы,
+     *                                        которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        sortRange(fromIndex, toIndex, Sorting.NATURAL_ORDER, false);
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон этого списка объектов в соответствии с указанным Comparator'ом.
+     * Диапазон копируется во временный массив по чанкам, а не поэлементно методами get и set.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        modCount++;
+        sortRange(fromIndex, toIndex, comparator, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortRange(int fromIndex, int toIndex, Comparator<? super E> comparator, boolean stable) {
+        E[] sortArr;
+        int low;
+        int high;
+        boolean inPlace = fromIndex >>> chunkShift == toIndex >>> chunkShift;
+        if (inPlace) {
+            sortArr = (E[]) chunks[fromIndex >>> chunkShift];
+            low = fromIndex & chunkMask;
+            high = toIndex & chunkMask;
+        } else {
+            sortArr = (E[]) new Object[toIndex - fromIndex + 1];
+            copyRange(fromIndex, sortArr, true);
+            low = 0;
+            high = sortArr.length - 1;
+        }
+        if (stable) {
+            RunMergeSort.sort(sortArr, low, high, comparator);
+        } else {
+            Sorting.introSort(sortArr, low, high, comparator);
+        }
+        if (!inPlace) {
+            copyRange(fromIndex, sortArr, false);
+        }
+    }
+
+    /**
+     * Копирует элементы между списком, начиная с индекса fromIndex, и массивом целыми частями чанков.
+     *
+     * @param fromIndex индекс первого копируемого элемента списка.
+     * @param array     массив, длина которого задает количество элементов.
+     * @param toArray   true - копировать из списка в массив, false - из массива в список.
+     */
+    private void copyRange(int fromIndex, Object[] array, boolean toArray) {
+        int copied = 0;
+        int index = fromIndex;
+        while (copied < array.length) {
+            Object[] chunk = chunks[index >>> chunkShift];
+            int offset = index & chunkMask;
+            int length = Math.min(chunk.length - offset, array.length - copied);
+            if (toArray) {
+                System.arraycopy(chunk, offset, array, copied, length);
+            } else {
+                System.arraycopy(array, copied, chunk, offset, length);
+            }
+            copied += length;
+            index += length;
+        }
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам этого списка в порядке их расположения.
+     * Итератор поддерживает удаление последнего возвращенного элемента.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в порядке их расположения.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        int length = size;
+        for (int c = 0, base = 0; c < chunkCount && base < length; base = ++c << chunkShift) {
+            Object[] chunk = chunks[c];
+            int end = Math.min(chunk.length, length - base);
+            for (int i = 0; i < end && modCount == expectedModCount; i++) {
+                action.accept((E) chunk[i]);
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            lastReturned = i;
+            return (E) chunks[i >>> chunkShift][i & chunkMask];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            fastRemove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки ChunkedMyArrayList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        ChunkedMyArrayList<?> that = (ChunkedMyArrayList<?>) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < size; i++) {
+            if (i < size - 1) {
+                stringBuilder.append(get(i)).append(", ");
+            } else {
+                stringBuilder.append(get(i));
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,608 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Реализация интерфейса MyList на кольцевом буфере.
+ * Элементы хранятся в массиве, начиная с позиции head, и при достижении конца массива продолжаются с его начала,
+ * поэтому добавление и удаление как в конце, так и в начале списка выполняются за амортизированное время O(1),
+ * а get(int) и set остаются O(1).
+ * <p>
+ * Вставка и удаление по индексу сдвигают ту часть списка, которая короче: элементы перед индексом
+ * или элементы после него, поэтому вставка в начало не сдвигает весь массив, как в MyArrayList.
+ * При расширении элементы копируются в новый массив по порядку, начиная с нулевой позиции.
+ * Разрешает все элементы, включая null значения. Не является потокобезопасным.
+ * Итераторы этого списка являются fail-fast.
+ *
+ * @author Sharychenkov Eugene
+ */
+public class CircularMyArrayList<E> implements MyList<E> {
+
+    private Object[] elements;
+    private int head;
+    private int size;
+    private int modCount;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Создает пустой список с начальной емкостью равной десяти.
+     */
+    public CircularMyArrayList() {
+        elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна
+     */
+    public CircularMyArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("InitialCapacity can't be negative. Your value: " + initialCapacity);
+        }
+        elements = new Object[initialCapacity];
+    }
+
+    /**
+     * Возвращает позицию в массиве для указанного индекса списка.
+     * Сумма может переполнить int, но после вычитания длины массива результат все равно верен.
+     */
+    private int physical(int index) {
+        int i = head + index;
+        if (i < 0 || i >= elements.length) {
+            i -= elements.length;
+        }
+        return i;
+    }
+
+    private int next(int i) {
+        return ++i == elements.length ? 0 : i;
+    }
+
+    private int previous(int i) {
+        return i == 0 ? elements.length - 1 : i - 1;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    @Override
+    public void add(E element) {
+        addLast(element);
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка за амортизированное время O(1).
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public void addLast(E element) {
+        checkCapacity(size);
+        modCount++;
+        elements[physical(size)] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет указанный элемент в начало этого списка за амортизированное время O(1).
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public void addFirst(E element) {
+        checkCapacity(size);
+        modCount++;
+        head = previous(head);
+        elements[head] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     * Сдвигает на одну позицию более короткую часть списка: элементы перед индексом или начиная с него.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        checkCapacity(size);
+        modCount++;
+        if (index < size >> 1) {
+            //сдвигаем элементы перед индексом на одну позицию к началу
+            head = previous(head);
+            int dst = head;
+            for (int i = 0; i < index; i++) {
+                int src = next(dst);
+                elements[dst] = elements[src];
+                dst = src;
+            }
+            elements[dst] = element;
+        } else {
+            //сдвигаем элементы начиная с индекса на одну позицию к концу
+            int dst = physical(size);
+            for (int i = size; i > index; i--) {
+                int src = previous(dst);
+                elements[dst] = elements[src];
+                dst = src;
+            }
+            elements[dst] = element;
+        }
+        size++;
+    }
+
+    /**
+     * Проверяет возможность добавить новый элемент в этот список.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void checkCapacity(int minCapacity) {
+        long checkSize = minCapacity;
+        if (checkSize + 1 > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+        if (minCapacity == elements.length) {
+            increasedCapacity(minCapacity + 1);
+        }
+    }
+
+    /**
+     * Увеличивает емкость в полтора раза, но не меньше чем до minCapacity,
+     * и переносит элементы в новый массив по порядку, начиная с нулевой позиции.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void increasedCapacity(int minCapacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        elements = copyInOrder(newCapacity);
+        head = 0;
+    }
+
+    /**
+     * Копирует элементы списка в новый массив указанной длины, начиная с нулевой позиции.
+     */
+    private Object[] copyInOrder(int capacity) {
+        Object[] copy = new Object[capacity];
+        int firstPart = Math.min(size, elements.length - head);
+        System.arraycopy(elements, head, copy, 0, firstPart);
+        System.arraycopy(elements, 0, copy, firstPart, size - firstPart);
+        return copy;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[physical(index)];
+    }
+
+    /**
+     * Возвращает первый элемент этого списка.
+     *
+     * @return первый элемент этого списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E getFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) elements[head];
+    }
+
+    /**
+     * Возвращает последний элемент этого списка.
+     *
+     * @return последний элемент этого списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    @SuppressWarnings("unchecked")
+    public E getLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return (E) elements[physical(size - 1)];
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    private int indexOf(Object element) {
+        int i = head;
+        for (int index = 0; index < size; index++) {
+            if (Objects.equals(element, elements[i])) {
+                return index;
+            }
+            i = next(i);
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Если список не содержит элемента, он не изменяется.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        fastRemove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет и возвращает первый элемент этого списка за время O(1).
+     *
+     * @return удаленный элемент.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public E removeFirst() {
+        E element = getFirst();
+        modCount++;
+        elements[head] = null;
+        head = next(head);
+        size--;
+        return element;
+    }
+
+    /**
+     * Удаляет и возвращает последний элемент этого списка за время O(1).
+     *
+     * @return удаленный элемент.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public E removeLast() {
+        E element = getLast();
+        modCount++;
+        elements[physical(size - 1)] = null;
+        size--;
+        return element;
+    }
+
+    /**
+     * Удаляет элемент с указанным индексом без проверки индекса,
+     * сдвигая на одну позицию более короткую часть списка.
+     *
+     * @param index индекс удаляемого элемента.
+     */
+    private void fastRemove(int index) {
+        modCount++;
+        if (index < size >> 1) {
+            //сдвигаем элементы перед индексом на одну позицию к концу
+            int dst = physical(index);
+            for (int i = index; i > 0; i--) {
+                int src = previous(dst);
+                elements[dst] = elements[src];
+                dst = src;
+            }
+            elements[head] = null;
+            head = next(head);
+        } else {
+            //сдвигаем элементы после индекса на одну позицию к началу
+            int dst = physical(index);
+            for (int i = index + 1; i < size; i++) {
+                int src = next(dst);
+                elements[dst] = elements[src];
+                dst = src;
+            }
+            elements[dst] = null;
+        }
+        size--;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Список будет пуст и будет иметь емкость равной десяти, после возврата этого вызова.
+     */
+    @Override
+    public void clear() {
+        modCount++;
+        elements = new Object[DEFAULT_CAPACITY];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        Objects.checkIndex(index, size);
+        int i = physical(index);
+        E oldValue = (E) elements[i];
+        elements[i] = element;
+        return oldValue;
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает позицию в массиве начала указанного диапазона, предварительно расположив диапазон
+     * в массиве непрерывно: если диапазон переходит через конец массива, элементы переносятся
+     * в массив той же длины по порядку, начиная с нулевой позиции.
+     */
+    private int contiguousRange(int fromIndex, int toIndex) {
+        if (physical(fromIndex) > physical(toIndex)) {
+            elements = copyInOrder(elements.length);
+            head = 0;
+        }
+        return physical(fromIndex);
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка объектов
+     * в соответствии с указанным Comparator'ом интроспективной сортировкой, как MyArrayList.
+     * Если диапазон переходит через конец массива, элементы списка предварительно располагаются по порядку.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        int low = contiguousRange(fromIndex, toIndex);
+        Sorting.introSort((E[]) elements, low, low + toIndex - fromIndex, comparator);
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка объектов в порядке возрастания
+     * в соответствии с естественным порядком его элементов интроспективной сортировкой, как MyArrayList.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ClassCastException             если массив содержит элементы,
+     *                                        которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        modCount++;
+        int low = contiguousRange(fromIndex, toIndex);
+        Sorting.introSort((E[]) elements, low, low + toIndex - fromIndex, Sorting.NATURAL_ORDER);
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон этого списка объектов в соответствии с указанным Comparator'ом
+     * непосредственно в массиве, без копирования диапазона методами get и set.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        modCount++;
+        int low = contiguousRange(fromIndex, toIndex);
+        RunMergeSort.sort((E[]) elements, low, low + toIndex - fromIndex, comparator);
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам этого списка в порядке их расположения.
+     * Итератор поддерживает удаление последнего возвращенного элемента.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr();
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в порядке их расположения.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] es = elements;
+        int i = head;
+        for (int index = 0; modCount == expectedModCount && index < size; index++) {
+            action.accept((E) es[i]);
+            if (++i == es.length) {
+                i = 0;
+            }
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return (E) elements[physical(lastReturned = i)];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            fastRemove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки CircularMyArrayList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        CircularMyArrayList<?> that = (CircularMyArrayList<?>) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(elements[physical(i)], that.elements[that.physical(i)])) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(elements[physical(i)]);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < size; i++) {
+            if (i < size - 1) {
+                stringBuilder.append(elements[physical(i)]).append(", ");
+            } else {
+                stringBuilder.append(elements[physical(i)]);
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
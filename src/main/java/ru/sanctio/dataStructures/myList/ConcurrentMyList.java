@@ -0,0 +1,601 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Потокобезопасная реализация интерфейса MyList для сценариев с частым добавлением в конец и частым чтением.
+ * <p>
+ * Элементы хранятся в сегментах, размер каждого следующего сегмента вдвое больше предыдущего,
+ * поэтому при росте списка существующие элементы никогда не копируются, а справочник сегментов
+ * имеет фиксированный размер. Добавление в конец резервирует ячейку атомарным увеличением счетчика,
+ * записывает элемент и публикует его: размер списка увеличивается, как только все ячейки до него записаны.
+ * Потоки, добавляющие элементы, помогают друг другу продвигать опубликованный размер.
+ * Добавление возвращает управление только после публикации своего элемента, поэтому поток сразу видит
+ * его в size() и get(int); если более ранняя ячейка еще не записана, поток ожидает ее записи.
+ * <p>
+ * get(int), size() и get(E) не используют блокировки: get(int) выполняется за конечное число шагов
+ * независимо от других потоков и видит все элементы в пределах опубликованного размера.
+ * Добавление в конец и set захватывают на чтение одну из нескольких блокировок (полосу),
+ * выбранную по потоку, поэтому не мешают друг другу. Структурные изменения - вставка по индексу,
+ * удаление, очистка и сортировка - захватывают все полосы на запись и выполняются монопольно.
+ * Читатели, работающие одновременно со структурным изменением, могут увидеть промежуточное состояние,
+ * например элемент, сдвинутый на соседнюю позицию; итераторы слабо согласованы.
+ * Допускает null значения.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class ConcurrentMyList<E> implements MyList<E> {
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final VarHandle SEGMENT = MethodHandles.arrayElementVarHandle(Object[][].class);
+
+    /**
+     * Замена null элементов в ячейках: пустая ячейка означает, что элемент еще не записан.
+     */
+    private static final Object NULL = new Object();
+
+    private static final int FIRST_SEGMENT_SHIFT = 4;
+    private static final int SEGMENT_COUNT = 32 - FIRST_SEGMENT_SHIFT;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE;
+
+    private final Object[][] segments = new Object[SEGMENT_COUNT][];
+    private final AtomicInteger reserved = new AtomicInteger();
+    private final AtomicInteger published = new AtomicInteger();
+    private final ReentrantReadWriteLock[] stripes;
+    private final int stripeMask;
+
+    /**
+     * Создает пустой список с количеством полос блокировок по числу процессоров.
+     */
+    public ConcurrentMyList() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Создает пустой список с указанным количеством полос блокировок.
+     * Количество округляется вверх до степени двойки и ограничивается 64 полосами.
+     *
+     * @param concurrencyLevel ожидаемое количество потоков, одновременно добавляющих элементы.
+     * @throws IllegalArgumentException если concurrencyLevel меньше единицы.
+     */
+    public ConcurrentMyList(int concurrencyLevel) {
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("ConcurrencyLevel must be positive. Your value: " + concurrencyLevel);
+        }
+        int stripeCount = Integer.highestOneBit(Math.min(concurrencyLevel, 64) * 2 - 1);
+        stripes = new ReentrantReadWriteLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantReadWriteLock();
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    private static int segmentIndex(int index) {
+        return 31 - Integer.numberOfLeadingZeros((index >>> FIRST_SEGMENT_SHIFT) + 1);
+    }
+
+    private static int segmentBase(int segmentIndex) {
+        return ((1 << segmentIndex) - 1) << FIRST_SEGMENT_SHIFT;
+    }
+
+    private static int segmentLength(int segmentIndex) {
+        long length = 1L << (segmentIndex + FIRST_SEGMENT_SHIFT);
+        return (int) Math.min(length, (long) MAX_CAPACITY - segmentBase(segmentIndex));
+    }
+
+    /**
+     * Возвращает сегмент, содержащий указанный индекс, создавая его при необходимости.
+     */
+    private Object[] segmentFor(int index) {
+        int k = segmentIndex(index);
+        Object[] segment = (Object[]) SEGMENT.getVolatile(segments, k);
+        if (segment == null) {
+            Object[] created = new Object[segmentLength(k)];
+            Object witness = SEGMENT.compareAndExchange(segments, k, (Object[]) null, created);
+            segment = witness == null ? created : (Object[]) witness;
+        }
+        return segment;
+    }
+
+    private Object slot(int index) {
+        Object[] segment = (Object[]) SEGMENT.getVolatile(segments, segmentIndex(index));
+        return segment == null ? null : SLOT.getVolatile(segment, index - segmentBase(segmentIndex(index)));
+    }
+
+    private void setSlot(int index, Object value) {
+        Object[] segment = segmentFor(index);
+        SLOT.setVolatile(segment, index - segmentBase(segmentIndex(index)), value);
+    }
+
+    private Lock sharedLock() {
+        return stripes[(int) Thread.currentThread().getId() & stripeMask].readLock();
+    }
+
+    private void lockAll() {
+        for (ReentrantReadWriteLock stripe : stripes) {
+            stripe.writeLock().lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = stripes.length - 1; i >= 0; i--) {
+            stripes[i].writeLock().unlock();
+        }
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     * Не блокирует читателей; возвращает управление, когда элемент учтен в size(),
+     * при необходимости дожидаясь записи ячеек, зарезервированных другими потоками раньше.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    @Override
+    public void add(E element) {
+        Lock lock = sharedLock();
+        lock.lock();
+        try {
+            int index = reserved.getAndIncrement();
+            if (index < 0 || index >= MAX_CAPACITY) {
+                reserved.getAndDecrement();
+                throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+            }
+            setSlot(index, element == null ? NULL : element);
+            publish();
+            while (published.get() <= index) {
+                //более ранняя ячейка зарезервирована, но еще не записана другим потоком
+                Thread.onSpinWait();
+                publish();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Продвигает опубликованный размер через все подряд записанные ячейки.
+     * Поток, записавший ячейку, всегда проверяет ее после своей записи, поэтому последняя
+     * из записанных подряд ячеек обязательно будет опубликована.
+     */
+    private void publish() {
+        int current = published.get();
+        while (current < MAX_CAPACITY && slot(current) != null) {
+            if (published.compareAndSet(current, current + 1)) {
+                current++;
+            } else {
+                current = published.get();
+            }
+        }
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     * Выполняется монопольно, сдвигая все последующие элементы.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        lockAll();
+        try {
+            int size = published.get();
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index +
+                        "out of bounds for length: " + size);
+            }
+            if (size == MAX_CAPACITY) {
+                throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+            }
+            for (int i = size; i > index; i--) {
+                setSlot(i, slot(i - 1));
+            }
+            setSlot(index, element == null ? NULL : element);
+            reserved.set(size + 1);
+            published.set(size + 1);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке. Не использует блокировки.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, published.get());
+        return unwrap(index, slot(index));
+    }
+
+    private E unwrap(int index, Object value) {
+        if (value == null) {
+            //ячейка очищена параллельным удалением
+            throw new IndexOutOfBoundsException("Index: " + index + " was removed concurrently");
+        }
+        return unwrapValue(value);
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Не использует блокировки.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    private int indexOf(Object element) {
+        Object target = element == null ? NULL : element;
+        int size = published.get();
+        for (int i = 0; i < size; i++) {
+            if (target.equals(slot(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Выполняется монопольно, сдвигая все последующие элементы.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        lockAll();
+        try {
+            int index = indexOf(element);
+            if (index < 0) {
+                return false;
+            }
+            int lastIndex = published.get() - 1;
+            for (int i = index; i < lastIndex; i++) {
+                setSlot(i, slot(i + 1));
+            }
+            setSlot(lastIndex, null);
+            reserved.set(lastIndex);
+            published.set(lastIndex);
+            return true;
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Удаляет все элементы из этого списка и освобождает все сегменты.
+     */
+    @Override
+    public void clear() {
+        lockAll();
+        try {
+            for (int i = 0; i < SEGMENT_COUNT; i++) {
+                SEGMENT.setVolatile(segments, i, (Object[]) null);
+            }
+            reserved.set(0);
+            published.set(0);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом.
+     * Не блокирует другие потоки, добавляющие элементы, и читателей.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     */
+    @Override
+    public E set(int index, E element) {
+        Lock lock = sharedLock();
+        lock.lock();
+        try {
+            Objects.checkIndex(index, published.get());
+            Object[] segment = segmentFor(index);
+            Object oldValue = SLOT.getAndSet(segment, index - segmentBase(segmentIndex(index)),
+                    element == null ? NULL : element);
+            return unwrap(index, oldValue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Проверяет количество опубликованных элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return published.get();
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return published.get() == 0;
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в соответствии с указанным Comparator'ом.
+     * Выполняется монопольно: диапазон копируется во временный массив, сортируется
+     * интроспективной сортировкой и записывается обратно.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        lockAll();
+        try {
+            if (fromIndex < 0 || toIndex >= published.get()) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+            sortRange(fromIndex, toIndex, comparator);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в порядке возрастания
+     * в соответствии с естественным порядком его элементов. Выполняется монопольно.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        lockAll();
+        try {
+            if (fromIndex < 0 || toIndex >= published.get()) {
+                throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+            }
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+            sortRange(fromIndex, toIndex, Sorting.NATURAL_ORDER);
+        } finally {
+            unlockAll();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void sortRange(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        E[] range = (E[]) new Object[toIndex - fromIndex + 1];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = unwrap(fromIndex + i, slot(fromIndex + i));
+        }
+        Sorting.introSort(range, 0, range.length - 1, comparator);
+        for (int i = 0; i < range.length; i++) {
+            setSlot(fromIndex + i, range[i] == null ? NULL : range[i]);
+        }
+    }
+
+    /**
+     * Возвращает слабо согласованный итератор по элементам этого списка. Не использует блокировки.
+     * Итератор обходит не больше элементов, чем было опубликовано на момент вызова, и завершается
+     * раньше, если список параллельно уменьшился, не выбрасывая исключений. Не поддерживает удаление.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(published.get());
+    }
+
+    /**
+     * Возвращает слабо согласованный Spliterator по элементам этого списка
+     * с характеристиками ORDERED и CONCURRENT. Граница обхода определяется при первом использовании,
+     * параллельное уменьшение списка завершает обход раньше, не выбрасывая исключений.
+     *
+     * @return Spliterator по элементам этого списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new WeakSpliterator(0, -1);
+    }
+
+    /**
+     * Читает элемент по индексу для слабо согласованного обхода.
+     *
+     * @return ячейку с элементом или null, если индекс вышел за текущий размер списка.
+     */
+    private Object weakSlot(int index) {
+        return index < published.get() ? slot(index) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E unwrapValue(Object value) {
+        return value == NULL ? null : (E) value;
+    }
+
+    private final class Itr implements Iterator<E> {
+        private final int fence;
+        private int cursor;
+        private Object next;
+
+        Itr(int fence) {
+            this.fence = fence;
+            advance();
+        }
+
+        private void advance() {
+            next = cursor < fence ? weakSlot(cursor++) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public E next() {
+            Object value = next;
+            if (value == null) {
+                throw new NoSuchElementException();
+            }
+            advance();
+            return unwrapValue(value);
+        }
+    }
+
+    private final class WeakSpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+
+        WeakSpliterator(int origin, int fence) {
+            this.index = origin;
+            this.fence = fence;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = published.get();
+            }
+            return fence;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int middle = (lo + hi) >>> 1;
+            if (lo >= middle) {
+                return null;
+            }
+            index = middle;
+            return new WeakSpliterator(lo, middle);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            Object value = index < getFence() ? weakSlot(index) : null;
+            if (value == null) {
+                index = getFence();
+                return false;
+            }
+            index++;
+            action.accept(unwrapValue(value));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            while (tryAdvance(action)) {
+                //обход до границы или до параллельного уменьшения списка
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.CONCURRENT;
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки ConcurrentMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        ConcurrentMyList<?> that = (ConcurrentMyList<?>) o;
+        int size = size();
+        if (size != that.size()) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        int size = size();
+        for (int i = 0; i < size; i++) {
+            if (i < size - 1) {
+                stringBuilder.append(get(i)).append(", ");
+            } else {
+                stringBuilder.append(get(i));
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,463 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Потокобезопасная реализация интерфейса MyList, в которой каждое изменение публикует новую копию массива.
+ * <p>
+ * Опубликованный массив никогда не изменяется, поэтому чтение, поиск и обход не используют синхронизацию:
+ * итератор, Spliterator и forEach работают со снимком, сделанным в момент их создания,
+ * никогда не выбрасывают ConcurrentModificationException и не видят последующих изменений.
+ * Изменения выполняются под общей блокировкой и стоят O(n), поэтому список подходит для данных,
+ * которые читаются гораздо чаще, чем изменяются. Несколько изменений можно выполнить методом mutate,
+ * который копирует массив и публикует результат только один раз.
+ * Допускает null значения.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class CopyOnWriteMyList<E> implements MyList<E> {
+
+    private static final Object[] EMPTY = {};
+
+    private final Object lock = new Object();
+    private volatile Object[] array = EMPTY;
+
+    /**
+     * Создает пустой список.
+     */
+    public CopyOnWriteMyList() {
+    }
+
+    /**
+     * Возвращает текущий опубликованный массив элементов.
+     * Возвращенный массив нельзя изменять.
+     */
+    final Object[] getArray() {
+        return array;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка, публикуя новую копию массива.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    @Override
+    public void add(E element) {
+        synchronized (lock) {
+            Object[] es = array;
+            checkCapacity(es.length);
+            Object[] copy = Arrays.copyOf(es, es.length + 1);
+            copy[es.length] = element;
+            array = copy;
+        }
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс, публикуя новую копию массива.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    @Override
+    public void add(int index, E element) {
+        synchronized (lock) {
+            Object[] es = array;
+            if (index < 0 || index > es.length) {
+                throw new IndexOutOfBoundsException("Index: " + index +
+                        "out of bounds for length: " + es.length);
+            }
+            checkCapacity(es.length);
+            Object[] copy = new Object[es.length + 1];
+            System.arraycopy(es, 0, copy, 0, index);
+            System.arraycopy(es, index, copy, index + 1, es.length - index);
+            copy[index] = element;
+            array = copy;
+        }
+    }
+
+    private static void checkCapacity(int currentSize) {
+        long checkSize = currentSize;
+        if (checkSize + 1 > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке без синхронизации.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Object[] es = array;
+        Objects.checkIndex(index, es.length);
+        return (E) es[index];
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(array, element) >= 0 ? element : null;
+    }
+
+    private static int indexOf(Object[] es, Object element) {
+        for (int i = 0; i < es.length; i++) {
+            if (Objects.equals(element, es[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * публикуя новую копию массива. Если список не содержит элемента, он не изменяется и массив не копируется.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        synchronized (lock) {
+            Object[] es = array;
+            int index = indexOf(es, element);
+            if (index < 0) {
+                return false;
+            }
+            Object[] copy = new Object[es.length - 1];
+            System.arraycopy(es, 0, copy, 0, index);
+            System.arraycopy(es, index + 1, copy, index, es.length - index - 1);
+            array = copy;
+            return true;
+        }
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = EMPTY;
+        }
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом, публикуя новую копию массива.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E set(int index, E element) {
+        synchronized (lock) {
+            Object[] es = array;
+            Objects.checkIndex(index, es.length);
+            E oldValue = (E) es[index];
+            Object[] copy = es.clone();
+            copy[index] = element;
+            array = copy;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Сортирует указанный диапазон копии массива интроспективной сортировкой, как MyArrayList,
+     * и публикует отсортированную копию. Читатели видят либо исходный, либо полностью отсортированный список.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        synchronized (lock) {
+            Object[] es = array;
+            if (fromIndex < 0 || toIndex >= es.length) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Object[] copy = es.clone();
+            Sorting.introSort((E[]) copy, fromIndex, toIndex, comparator);
+            array = copy;
+        }
+    }
+
+    /**
+     * Сортирует указанный диапазон копии массива в порядке возрастания
+     * в соответствии с естественным порядком его элементов и публикует отсортированную копию.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ClassCastException             если массив содержит элементы,
+     *                                        которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void sort(int fromIndex, int toIndex) {
+        synchronized (lock) {
+            Object[] es = array;
+            if (fromIndex < 0 || toIndex >= es.length) {
+                throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+            }
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+            if (fromIndex == toIndex) {
+                return;
+            }
+            Object[] copy = es.clone();
+            Sorting.introSort((E[]) copy, fromIndex, toIndex, Sorting.NATURAL_ORDER);
+            array = copy;
+        }
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон копии массива в соответствии с указанным Comparator'ом
+     * и публикует отсортированную копию.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        synchronized (lock) {
+            Object[] es = array;
+            if (fromIndex < 0 || toIndex >= es.length) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+            Object[] copy = es.clone();
+            RunMergeSort.sort((E[]) copy, fromIndex, toIndex, comparator);
+            array = copy;
+        }
+    }
+
+    /**
+     * Применяет функцию ко всем элементам копии массива и публикует копию один раз.
+     * Читатели видят либо исходный, либо полностью преобразованный список.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws NullPointerException если функция равна null.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        synchronized (lock) {
+            Object[] copy = array.clone();
+            BulkTasks.replaceAll(copy, 0, copy.length, operator);
+            array = copy;
+        }
+    }
+
+    /**
+     * Применяет функцию ко всем элементам копии массива в нескольких потоках общего ForkJoinPool
+     * и публикует копию один раз. Другие изменения этого списка ожидают завершения операции.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws NullPointerException если функция равна null.
+     */
+    @Override
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        synchronized (lock) {
+            Object[] copy = array.clone();
+            BulkTasks.replaceAll(copy, 0, copy.length, operator, ParallelSettings.DEFAULT);
+            array = copy;
+        }
+    }
+
+    /**
+     * Выполняет несколько изменений как одно: действие получает изменяемую копию списка,
+     * и после его завершения результат публикуется один раз. Пока действие выполняется,
+     * читатели видят прежнее состояние, а другие изменения этого списка ожидают.
+     * Если действие выбрасывает исключение, список не изменяется.
+     * <p>
+     * Копия действительна только внутри действия; сохранять ссылку на нее нельзя.
+     *
+     * @param batch действие, изменяющее копию списка.
+     * @throws NullPointerException если batch равен null.
+     */
+    @SuppressWarnings("unchecked")
+    public void mutate(Consumer<? super MyList<E>> batch) {
+        Objects.requireNonNull(batch);
+        synchronized (lock) {
+            Object[] es = array;
+            MyArrayList<E> working = new MyArrayList<>(es.length);
+            working.addAll((E[]) es);
+            batch.accept(working);
+            Object[] copy = new Object[working.size()];
+            int i = 0;
+            for (E element : working) {
+                copy[i++] = element;
+            }
+            array = copy;
+        }
+    }
+
+    /**
+     * Возвращает итератор по снимку элементов этого списка на момент вызова.
+     * Итератор не видит последующих изменений списка и не поддерживает удаление.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SnapshotIterator<>(array);
+    }
+
+    /**
+     * Возвращает Spliterator по снимку элементов этого списка на момент вызова
+     * с характеристиками IMMUTABLE, ORDERED, SIZED и SUBSIZED.
+     *
+     * @return Spliterator по элементам этого списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.IMMUTABLE | Spliterator.ORDERED);
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента снимка этого списка на момент вызова.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (Object element : array) {
+            action.accept((E) element);
+        }
+    }
+
+    private static final class SnapshotIterator<E> implements Iterator<E> {
+        private final Object[] snapshot;
+        private int cursor;
+
+        SnapshotIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor < snapshot.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E next() {
+            if (cursor >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+            return (E) snapshot[cursor++];
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки CopyOnWriteMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        CopyOnWriteMyList<?> that = (CopyOnWriteMyList<?>) o;
+        return Arrays.equals(array, that.array);
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(array);
+    }
+
+    /**
+     * Возвращает строковое представление снимка этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        Object[] es = array;
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < es.length; i++) {
+            if (i < es.length - 1) {
+                stringBuilder.append(es[i]).append(", ");
+            } else {
+                stringBuilder.append(es[i]);
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
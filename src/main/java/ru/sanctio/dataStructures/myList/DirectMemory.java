@@ -0,0 +1,64 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Выделение и явное освобождение памяти вне кучи Java.
+ * Память прямых буферов обычно освобождается только после сборки мусора,
+ * поэтому для немедленного освобождения используется Unsafe.invokeCleaner из модуля jdk.unsupported.
+ * Метод находится через отражение, чтобы библиотека не зависела от внутреннего API при компиляции.
+ * Если метод недоступен, освобождение откладывается до сборки мусора.
+ */
+final class DirectMemory {
+
+    private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+    private DirectMemory() {
+    }
+
+    private static MethodHandle findInvokeCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            return MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Выделяет прямой буфер указанного размера с порядком байтов платформы.
+     *
+     * @param bytes размер буфера в байтах.
+     * @return новый прямой буфер, заполненный нулями.
+     */
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+    }
+
+    /**
+     * Освобождает память прямого буфера. После вызова буфер нельзя использовать.
+     *
+     * @param buffer прямой буфер, полученный из allocate, или null.
+     */
+    static void free(ByteBuffer buffer) {
+        if (buffer == null || INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invokeExact(buffer);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Can't free direct buffer", e);
+        }
+    }
+}
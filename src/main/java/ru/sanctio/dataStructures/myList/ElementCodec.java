@@ -0,0 +1,100 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Кодек элементов фиксированного размера.
+ * Преобразует элемент в последовательность байтов фиксированной длины и обратно,
+ * что позволяет хранить элементы вне кучи Java или в файле.
+ * Кодек не должен изменять позицию и границу переданного буфера, используя только абсолютные операции.
+ *
+ * @param <E> тип кодируемых элементов.
+ */
+public interface ElementCodec<E> {
+
+    /**
+     * Кодек значений Integer, занимающий четыре байта.
+     */
+    ElementCodec<Integer> INT = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Integer.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Integer element) {
+            buffer.putInt(offset, element);
+        }
+
+        @Override
+        public Integer read(ByteBuffer buffer, int offset) {
+            return buffer.getInt(offset);
+        }
+    };
+
+    /**
+     * Кодек значений Long, занимающий восемь байт.
+     */
+    ElementCodec<Long> LONG = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Long element) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /**
+     * Кодек значений Double, занимающий восемь байт.
+     */
+    ElementCodec<Double> DOUBLE = new ElementCodec<>() {
+        @Override
+        public int size() {
+            return Double.BYTES;
+        }
+
+        @Override
+        public void write(ByteBuffer buffer, int offset, Double element) {
+            buffer.putDouble(offset, element);
+        }
+
+        @Override
+        public Double read(ByteBuffer buffer, int offset) {
+            return buffer.getDouble(offset);
+        }
+    };
+
+    /**
+     * Возвращает размер закодированного элемента в байтах.
+     *
+     * @return размер элемента в байтах, больше нуля.
+     */
+    int size();
+
+    /**
+     * Записывает элемент в буфер, начиная с указанного смещения.
+     *
+     * @param buffer  буфер для записи.
+     * @param offset  смещение в байтах от начала буфера.
+     * @param element записываемый элемент.
+     * @throws NullPointerException если кодек не поддерживает null элементы.
+     */
+    void write(ByteBuffer buffer, int offset, E element);
+
+    /**
+     * Читает элемент из буфера, начиная с указанного смещения.
+     *
+     * @param buffer буфер для чтения.
+     * @param offset смещение в байтах от начала буфера.
+     * @return прочитанный элемент.
+     */
+    E read(ByteBuffer buffer, int offset);
+}
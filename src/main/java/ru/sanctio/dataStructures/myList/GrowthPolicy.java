@@ -0,0 +1,79 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.io.Serializable;
+
+/**
+ * Стратегия увеличения емкости массива MyArrayList.
+ * Список вызывает стратегию, когда очередной элемент не помещается в массив, и выделяет массив
+ * не меньше запрошенной минимальной емкости, даже если стратегия вернула меньшее значение.
+ * <p>
+ * Стратегия сериализуется вместе со списком, поэтому лямбда-выражение, приведенное к GrowthPolicy,
+ * должно захватывать только сериализуемые значения.
+ *
+ * @author Sharychenkov Eugene
+ */
+@FunctionalInterface
+public interface GrowthPolicy extends Serializable {
+
+    /**
+     * Стратегия по умолчанию: емкость увеличивается в полтора раза.
+     */
+    GrowthPolicy DEFAULT = exponential(1.5);
+
+    /**
+     * Вычисляет новую емкость массива.
+     *
+     * @param oldCapacity текущая емкость.
+     * @param minCapacity необходимая минимальная емкость, всегда больше текущей.
+     * @return новая емкость; значения меньше minCapacity заменяются на minCapacity.
+     */
+    int newCapacity(int oldCapacity, int minCapacity);
+
+    /**
+     * Возвращает стратегию, умножающую емкость на указанный коэффициент.
+     * Большой коэффициент уменьшает количество копирований, малый - неиспользуемую память.
+     *
+     * @param factor коэффициент роста.
+     * @return стратегия экспоненциального роста.
+     * @throws IllegalArgumentException если коэффициент не больше единицы.
+     */
+    static GrowthPolicy exponential(double factor) {
+        if (!(factor > 1)) {
+            throw new IllegalArgumentException("Growth factor must be greater than 1. Your value: " + factor);
+        }
+        return (oldCapacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE, (long) (oldCapacity * factor));
+    }
+
+    /**
+     * Возвращает стратегию, увеличивающую емкость на фиксированное количество элементов.
+     * Неиспользуемая память ограничена приращением, но при постоянном добавлении
+     * суммарное время копирования растет квадратично.
+     *
+     * @param increment приращение емкости.
+     * @return стратегия линейного роста.
+     * @throws IllegalArgumentException если приращение не положительно.
+     */
+    static GrowthPolicy fixedIncrement(int increment) {
+        if (increment <= 0) {
+            throw new IllegalArgumentException("Increment must be positive. Your value: " + increment);
+        }
+        return (oldCapacity, minCapacity) -> (int) Math.min(Integer.MAX_VALUE, (long) oldCapacity + increment);
+    }
+
+    /**
+     * Возвращает стратегию, которая растет как эта, но не больше чем на указанное количество элементов за раз.
+     * Например, exponential(2).capped(1 << 20) удваивает небольшие массивы, а большие увеличивает
+     * не больше чем на миллион элементов.
+     *
+     * @param maxIncrement наибольшее приращение емкости.
+     * @return ограниченная стратегия.
+     * @throws IllegalArgumentException если приращение не положительно.
+     */
+    default GrowthPolicy capped(int maxIncrement) {
+        if (maxIncrement <= 0) {
+            throw new IllegalArgumentException("Increment must be positive. Your value: " + maxIncrement);
+        }
+        return (oldCapacity, minCapacity) -> (int) Math.min(newCapacity(oldCapacity, minCapacity),
+                (long) oldCapacity + maxIncrement);
+    }
+}
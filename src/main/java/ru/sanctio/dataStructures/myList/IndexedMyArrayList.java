@@ -0,0 +1,216 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * Реализация MyArrayList с хэш-индексом элементов для быстрого поиска.
+ * Вместе с массивом элементов поддерживается HashMap, в которой каждому различному элементу
+ * сопоставлено количество его вхождений в список. Индекс обновляется при каждом изменении списка:
+ * add, add(int, E), set, remove, clear, массовых операциях и изменениях через итераторы.
+ * Сортировка не меняет набор элементов, поэтому индекс при сортировке не обновляется.
+ * <p>
+ * Благодаря индексу get(E) и contains выполняются за время O(1), а remove(E) отсутствующего элемента
+ * возвращает false без просмотра массива. Удаление присутствующего элемента по-прежнему требует
+ * поиска его позиции и сдвига массива, то есть O(n), как и в MyArrayList.
+ * Позиции элементов в индексе не хранятся: любая вставка или удаление сдвигает позиции всех последующих
+ * элементов, и поддержка позиций стоила бы O(n) обновлений индекса на каждую операцию.
+ * <p>
+ * За скорость поиска приходится платить памятью: индекс занимает дополнительно около 40-50 байт
+ * на каждый различный элемент (узел HashMap и место в его таблице), а элементы должны корректно
+ * реализовывать hashCode и equals и не изменяться, пока находятся в списке.
+ * Не является потокобезопасным.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class IndexedMyArrayList<E> extends MyArrayList<E> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Object, Integer> occurrences;
+
+    /**
+     * Создает пустой список с начальной емкостью равной десяти.
+     */
+    public IndexedMyArrayList() {
+        super();
+        occurrences = new HashMap<>();
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна
+     */
+    public IndexedMyArrayList(int initialCapacity) {
+        super(initialCapacity);
+        occurrences = new HashMap<>();
+    }
+
+    @Override
+    public void add(E element) {
+        super.add(element);
+        increment(element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        super.add(index, element);
+        increment(element);
+    }
+
+    @Override
+    public boolean addAll(MyList<? extends E> list) {
+        int from = size();
+        boolean modified = super.addAll(list);
+        indexRange(from);
+        return modified;
+    }
+
+    @Override
+    public boolean addAll(E[] array) {
+        int from = size();
+        boolean modified = super.addAll(array);
+        indexRange(from);
+        return modified;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        int from = size();
+        boolean modified = super.addAll(collection);
+        indexRange(from);
+        return modified;
+    }
+
+    private void indexRange(int from) {
+        for (int i = from; i < size(); i++) {
+            increment(get(i));
+        }
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Поиск выполняется по индексу за время O(1).
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return occurrences.containsKey(element) ? element : null;
+    }
+
+    /**
+     * Проверяет наличие указанного элемента в этом списке за время O(1).
+     *
+     * @param element элемент, наличие которого проверяется, может быть null.
+     * @return true, если этот список содержит указанный элемент.
+     */
+    public boolean contains(Object element) {
+        return occurrences.containsKey(element);
+    }
+
+    /**
+     * Возвращает количество вхождений указанного элемента в этот список за время O(1).
+     *
+     * @param element элемент, вхождения которого подсчитываются, может быть null.
+     * @return количество вхождений элемента.
+     */
+    public int occurrences(Object element) {
+        return occurrences.getOrDefault(element, 0);
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Отсутствие элемента определяется по индексу без просмотра массива.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        if (!occurrences.containsKey(element)) {
+            return false;
+        }
+        return super.remove(element);
+    }
+
+    @Override
+    void fastRemove(int i) {
+        E removed = get(i);
+        super.fastRemove(i);
+        decrement(removed);
+    }
+
+    @Override
+    void removeRange(int fromIndex, int toIndex) {
+        for (int i = fromIndex; i < toIndex; i++) {
+            decrement(get(i));
+        }
+        super.removeRange(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        return super.removeIf(element -> {
+            if (filter.test(element)) {
+                decrement(element);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    @Override
+    public void clear(boolean retainCapacity) {
+        super.clear(retainCapacity);
+        occurrences.clear();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        E oldValue = super.set(index, element);
+        decrement(oldValue);
+        increment(element);
+        return oldValue;
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        super.replaceAll(operator);
+        rebuildIndex();
+    }
+
+    @Override
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        super.parallelReplaceAll(operator);
+        rebuildIndex();
+    }
+
+    /**
+     * Пересчитывает индекс по всем элементам списка. Используется после массовой замены элементов,
+     * когда пересчет дешевле, чем обновление индекса для каждой замены.
+     */
+    private void rebuildIndex() {
+        occurrences.clear();
+        for (E element : this) {
+            increment(element);
+        }
+    }
+
+    private void increment(Object element) {
+        occurrences.merge(element, 1, Integer::sum);
+    }
+
+    private void decrement(Object element) {
+        occurrences.computeIfPresent(element, (key, count) -> count == 1 ? null : count - 1);
+    }
+}
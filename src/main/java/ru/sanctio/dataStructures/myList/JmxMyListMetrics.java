@@ -0,0 +1,216 @@
+package ru.sanctio.dataStructures.myList;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Получатель метрик, накапливающий счетчики и гистограммы и публикующий их через JMX.
+ * <p>
+ * Счетчики построены на LongAdder, поэтому один получатель можно подключить к нескольким спискам,
+ * используемым из разных потоков. Объем скопированной памяти вычисляется как количество ячеек массива,
+ * умноженное на размер ссылки в текущей JVM. Длины поисков и продолжительности сортировок
+ * учитываются в гистограммах с корзинами по степеням двойки.
+ * <p>
+ * Получатель публикуется в платформенном MBeanServer методом register и снимается методом unregister:
+ * <pre>{@code
+ * JmxMyListMetrics metrics = new JmxMyListMetrics();
+ * metrics.register("orders");
+ * list.setMetrics(metrics);
+ * }</pre>
+ *
+ * @author Sharychenkov Eugene
+ */
+public class JmxMyListMetrics implements MyListMetrics, JmxMyListMetricsMBean {
+
+    /**
+     * Домен имен, под которыми регистрируются получатели.
+     */
+    public static final String DOMAIN = "ru.sanctio.dataStructures.myList";
+
+    private static final int REFERENCE_SIZE = referenceSize();
+
+    private final LongAdder resizeCount = new LongAdder();
+    private final LongAdder resizeCopiedElements = new LongAdder();
+    private final LongAdder shiftCount = new LongAdder();
+    private final LongAdder shiftedElements = new LongAdder();
+    private final LongAdder scanCount = new LongAdder();
+    private final LongAdder scanMissCount = new LongAdder();
+    private final LongAdder scannedElements = new LongAdder();
+    private final Log2Histogram scanLengths = new Log2Histogram();
+    private final LongAdder sortCount = new LongAdder();
+    private final LongAdder sortedElements = new LongAdder();
+    private final LongAdder sortNanos = new LongAdder();
+    private final Log2Histogram sortLatencies = new Log2Histogram();
+    private ObjectName objectName;
+
+    /**
+     * Определяет размер ссылки в массиве объектов: 4 байта при сжатых указателях (UseCompressedOops), иначе 8.
+     * Если параметр JVM недоступен, например вне HotSpot, предполагаются несжатые 8-байтовые ссылки.
+     */
+    private static int referenceSize() {
+        try {
+            HotSpotDiagnosticMXBean diagnostic = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            if (diagnostic != null && Boolean.parseBoolean(diagnostic.getVMOption("UseCompressedOops").getValue())) {
+                return 4;
+            }
+        } catch (RuntimeException | LinkageError e) {
+            //параметр неизвестен этой JVM или модуль jdk.management отсутствует
+        }
+        return 8;
+    }
+
+    @Override
+    public void resized(int oldCapacity, int newCapacity, int copiedElements) {
+        resizeCount.increment();
+        resizeCopiedElements.add(copiedElements);
+    }
+
+    @Override
+    public void shifted(int shiftedElements) {
+        shiftCount.increment();
+        this.shiftedElements.add(shiftedElements);
+    }
+
+    @Override
+    public void scanned(int scannedElements, boolean found) {
+        scanCount.increment();
+        if (!found) {
+            scanMissCount.increment();
+        }
+        this.scannedElements.add(scannedElements);
+        scanLengths.record(scannedElements);
+    }
+
+    @Override
+    public void sorted(int length, long nanos) {
+        sortCount.increment();
+        sortedElements.add(length);
+        sortNanos.add(nanos);
+        sortLatencies.record(nanos);
+    }
+
+    /**
+     * Регистрирует этот получатель в платформенном MBeanServer под именем
+     * {@code ru.sanctio.dataStructures.myList:type=MyListMetrics,name=<name>}.
+     *
+     * @param name имя, отличающее этот получатель от других.
+     * @return имя, под которым получатель зарегистрирован.
+     * @throws IllegalStateException если получатель уже зарегистрирован или регистрация не удалась.
+     */
+    public synchronized ObjectName register(String name) {
+        Objects.requireNonNull(name);
+        if (objectName != null) {
+            throw new IllegalStateException("Metrics are already registered as " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName(DOMAIN + ":type=MyListMetrics,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't register metrics " + name, e);
+        }
+    }
+
+    /**
+     * Снимает регистрацию этого получателя в платформенном MBeanServer.
+     * Если получатель не зарегистрирован, ничего не делает.
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Can't unregister metrics " + objectName, e);
+        } finally {
+            objectName = null;
+        }
+    }
+
+    @Override
+    public long getResizeCount() {
+        return resizeCount.sum();
+    }
+
+    @Override
+    public long getResizeCopiedBytes() {
+        return resizeCopiedElements.sum() * REFERENCE_SIZE;
+    }
+
+    @Override
+    public long getShiftCount() {
+        return shiftCount.sum();
+    }
+
+    @Override
+    public long getShiftedBytes() {
+        return shiftedElements.sum() * REFERENCE_SIZE;
+    }
+
+    @Override
+    public long getScanCount() {
+        return scanCount.sum();
+    }
+
+    @Override
+    public long getScanMissCount() {
+        return scanMissCount.sum();
+    }
+
+    @Override
+    public long getScannedElements() {
+        return scannedElements.sum();
+    }
+
+    @Override
+    public long[] getScanLengthHistogram() {
+        return scanLengths.snapshot();
+    }
+
+    @Override
+    public long getSortCount() {
+        return sortCount.sum();
+    }
+
+    @Override
+    public long getSortedElements() {
+        return sortedElements.sum();
+    }
+
+    @Override
+    public long getSortNanos() {
+        return sortNanos.sum();
+    }
+
+    @Override
+    public long[] getSortLatencyHistogram() {
+        return sortLatencies.snapshot();
+    }
+
+    @Override
+    public void reset() {
+        resizeCount.reset();
+        resizeCopiedElements.reset();
+        shiftCount.reset();
+        shiftedElements.reset();
+        scanCount.reset();
+        scanMissCount.reset();
+        scannedElements.reset();
+        scanLengths.reset();
+        sortCount.reset();
+        sortedElements.reset();
+        sortNanos.reset();
+        sortLatencies.reset();
+    }
+}
@@ -0,0 +1,76 @@
+package ru.sanctio.dataStructures.myList;
+
+/**
+ * Интерфейс управления JmxMyListMetrics, публикуемый через JMX.
+ * Гистограммы возвращаются массивами счетчиков по корзинам степеней двойки:
+ * элемент 0 содержит значение 0, элемент i > 0 содержит значения из диапазона [2^(i-1), 2^i).
+ *
+ * @author Sharychenkov Eugene
+ */
+public interface JmxMyListMetricsMBean {
+
+    /**
+     * @return количество расширений массива.
+     */
+    long getResizeCount();
+
+    /**
+     * @return количество байт, скопированных при расширениях массива.
+     */
+    long getResizeCopiedBytes();
+
+    /**
+     * @return количество сдвигов элементов при вставке и удалении по индексу.
+     */
+    long getShiftCount();
+
+    /**
+     * @return количество байт, перемещенных при сдвигах элементов.
+     */
+    long getShiftedBytes();
+
+    /**
+     * @return количество линейных поисков.
+     */
+    long getScanCount();
+
+    /**
+     * @return количество линейных поисков, не нашедших элемент.
+     */
+    long getScanMissCount();
+
+    /**
+     * @return суммарное количество элементов, просмотренных линейными поисками.
+     */
+    long getScannedElements();
+
+    /**
+     * @return гистограмма длин линейных поисков в элементах.
+     */
+    long[] getScanLengthHistogram();
+
+    /**
+     * @return количество сортировок.
+     */
+    long getSortCount();
+
+    /**
+     * @return суммарное количество отсортированных элементов.
+     */
+    long getSortedElements();
+
+    /**
+     * @return суммарная продолжительность сортировок в наносекундах.
+     */
+    long getSortNanos();
+
+    /**
+     * @return гистограмма продолжительности сортировок в наносекундах.
+     */
+    long[] getSortLatencyHistogram();
+
+    /**
+     * Обнуляет все счетчики и гистограммы.
+     */
+    void reset();
+}
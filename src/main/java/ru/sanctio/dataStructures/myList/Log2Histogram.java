@@ -0,0 +1,51 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Потокобезопасная гистограмма неотрицательных значений с корзинами по степеням двойки.
+ * Корзина 0 содержит значение 0, корзина i > 0 содержит значения из диапазона [2^(i-1), 2^i).
+ * Запись значения выполняет одно атомарное увеличение счетчика и не выделяет память.
+ */
+final class Log2Histogram {
+
+    static final int BUCKETS = Long.SIZE + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Учитывает значение в гистограмме. Отрицательные значения учитываются в корзине 0.
+     *
+     * @param value учитываемое значение.
+     */
+    void record(long value) {
+        counts.incrementAndGet(bucket(value));
+    }
+
+    static int bucket(long value) {
+        return value <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(value);
+    }
+
+    /**
+     * Возвращает количество значений в каждой корзине. Массив обрезан после последней непустой корзины.
+     *
+     * @return копия счетчиков корзин.
+     */
+    long[] snapshot() {
+        int length = BUCKETS;
+        while (length > 0 && counts.get(length - 1) == 0) {
+            length--;
+        }
+        long[] result = new long[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = counts.get(i);
+        }
+        return result;
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+    }
+}
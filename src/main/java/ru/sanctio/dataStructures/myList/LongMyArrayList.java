@@ -0,0 +1,489 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+
+/**
+ * Реализация интерфейса MyList для значений long с изменяемым размером массива.
+ * Элементы хранятся в массиве long[] без упаковки, поэтому каждый элемент занимает восемь байт,
+ * а обход и сортировка работают с непрерывной областью памяти.
+ * Помимо методов MyList предоставляет их неупакованные варианты: add(long), getLong(int), indexOf(long).
+ * Поиск, подсчет, min, max и sum выполняются PrimitiveKernels и используют Vector API,
+ * если JVM запущена с модулем jdk.incubator.vector.
+ * Не допускает null значений. Не является потокобезопасным.
+ *
+ * @author Sharychenkov Eugene
+ */
+public class LongMyArrayList implements MyList<Long> {
+
+    private long[] elements;
+    private int size;
+    private static final int DEFAULT_CAPACITY = 10;
+
+    /**
+     * Создает пустой список с начальной емкостью равной десяти.
+     */
+    public LongMyArrayList() {
+        elements = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна
+     */
+    public LongMyArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("InitialCapacity can't be negative. Your value: " + initialCapacity);
+        }
+        elements = new long[initialCapacity];
+    }
+
+    /**
+     * Создает список, содержащий элементы указанного списка в том же порядке.
+     *
+     * @param list список, элементы которого будут скопированы.
+     * @return новый список.
+     * @throws NullPointerException если список или один из его элементов равен null.
+     */
+    public static LongMyArrayList from(MyList<Long> list) {
+        int listSize = list.size();
+        LongMyArrayList result = new LongMyArrayList(listSize);
+        if (list instanceof LongMyArrayList) {
+            System.arraycopy(((LongMyArrayList) list).elements, 0, result.elements, 0, listSize);
+        } else {
+            for (int i = 0; i < listSize; i++) {
+                result.elements[i] = list.get(i);
+            }
+        }
+        result.size = listSize;
+        return result;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public void add(long element) {
+        checkCapacity(size);
+        elements[size++] = element;
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws NullPointerException           если указанный элемент равен null.
+     */
+    @Override
+    public void add(Long element) {
+        add((long) element);
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    public void add(int index, long element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        checkCapacity(size);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     * @throws NullPointerException           если указанный элемент равен null.
+     */
+    @Override
+    public void add(int index, Long element) {
+        add(index, (long) element);
+    }
+
+    /**
+     * Проверяет возможность добавить новый элемент в этот список.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void checkCapacity(int minCapacity) {
+        long checkSize = minCapacity;
+        if (checkSize + 1 > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+        if (minCapacity == elements.length) {
+            increasedCapacity(minCapacity + 1);
+        }
+    }
+
+    /**
+     * Увеличивает емкость, чтобы гарантировать, что она может содержать как минимум количество элементов,
+     * указанное аргументом минимальной емкости.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void increasedCapacity(int minCapacity) {
+        int oldCapacity = elements.length;
+        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        elements = Arrays.copyOf(elements, newCapacity);
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке без упаковки.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    public long getLong(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public Long get(Long element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    /**
+     * Возвращает индекс первого вхождения указанного элемента в этом списке.
+     *
+     * @param element элемент, который нужно найти в этом списке.
+     * @return индекс первого вхождения элемента или -1, если элемент отсутствует.
+     */
+    public int indexOf(long element) {
+        return PrimitiveKernels.indexOf(elements, 0, size, element);
+    }
+
+    /**
+     * Проверяет наличие указанного элемента в этом списке без упаковки.
+     *
+     * @param element элемент, который нужно найти в этом списке.
+     * @return true, если список содержит элемент.
+     */
+    public boolean contains(long element) {
+        return indexOf(element) >= 0;
+    }
+
+    /**
+     * Подсчитывает количество вхождений указанного элемента в этом списке.
+     *
+     * @param element элемент, вхождения которого нужно подсчитать.
+     * @return количество вхождений элемента.
+     */
+    public int count(long element) {
+        return PrimitiveKernels.count(elements, 0, size, element);
+    }
+
+    /**
+     * Возвращает наименьший элемент этого списка.
+     *
+     * @return наименьший элемент.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public long min() {
+        checkNotEmpty();
+        return PrimitiveKernels.min(elements, 0, size);
+    }
+
+    /**
+     * Возвращает наибольший элемент этого списка.
+     *
+     * @return наибольший элемент.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public long max() {
+        checkNotEmpty();
+        return PrimitiveKernels.max(elements, 0, size);
+    }
+
+    /**
+     * Возвращает сумму элементов этого списка; 0 для пустого списка. При переполнении результат, как и при сложении long, переходит через границу диапазона.
+     *
+     * @return сумма элементов.
+     */
+    public long sum() {
+        return PrimitiveKernels.sum(elements, 0, size);
+    }
+
+    /**
+     * Заменяет все элементы указанного диапазона этого списка указанным значением.
+     *
+     * @param fromIndex начальный индекс диапазона (включительно).
+     * @param toIndex   конечный индекс диапазона (включительно).
+     * @param value     значение, которым заполняется диапазон.
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    public void fill(int fromIndex, int toIndex, long value) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        PrimitiveKernels.fill(elements, fromIndex, toIndex + 1, value);
+    }
+
+    private void checkNotEmpty() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Если список не содержит элемента, он не изменяется.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(Long element) {
+        if (element == null) {
+            return false;
+        }
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        fastRemove(index);
+        return true;
+    }
+
+    private void fastRemove(int i) {
+        int lastIndex = size - 1;
+        if (lastIndex > i) {
+            System.arraycopy(elements, i + 1, elements, i, lastIndex - i);
+        }
+        size = lastIndex;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Список будет пуст и будет иметь емкость равной десяти, после возврата этого вызова.
+     */
+    @Override
+    public void clear() {
+        elements = new long[DEFAULT_CAPACITY];
+        size = 0;
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом без упаковки.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     */
+    public long set(int index, long element) {
+        Objects.checkIndex(index, size);
+        long oldValue = elements[index];
+        elements[index] = element;
+        return oldValue;
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     * @throws NullPointerException      если указанный элемент равен null.
+     */
+    @Override
+    public Long set(int index, Long element) {
+        return set(index, (long) element);
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в соответствии с указанным Comparator'ом.
+     * Для естественного порядка (null или Comparator.naturalOrder()) сортирует массив long[] без упаковки,
+     * для остальных Comparator'ов элементы диапазона временно упаковываются.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super Long> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex) {
+            return;
+        }
+        if (comparator == null || comparator == Comparator.naturalOrder()) {
+            Arrays.sort(elements, fromIndex, toIndex + 1);
+            return;
+        }
+        Long[] boxed = new Long[toIndex - fromIndex + 1];
+        for (int i = 0; i < boxed.length; i++) {
+            boxed[i] = elements[fromIndex + i];
+        }
+        Arrays.sort(boxed, comparator);
+        for (int i = 0; i < boxed.length; i++) {
+            elements[fromIndex + i] = boxed[i];
+        }
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в порядке возрастания без упаковки элементов.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        Arrays.sort(elements, fromIndex, toIndex + 1);
+    }
+
+    /**
+     * Возвращает массив, содержащий все элементы этого списка в том же порядке.
+     *
+     * @return новый массив элементов этого списка.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    /**
+     * Возвращает список упакованных значений, содержащий все элементы этого списка в том же порядке.
+     *
+     * @return новый список MyArrayList.
+     */
+    public MyArrayList<Long> toMyArrayList() {
+        MyArrayList<Long> result = new MyArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки LongMyArrayList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        LongMyArrayList that = (LongMyArrayList) o;
+        return size == that.size && Arrays.equals(elements, 0, size, that.elements, 0, size);
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Long.hashCode(elements[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < size; i++) {
+            if (i < size - 1) {
+                stringBuilder.append(elements[i]).append(", ");
+            } else {
+                stringBuilder.append(elements[i]);
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,284 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Неизменяемая реализация интерфейса MyList, читающая элементы из файла формата MyListFiles,
+ * отображенного в память.
+ * <p>
+ * Файл отображается областями не больше DEFAULT_REGION_SIZE байт, каждая из которых содержит целое число
+ * элементов, поэтому поддерживаются файлы больше 2 ГБ. При открытии читается только заголовок,
+ * а страницы файла подгружаются операционной системой при первом обращении к элементам.
+ * Каждый вызов get(int) декодирует элемент заново.
+ * <p>
+ * Изменяющие методы выбрасывают UnsupportedOperationException. Чтение из нескольких потоков безопасно,
+ * но список нельзя закрывать, пока другие потоки читают его.
+ * После close любые операции завершаются исключением IllegalStateException.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class MappedMyList<E> implements MyList<E>, AutoCloseable {
+
+    /**
+     * Наибольший размер одной отображенной области файла.
+     */
+    static final int DEFAULT_REGION_SIZE = 1 << 30;
+
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+    private final int size;
+    private final int regionLength;
+    private MappedByteBuffer[] regions;
+
+    /**
+     * Открывает файл и отображает его в память областями указанного размера.
+     *
+     * @param path       путь к файлу.
+     * @param codec      кодек элементов, которым файл был записан.
+     * @param regionSize наибольший размер одной области в байтах.
+     * @throws IOException если файл не является файлом списка или не может быть отображен.
+     */
+    MappedMyList(Path path, ElementCodec<E> codec, int regionSize) throws IOException {
+        this.codec = codec;
+        elementSize = MyListFiles.checkElementSize(codec);
+        regionLength = Math.max(regionSize / elementSize, 1);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            size = MyListFiles.readHeader(channel, elementSize);
+            long dataSize = (long) size * elementSize;
+            if (channel.size() < MyListFiles.HEADER_SIZE + dataSize) {
+                throw new IOException("File is truncated: " + path);
+            }
+            int regionCount = (int) ((size + (long) regionLength - 1) / regionLength);
+            regions = new MappedByteBuffer[regionCount];
+            long regionBytes = (long) regionLength * elementSize;
+            for (int i = 0; i < regionCount; i++) {
+                long offset = i * regionBytes;
+                long length = Math.min(regionBytes, dataSize - offset);
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, MyListFiles.HEADER_SIZE + offset, length);
+                regions[i].order(MyListFiles.BYTE_ORDER);
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (regions == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции, декодируя его из отображенного файла.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        ByteBuffer region = regions[index / regionLength];
+        return codec.read(region, (index % regionLength) * elementSize);
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null.
+     * Просматривает файл последовательно.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(get(i))) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        ensureOpen();
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        ensureOpen();
+        return size == 0;
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean remove(E element) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Не поддерживается: список доступен только для чтения.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("MappedMyList is read-only");
+    }
+
+    /**
+     * Снимает отображение файла. Повторный вызов ничего не делает.
+     */
+    @Override
+    public void close() {
+        if (regions != null) {
+            for (MappedByteBuffer region : regions) {
+                DirectMemory.free(region);
+            }
+            regions = null;
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки MappedMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        MappedMyList<?> that = (MappedMyList<?>) o;
+        if (size() != that.size()) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size(); i++) {
+            result = 31 * result + Objects.hashCode(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < size(); i++) {
+            if (i < size - 1) {
+                stringBuilder.append(get(i)).append(", ");
+            } else {
+                stringBuilder.append(get(i));
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
@@ -1,22 +1,49 @@
 package ru.sanctio.dataStructures.myList;
 
+import java.io.*;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * Реализация интерфейса MyList с изменяемым размером массива.
  * Каждый элемент находится на определенном индексе этого массива, индексация начинается с нуля.
  * Реализует операции со списком интерфейса MyList и разрешает все элементы, включая null значения.
  * Не является потокобезопасным.
+ * <p>
+ * Итераторы и Spliterator этого списка работают с массивом напрямую и являются fail-fast:
+ * если список структурно изменен после создания итератора не через сам итератор,
+ * итератор выбросит ConcurrentModificationException.
+ * <p>
+ * Список сериализуем: в поток записываются только его элементы, без неиспользуемой емкости.
+ * Для больших списков элементов фиксированного размера компактнее двоичный формат MyListFiles.
  *
  * @author Sharychenkov Eugene
  */
-public class MyArrayList<E> implements MyList<E> {
+public class MyArrayList<E> implements MyList<E>, Serializable {
 
-    private Object[] elements;
+    private static final long serialVersionUID = 1L;
+
+    private transient Object[] elements;
     private int size;
+    private transient int modCount;
+    private transient MyListMetrics metrics = MyListMetrics.NONE;
+    private GrowthPolicy growthPolicy = GrowthPolicy.DEFAULT;
+    private transient PivotStrategy pivotStrategy = PivotStrategy.MEDIAN_OF_THREE;
+    private transient ParallelSettings parallelSettings = ParallelSettings.DEFAULT;
+    /**
+     * Отметка MyArrayListPool о выдаче этого списка; null, если список не выдан пулом.
+     */
+    transient Object poolLease;
+    private transient boolean hashCaching;
+    private transient boolean hashValid;
+    private transient int hashModCount;
+    private transient int cachedHash;
     private static final int DEFAULT_CAPACITY = 10;
-    private static final Random random = ThreadLocalRandom.current();
 
     /**
      * Создает пустой список с начальной емкостью равной десяти.
@@ -38,6 +65,19 @@ public class MyArrayList<E> implements MyList<E> {
         elements = new Object[initialCapacity];
     }
 
+    /**
+     * Создает пустой список с указанной начальной емкостью и стратегией ее увеличения.
+     *
+     * @param initialCapacity начальная емкость списка.
+     * @param growthPolicy    стратегия увеличения емкости.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна
+     * @throws NullPointerException     если стратегия равна null.
+     */
+    public MyArrayList(int initialCapacity, GrowthPolicy growthPolicy) {
+        this(initialCapacity);
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
     /**
      * Добавляет указанный элемент в конец этого списка.
      *
@@ -46,6 +86,7 @@ public class MyArrayList<E> implements MyList<E> {
      */
     public void add(E element) {
         checkCapacity(size);
+        modCount++;
         elements[size++] = element;
     }
 
@@ -63,11 +104,132 @@ public class MyArrayList<E> implements MyList<E> {
                     "out of bounds for length: " + size);
         }
         checkCapacity(size);
+        modCount++;
         System.arraycopy(elements, index, elements, index + 1, size - index);
+        if (metrics != MyListMetrics.NONE) {
+            metrics.shifted(size - index);
+        }
         elements[index] = element;
         size++;
     }
 
+    /**
+     * Подключает к этому списку получателя метрик операций.
+     * По умолчанию подключен MyListMetrics.NONE: в этом случае список не измеряет время
+     * и не вычисляет значения метрик, а каждая операция выполняет только одно лишнее сравнение ссылок.
+     * Получатель не сериализуется вместе со списком.
+     *
+     * @param metrics получатель метрик или MyListMetrics.NONE, чтобы отключить сбор.
+     * @throws NullPointerException если metrics равен null.
+     */
+    public void setMetrics(MyListMetrics metrics) {
+        this.metrics = Objects.requireNonNull(metrics);
+    }
+
+    /**
+     * Возвращает получателя метрик, подключенного к этому списку.
+     *
+     * @return получатель метрик; MyListMetrics.NONE, если сбор отключен.
+     */
+    public MyListMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Добавляет в конец этого списка все элементы указанного списка в порядке их расположения.
+     * Емкость увеличивается не более одного раза. Элементы сначала копируются в отдельный массив,
+     * поэтому указанный список может быть этим списком или его представлением.
+     *
+     * @param list список, элементы которого будут добавлены.
+     * @return true, если этот список изменился в результате вызова.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public boolean addAll(MyList<? extends E> list) {
+        Object[] array;
+        if (list instanceof MyArrayList) {
+            array = Arrays.copyOf(((MyArrayList<?>) list).elements, list.size());
+        } else {
+            array = new Object[list.size()];
+            int i = 0;
+            for (E element : list) {
+                array[i++] = element;
+            }
+        }
+        return addArray(array);
+    }
+
+    /**
+     * Добавляет в конец этого списка все элементы указанного массива в порядке их расположения.
+     * Емкость увеличивается не более одного раза.
+     *
+     * @param array массив, элементы которого будут добавлены.
+     * @return true, если этот список изменился в результате вызова.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public boolean addAll(E[] array) {
+        return addArray(array);
+    }
+
+    /**
+     * Добавляет в конец этого списка все элементы указанной коллекции в порядке, возвращаемом ее итератором.
+     * Емкость увеличивается не более одного раза.
+     *
+     * @param collection коллекция, элементы которой будут добавлены.
+     * @return true, если этот список изменился в результате вызова.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public boolean addAll(Collection<? extends E> collection) {
+        return addArray(collection.toArray());
+    }
+
+    private boolean addArray(Object[] array) {
+        int count = array.length;
+        if (count == 0) {
+            return false;
+        }
+        checkCapacity(size, count);
+        modCount++;
+        System.arraycopy(array, 0, elements, size, count);
+        size += count;
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private E elementData(int index) {
+        return (E) elements[index];
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E elementAt(Object[] es, int index) {
+        return (E) es[index];
+    }
+
+    /**
+     * Возвращает массив элементов этого списка для сортировки и выбора.
+     * Массив имеет тип Object[], поэтому не должен передаваться за пределы пакета.
+     */
+    @SuppressWarnings("unchecked")
+    private E[] elementArray() {
+        return (E[]) elements;
+    }
+
+    /**
+     * Проверяет возможность добавить указанное количество элементов в этот список
+     * и при необходимости увеличивает емкость один раз.
+     *
+     * @param currentSize текущее количество элементов.
+     * @param count       количество добавляемых элементов.
+     */
+    private void checkCapacity(int currentSize, int count) {
+        long required = (long) currentSize + count;
+        if (required > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+        if (required > elements.length) {
+            increasedCapacity((int) required);
+        }
+    }
+
     /**
      * Проверяет возможность добавить новый элемент в этот список.
      *
@@ -91,11 +253,113 @@ public class MyArrayList<E> implements MyList<E> {
      */
     private void increasedCapacity(int minCapacity) {
         int oldCapacity = elements.length;
-        int newCapacity = oldCapacity + (oldCapacity >> 1);
+        int newCapacity = growthPolicy.newCapacity(oldCapacity, minCapacity);
         if (newCapacity - minCapacity < 0) {
             newCapacity = minCapacity;
         }
         elements = Arrays.copyOf(elements, newCapacity);
+        if (metrics != MyListMetrics.NONE) {
+            metrics.resized(oldCapacity, newCapacity, oldCapacity);
+        }
+    }
+
+    /**
+     * Увеличивает емкость этого списка, если это необходимо, чтобы он мог содержать не меньше
+     * указанного количества элементов без расширения массива. Емкость вычисляется стратегией роста,
+     * поэтому может оказаться больше запрошенной.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     * @throws IllegalArgumentException если заданная емкость отрицательна.
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity < 0) {
+            throw new IllegalArgumentException("MinCapacity can't be negative. Your value: " + minCapacity);
+        }
+        if (minCapacity > elements.length) {
+            modCount++;
+            increasedCapacity(minCapacity);
+        }
+    }
+
+    /**
+     * Уменьшает емкость этого списка до его текущего размера, освобождая неиспользуемую часть массива.
+     */
+    public void trimToSize() {
+        if (size < elements.length) {
+            modCount++;
+            elements = Arrays.copyOf(elements, size);
+        }
+    }
+
+    /**
+     * Возвращает текущую емкость этого списка.
+     *
+     * @return количество элементов, которое список может содержать без расширения массива.
+     */
+    public int capacity() {
+        return elements.length;
+    }
+
+    /**
+     * Задает стратегию увеличения емкости этого списка. Текущий массив не изменяется.
+     *
+     * @param growthPolicy стратегия увеличения емкости.
+     * @throws NullPointerException если стратегия равна null.
+     */
+    public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+        this.growthPolicy = Objects.requireNonNull(growthPolicy);
+    }
+
+    /**
+     * Возвращает стратегию увеличения емкости этого списка.
+     *
+     * @return стратегия увеличения емкости.
+     */
+    public GrowthPolicy getGrowthPolicy() {
+        return growthPolicy;
+    }
+
+    /**
+     * Задает стратегию выбора опорного элемента для методов sort, parallelSort, select и partialSort
+     * этого списка, вызванных без явной стратегии. Для отдельного вызова стратегию можно передать
+     * перегрузкам этих методов, не меняя состояние списка.
+     * Стратегия не сериализуется: после десериализации используется PivotStrategy.MEDIAN_OF_THREE.
+     *
+     * @param pivotStrategy стратегия выбора опорного элемента.
+     * @throws NullPointerException если стратегия равна null.
+     */
+    public void setPivotStrategy(PivotStrategy pivotStrategy) {
+        this.pivotStrategy = Objects.requireNonNull(pivotStrategy);
+    }
+
+    /**
+     * Возвращает стратегию выбора опорного элемента, используемую методами sort и parallelSort этого списка.
+     *
+     * @return стратегия выбора опорного элемента.
+     */
+    public PivotStrategy getPivotStrategy() {
+        return pivotStrategy;
+    }
+
+    /**
+     * Задает пул и порог последовательной обработки для методов parallelReplaceAll, parallelForEach,
+     * parallelReduce и parallelCollect этого списка. Параметры не сериализуются:
+     * после десериализации используется ParallelSettings.DEFAULT.
+     *
+     * @param parallelSettings параметры параллельных операций.
+     * @throws NullPointerException если параметры равны null.
+     */
+    public void setParallelSettings(ParallelSettings parallelSettings) {
+        this.parallelSettings = Objects.requireNonNull(parallelSettings);
+    }
+
+    /**
+     * Возвращает параметры параллельных массовых операций этого списка.
+     *
+     * @return параметры параллельных операций.
+     */
+    public ParallelSettings getParallelSettings() {
+        return parallelSettings;
     }
 
     /**
@@ -108,7 +372,7 @@ public class MyArrayList<E> implements MyList<E> {
     @Override
     public E get(int index) {
         Objects.checkIndex(index, size);
-        return (E) elements[index];
+        return elementData(index);
     }
 
     /**
@@ -126,9 +390,11 @@ public class MyArrayList<E> implements MyList<E> {
         }
         for (int i = 0; i < size; i++) {
             if (elements[i] != null && elements[i].equals(element)) {
+                scanFinished(i + 1, true);
                 return element;
             }
         }
+        scanFinished(size, false);
         return null;
     }
 
@@ -144,6 +410,7 @@ public class MyArrayList<E> implements MyList<E> {
         if (element == null) {
             for (int i = 0; i < size; i++) {
                 if (elements[i] == null) {
+                    scanFinished(i + 1, true);
                     fastRemove(i);
                     return true;
                 }
@@ -151,30 +418,133 @@ public class MyArrayList<E> implements MyList<E> {
         } else {
             for (int i = 0; i < size; i++) {
                 if (element.equals(elements[i])) {
+                    scanFinished(i + 1, true);
                     fastRemove(i);
                     return true;
                 }
             }
 
         }
+        scanFinished(size, false);
         return false;
     }
 
-    private void fastRemove(int i) {
+    private void scanFinished(int scannedElements, boolean found) {
+        if (metrics != MyListMetrics.NONE) {
+            metrics.scanned(scannedElements, found);
+        }
+    }
+
+    /**
+     * Удаляет элемент с указанным индексом без проверки индекса.
+     * Через этот метод проходят все удаления отдельных элементов, включая удаление итератором.
+     *
+     * @param i индекс удаляемого элемента.
+     */
+    void fastRemove(int i) {
+        modCount++;
         int lastIndex = size - 1;
         if (lastIndex > i) {
             System.arraycopy(elements, i + 1, elements, i, lastIndex - i);
+            if (metrics != MyListMetrics.NONE) {
+                metrics.shifted(lastIndex - i);
+            }
         }
         size = lastIndex;
         elements[lastIndex] = null;
     }
 
+    /**
+     * Удаляет из этого списка все элементы, удовлетворяющие указанному условию.
+     * Оставшиеся элементы сдвигаются к началу массива за один проход, освободившиеся ячейки очищаются один раз,
+     * поэтому удаление любого количества элементов занимает время O(n).
+     * Если условие выбрасывает исключение, уже найденные элементы остаются удаленными,
+     * а список остается в согласованном состоянии.
+     *
+     * @param filter условие, возвращающее true для удаляемых элементов.
+     * @return true, если был удален хотя бы один элемент.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        Objects.requireNonNull(filter);
+        int end = size;
+        int i = 0;
+        while (i < end && !filter.test(elementData(i))) {
+            i++;
+        }
+        if (i == end) {
+            return false;
+        }
+        modCount++;
+        int write = i;
+        int read = i + 1;
+        try {
+            for (; read < end; read++) {
+                E element = elementData(read);
+                if (!filter.test(element)) {
+                    elements[write++] = element;
+                }
+            }
+        } finally {
+            //при исключении в условии непроверенный хвост сдвигается как есть
+            if (read < end) {
+                System.arraycopy(elements, read, elements, write, end - read);
+                write += end - read;
+            }
+            Arrays.fill(elements, write, end, null);
+            size = write;
+        }
+        return true;
+    }
+
+    /**
+     * Удаляет из этого списка все элементы, содержащиеся в указанной коллекции.
+     * Для каждого элемента списка вызывается collection.contains, поэтому для больших коллекций
+     * стоит передавать множество с быстрым поиском, например HashSet.
+     *
+     * @param collection коллекция удаляемых элементов.
+     * @return true, если был удален хотя бы один элемент.
+     */
+    public boolean removeAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(collection::contains);
+    }
+
+    /**
+     * Оставляет в этом списке только элементы, содержащиеся в указанной коллекции.
+     * Для каждого элемента списка вызывается collection.contains, поэтому для больших коллекций
+     * стоит передавать множество с быстрым поиском, например HashSet.
+     *
+     * @param collection коллекция сохраняемых элементов.
+     * @return true, если был удален хотя бы один элемент.
+     */
+    public boolean retainAll(Collection<?> collection) {
+        Objects.requireNonNull(collection);
+        return removeIf(element -> !collection.contains(element));
+    }
+
     /**
      * Удаляет все элементы из этого списка.
      * Список будет пуст и будет иметь емкость равной десяти, после возврата этого вызова.
      */
     public void clear() {
-        elements = new Object[DEFAULT_CAPACITY];
+        clear(false);
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     * Если retainCapacity равен true, ссылки на элементы обнуляются в текущем массиве и его емкость сохраняется,
+     * поэтому список, повторно заполняемый примерно тем же количеством элементов, не выделяет память заново.
+     * Иначе список будет иметь емкость равной десяти, как после clear().
+     *
+     * @param retainCapacity true, чтобы сохранить текущий массив.
+     */
+    public void clear(boolean retainCapacity) {
+        modCount++;
+        if (retainCapacity) {
+            Arrays.fill(elements, 0, size, null);
+        } else {
+            elements = new Object[DEFAULT_CAPACITY];
+        }
         size = 0;
     }
 
@@ -188,8 +558,9 @@ public class MyArrayList<E> implements MyList<E> {
      */
     public E set(int index, E element) {
         Objects.checkIndex(index, size);
-        E oldValue = (E) elements[index];
+        E oldValue = elementData(index);
         elements[index] = element;
+        hashValid = false;
         return oldValue;
     }
 
@@ -211,6 +582,78 @@ public class MyArrayList<E> implements MyList<E> {
         return size == 0;
     }
 
+    /**
+     * Ищет указанный элемент в этом списке двоичным поиском.
+     * Список должен быть отсортирован в порядке возрастания в соответствии с естественным порядком
+     * его элементов, например методом sort(0, size() - 1), иначе результат не определен.
+     * Если список содержит несколько равных элементов, может быть найден любой из них.
+     *
+     * @param key искомый элемент.
+     * @return индекс элемента, если он найден, иначе (-(точка вставки) - 1), где точка вставки -
+     * индекс первого элемента, большего key, или size(), если все элементы меньше key.
+     * @throws ClassCastException если элементы не являются взаимно сопоставимыми с key.
+     */
+    public int binarySearch(E key) {
+        return binarySearch(key, null);
+    }
+
+    /**
+     * Ищет указанный элемент в этом списке двоичным поиском.
+     * Список должен быть отсортирован в порядке возрастания в соответствии с указанным Comparator'ом,
+     * иначе результат не определен. Если список содержит несколько равных элементов, может быть найден любой из них.
+     *
+     * @param key        искомый элемент.
+     * @param comparator Comparator, которым отсортирован список; null означает естественный порядок.
+     * @return индекс элемента, если он найден, иначе (-(точка вставки) - 1), где точка вставки -
+     * индекс первого элемента, большего key, или size(), если все элементы меньше key.
+     * @throws ClassCastException если элементы не являются взаимно сопоставимыми с key.
+     */
+    public int binarySearch(E key, Comparator<? super E> comparator) {
+        Comparator<? super E> c = comparator == null ? Sorting.NATURAL_ORDER : comparator;
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compare = c.compare(elementData(middle), key);
+            if (compare < 0) {
+                low = middle + 1;
+            } else if (compare > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Сливает отсортированный массив с этим отсортированным списком за один проход с конца,
+     * емкость увеличивается не более одного раза. Элементы массива, равные элементам списка,
+     * располагаются после них.
+     *
+     * @param sorted     массив, отсортированный тем же Comparator'ом.
+     * @param comparator Comparator, которым отсортированы список и массив.
+     */
+    void mergeSorted(Object[] sorted, Comparator<? super E> comparator) {
+        int count = sorted.length;
+        if (count == 0) {
+            return;
+        }
+        checkCapacity(size, count);
+        modCount++;
+        int i = size - 1;
+        int j = count - 1;
+        int k = size + count - 1;
+        while (j >= 0) {
+            if (i >= 0 && comparator.compare(elementData(i), elementAt(sorted, j)) > 0) {
+                elements[k--] = elements[i--];
+            } else {
+                elements[k--] = sorted[j--];
+            }
+        }
+        size += count;
+    }
+
     /**
      * Сортирует указанный диапазон этого списка объектов
      * в соответствии с указанным Comparator'ом.
@@ -219,7 +662,9 @@ public class MyArrayList<E> implements MyList<E> {
      * (то есть e1.compareTo(e2) не должно вызывать исключение ClassCastException
      * для любых элементов e1 и e2 в массиве).
      * <p>
-     * Для сортировки используется алгоритм быстрой сортировки.
+     * Для сортировки используется интроспективная сортировка: быстрая сортировка с трехсторонним разбиением,
+     * которая переходит на пирамидальную сортировку при слишком глубоком разбиении и на сортировку вставками
+     * на коротких диапазонах. Время работы O(n log n) в худшем случае, глубина стека O(log n).
      *
      * @param fromIndex  начальный индекс диапазона сортировки(включительно).
      * @param toIndex    конечный индекс диапазона сортировки(включительно).
@@ -232,6 +677,25 @@ public class MyArrayList<E> implements MyList<E> {
 
     @Override
     public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        sort(fromIndex, toIndex, comparator, pivotStrategy);
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка объектов в соответствии с указанным Comparator'ом,
+     * как sort(int, int, Comparator), но выбирает опорные элементы указанной стратегией
+     * вместо getPivotStrategy(). Стратегия этого списка не изменяется.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @param strategy   стратегия выбора опорного элемента для этого вызова.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     * @throws NullPointerException     если стратегия равна null.
+     */
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator, PivotStrategy strategy) {
+        Objects.requireNonNull(strategy);
         if (fromIndex < 0 || toIndex >= size) {
             throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
         }
@@ -241,8 +705,11 @@ public class MyArrayList<E> implements MyList<E> {
         if (fromIndex == toIndex || elements.length <= 1) {
             return;
         }
-        E[] sortArr = (E[]) elements;
-        quickSort(sortArr, fromIndex, toIndex, comparator);
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        Sorting.introSort(sortArr, fromIndex, toIndex, comparator, strategy);
+        sortFinished(fromIndex, toIndex, start);
     }
 
     /**
@@ -254,7 +721,9 @@ public class MyArrayList<E> implements MyList<E> {
      * (то есть e1.compareTo(e2) не должно вызывать исключение ClassCastException
      * для любых элементов e1 и e2 в массиве).
      * <p>
-     * Для сортировки используется алгоритм быстрой сортировки.
+     * Для сортировки используется интроспективная сортировка: быстрая сортировка с трехсторонним разбиением,
+     * которая переходит на пирамидальную сортировку при слишком глубоком разбиении и на сортировку вставками
+     * на коротких диапазонах. Время работы O(n log n) в худшем случае, глубина стека O(log n).
      *
      * @param fromIndex начальный индекс диапазона сортировки(включительно).
      * @param toIndex   конечный индекс диапазона сортировки(включительно).
@@ -274,89 +743,1025 @@ public class MyArrayList<E> implements MyList<E> {
         if (fromIndex == toIndex || elements.length <= 1) {
             return;
         }
-        E[] sortArr = (E[]) elements;
-        quickSort(sortArr, fromIndex, toIndex);
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        Sorting.introSort(sortArr, fromIndex, toIndex, Sorting.NATURAL_ORDER, pivotStrategy);
+        sortFinished(fromIndex, toIndex, start);
     }
 
-    private void quickSort(E[] sortArr, int low, int high) {
-
-        //выбираем опорный элемент
-        int middle = random.nextInt(low, high + 1);
-        E border = sortArr[middle];
+    /**
+     * Сортирует указанный диапазон этого списка объектов
+     * в соответствии с указанным Comparator'ом, используя несколько потоков.
+     * <p>
+     * Диапазон делится на части, которые сортируются как в sort в потоках общего ForkJoinPool,
+     * после чего части параллельно сливаются. Для слияния выделяется временный массив размером с диапазон.
+     * Диапазоны короче 8192 элементов сортируются последовательно, как в sort.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void parallelSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        parallelSort(fromIndex, toIndex, comparator, pivotStrategy);
+    }
 
-        //разделияем на подмассивы и меняем местами
-        int i = low, j = high;
-        while (i <= j) {
-            while (((Comparable<E>) sortArr[i]).compareTo(border) < 0) i++;
-            while (((Comparable<E>) sortArr[j]).compareTo(border) > 0) j--;
-            if (i <= j) {
-                E swap = sortArr[i];
-                sortArr[i] = sortArr[j];
-                sortArr[j] = swap;
-                i++;
-                j--;
-            }
+    /**
+     * Сортирует указанный диапазон этого списка объектов в соответствии с указанным Comparator'ом
+     * в нескольких потоках, как parallelSort(int, int, Comparator), но выбирает опорные элементы
+     * указанной стратегией вместо getPivotStrategy(). Каждая часть диапазона начинает сортировку
+     * со своего экземпляра стратегии, поэтому потоки не разделяют ее состояние.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @param strategy   стратегия выбора опорного элемента для этого вызова.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     * @throws NullPointerException     если стратегия равна null.
+     */
+    public void parallelSort(int fromIndex, int toIndex, Comparator<? super E> comparator, PivotStrategy strategy) {
+        Objects.requireNonNull(strategy);
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
         }
-
-        //рекурсия для сортировки левой и правой части
-        if (low < j) quickSort(sortArr, low, j);
-        if (high > i) quickSort(sortArr, i, high);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex || elements.length <= 1) {
+            return;
+        }
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        Sorting.parallelSort(sortArr, fromIndex, toIndex, comparator, strategy);
+        sortFinished(fromIndex, toIndex, start);
     }
 
-    private void quickSort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
-
-        //выбираем опорный элемент
-        int middle = random.nextInt(low, high + 1);
-        E border = sortArr[middle];
-
-        //разделияем на подмассивы и меняем местами
-        int i = low, j = high;
-        while (i <= j) {
-            while (comparator.compare(sortArr[i], border) < 0) i++;
-            while (comparator.compare(sortArr[j], border) > 0) j--;
-            if (i <= j) {
-                E swap = sortArr[i];
-                sortArr[i] = sortArr[j];
-                sortArr[j] = swap;
-                i++;
-                j--;
-            }
+    /**
+     * Сортирует указанный диапазон этого списка объектов в порядке возрастания
+     * в соответствии с естественным порядком его элементов, используя несколько потоков.
+     * <p>
+     * Диапазон делится на части, которые сортируются как в sort в потоках общего ForkJoinPool,
+     * после чего части параллельно сливаются. Для слияния выделяется временный массив размером с диапазон.
+     * Диапазоны короче 8192 элементов сортируются последовательно, как в sort.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ClassCastException             если массив содержит элементы,
+     *                                        которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    public void parallelSort(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
         }
-
-        //рекурсия для сортировки левой и правой части
-        if (low < j) quickSort(sortArr, low, j, comparator);
-        if (high > i) quickSort(sortArr, i, high, comparator);
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        if (fromIndex == toIndex || elements.length <= 1) {
+            return;
+        }
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        Sorting.parallelSort(sortArr, fromIndex, toIndex, Sorting.NATURAL_ORDER, pivotStrategy);
+        sortFinished(fromIndex, toIndex, start);
     }
 
     /**
-     * Сравнивает указанный объект с этим списком на предмет равенства.
-     * Возвращает true тогда и только тогда, когда указанный объект также является списком,
-     * оба списка имеют одинаковый размер и все соответствующие пары элементов в двух списках равны.
-     * (Два элемента e1 и e2 равны, если Objects.equals(e1, e2).)
-     * Другими словами, два списка считаются равными, если они содержат одни и те же элементы в одном и том же порядке.
+     * Устойчиво сортирует указанный диапазон этого списка объектов в соответствии с указанным Comparator'ом:
+     * равные элементы сохраняют свой взаимный порядок.
+     * <p>
+     * Используется слияние естественных серий в духе TimSort: уже упорядоченные и строго убывающие участки
+     * находятся за один проход и сливаются, поэтому на почти упорядоченных данных время работы близко к O(n).
+     * Временный буфер слияния размером не больше половины диапазона переиспользуется в пределах потока.
      *
-     * @param o объект для сравнения
-     * @return true, если переданный объект и этот список равны.
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws ClassCastException       если массив содержит элементы,
+     *                                  которые не являются взаимно сопоставимыми (например, строки и целые числа).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
      */
-
     @Override
-    public boolean equals(Object o) {
-        if (this == o) return true;
-        if (o == null || getClass() != o.getClass()) return false;
-        MyArrayList<?> that = (MyArrayList<?>) o;
-        return size == that.size && Arrays.equals(elements, that.elements);
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        RunMergeSort.sort(sortArr, fromIndex, toIndex, comparator);
+        sortFinished(fromIndex, toIndex, start);
     }
 
     /**
-     * Возвращает значение хэш-кода для этого списка.
+     * Переставляет элементы этого списка так, что на позиции k оказывается элемент, который стоял бы там
+     * после сортировки указанным Comparator'ом, все элементы левее него не больше, а правее - не меньше его.
+     * Порядок элементов внутри каждой из двух частей не определен.
+     * <p>
+     * Используется интроспективный выбор с тем же разбиением и той же стратегией выбора опорного элемента,
+     * что и в sort: в среднем O(n) сравнений, в худшем случае O(n log n).
      *
-     * @return значение хэш-кода для этого списка.
+     * @param k          индекс элемента в отсортированном порядке.
+     * @param comparator Comparator для определения порядка элементов.
+     * @return элемент, оказавшийся на позиции k.
+     * @throws ClassCastException        если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IndexOutOfBoundsException если k выходит за пределы диапазона (k < 0 || k >= size())
      */
-    @Override
-    public int hashCode() {
-        int result = Objects.hash(size);
-        result = 31 * result + Arrays.hashCode(elements);
-        return result;
+    public E select(int k, Comparator<? super E> comparator) {
+        return select(k, comparator, pivotStrategy);
+    }
+
+    /**
+     * Выполняет select(int, Comparator), выбирая опорные элементы указанной стратегией
+     * вместо getPivotStrategy(). Стратегия этого списка не изменяется.
+     *
+     * @param k          индекс элемента в отсортированном порядке.
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента для этого вызова.
+     * @return элемент, оказавшийся на позиции k.
+     * @throws ClassCastException        если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IndexOutOfBoundsException если k выходит за пределы диапазона (k < 0 || k >= size())
+     * @throws NullPointerException      если Comparator или стратегия равны null.
+     */
+    public E select(int k, Comparator<? super E> comparator, PivotStrategy strategy) {
+        Objects.checkIndex(k, size);
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(strategy);
+        modCount++;
+        E[] sortArr = elementArray();
+        Sorting.select(sortArr, 0, size - 1, k, comparator, strategy);
+        return sortArr[k];
+    }
+
+    /**
+     * Переставляет элементы этого списка так, что на позиции k оказывается элемент, который стоял бы там
+     * после сортировки в естественном порядке, как select(int, Comparator).
+     *
+     * @param k индекс элемента в отсортированном порядке.
+     * @return элемент, оказавшийся на позиции k.
+     * @throws ClassCastException        если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IndexOutOfBoundsException если k выходит за пределы диапазона (k < 0 || k >= size())
+     */
+    public E select(int k) {
+        return select(k, Sorting.NATURAL_ORDER);
+    }
+
+    /**
+     * Ставит k наименьших в соответствии с указанным Comparator'ом элементов в начало этого списка
+     * в отсортированном порядке. Остальные элементы располагаются после них в неопределенном порядке.
+     * <p>
+     * Граница находится методом select, после чего сортируются только первые k элементов:
+     * O(n + k log k) сравнений вместо O(n log n) при полной сортировке.
+     *
+     * @param k          количество элементов, которые нужно отсортировать.
+     * @param comparator Comparator для определения порядка элементов.
+     * @throws ClassCastException       если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IllegalArgumentException если k < 0 или k > size().
+     */
+    public void partialSort(int k, Comparator<? super E> comparator) {
+        partialSort(k, comparator, pivotStrategy);
+    }
+
+    /**
+     * Выполняет partialSort(int, Comparator), выбирая опорные элементы указанной стратегией
+     * вместо getPivotStrategy(). Стратегия этого списка не изменяется.
+     *
+     * @param k          количество элементов, которые нужно отсортировать.
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента для этого вызова.
+     * @throws ClassCastException       если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IllegalArgumentException если k < 0 или k > size().
+     * @throws NullPointerException     если Comparator или стратегия равны null.
+     */
+    public void partialSort(int k, Comparator<? super E> comparator, PivotStrategy strategy) {
+        if (k < 0 || k > size) {
+            throw new IllegalArgumentException("k must be between 0 and the size of this list. Your value: " + k);
+        }
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(strategy);
+        modCount++;
+        E[] sortArr = elementArray();
+        long start = startSort();
+        Sorting.partialSort(sortArr, 0, size - 1, k, comparator, strategy);
+        sortFinished(0, k - 1, start);
+    }
+
+    /**
+     * Ставит k наименьших элементов в начало этого списка в порядке возрастания
+     * в соответствии с естественным порядком, как partialSort(int, Comparator).
+     *
+     * @param k количество элементов, которые нужно отсортировать.
+     * @throws ClassCastException       если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IllegalArgumentException если k < 0 или k > size().
+     */
+    public void partialSort(int k) {
+        partialSort(k, Sorting.NATURAL_ORDER);
+    }
+
+    /**
+     * Возвращает новый список из k наибольших в соответствии с указанным Comparator'ом элементов
+     * этого списка в порядке убывания. Если k больше размера списка, возвращаются все элементы.
+     * Этот список не изменяется.
+     * <p>
+     * Элементы отбираются через кучу из k элементов за O(n log k) сравнений с O(k) дополнительной памяти,
+     * поэтому метод подходит для выбора нескольких лучших элементов из очень большого списка.
+     * Чтобы получить k наименьших элементов, передайте обратный Comparator.
+     *
+     * @param k          наибольшее количество возвращаемых элементов.
+     * @param comparator Comparator для определения порядка элементов.
+     * @return новый список наибольших элементов, упорядоченный по убыванию.
+     * @throws ClassCastException       если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IllegalArgumentException если k < 0.
+     */
+    public MyArrayList<E> topK(int k, Comparator<? super E> comparator) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k can't be negative. Your value: " + k);
+        }
+        Objects.requireNonNull(comparator);
+        Object[] top = Sorting.topK(elementArray(), 0, size - 1, k, comparator);
+        MyArrayList<E> result = new MyArrayList<>(top.length);
+        result.addArray(top);
+        return result;
+    }
+
+    /**
+     * Возвращает новый список из k наибольших в естественном порядке элементов этого списка
+     * в порядке убывания, как topK(int, Comparator).
+     *
+     * @param k наибольшее количество возвращаемых элементов.
+     * @return новый список наибольших элементов, упорядоченный по убыванию.
+     * @throws ClassCastException       если список содержит элементы, которые не являются взаимно сопоставимыми.
+     * @throws IllegalArgumentException если k < 0.
+     */
+    public MyArrayList<E> topK(int k) {
+        return topK(k, Sorting.NATURAL_ORDER);
+    }
+
+    private long startSort() {
+        return metrics == MyListMetrics.NONE ? 0L : System.nanoTime();
+    }
+
+    private void sortFinished(int fromIndex, int toIndex, long start) {
+        if (metrics != MyListMetrics.NONE) {
+            metrics.sorted(toIndex - fromIndex + 1, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам этого списка в порядке их расположения.
+     * Итератор поддерживает удаление последнего возвращенного элемента.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Itr(0);
+    }
+
+    /**
+     * Возвращает fail-fast ListIterator по элементам этого списка, начиная с первого элемента.
+     *
+     * @return ListIterator по элементам этого списка.
+     */
+    public ListIterator<E> listIterator() {
+        return new ListItr(0);
+    }
+
+    /**
+     * Возвращает fail-fast ListIterator по элементам этого списка, начиная с указанной позиции.
+     *
+     * @param index индекс первого элемента, который вернет next().
+     * @return ListIterator по элементам этого списка.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        return new ListItr(index);
+    }
+
+    /**
+     * Возвращает fail-fast Spliterator по элементам этого списка
+     * с характеристиками ORDERED, SIZED и SUBSIZED.
+     * Spliterator делит диапазон индексов пополам и читает элементы непосредственно из массива,
+     * проверяя отсутствие структурных изменений списка после обхода.
+     *
+     * @return Spliterator по элементам этого списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArraySpliterator(0, -1, 0);
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в порядке их расположения.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        Object[] es = elements;
+        int length = size;
+        for (int i = 0; modCount == expectedModCount && i < length; i++) {
+            action.accept(elementAt(es, i));
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в нескольких потоках.
+     * Элементы делятся на части задачами ForkJoin в соответствии с getParallelSettings();
+     * порядок вызовов действия не определен.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    public void parallelForEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        int expectedModCount = modCount;
+        BulkTasks.forEach(elements, 0, size, action, parallelSettings);
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Заменяет каждый элемент этого списка результатом применения к нему указанной функции,
+     * записывая результаты непосредственно в массив без вызова set.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws ConcurrentModificationException если список структурно изменен во время замены.
+     */
+    @Override
+    public void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        Object[] es = elements;
+        int length = size;
+        for (int i = 0; modCount == expectedModCount && i < length; i++) {
+            es[i] = operator.apply(elementAt(es, i));
+        }
+        hashValid = false;
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Заменяет каждый элемент этого списка результатом применения к нему указанной функции
+     * в нескольких потоках. Каждая ячейка массива записывается ровно одной задачей,
+     * а завершение задач ForkJoin делает все записи видимыми вызывающему потоку.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws ConcurrentModificationException если список структурно изменен во время замены.
+     */
+    @Override
+    public void parallelReplaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        BulkTasks.replaceAll(elements, 0, size, operator, parallelSettings);
+        hashValid = false;
+        checkForComodification(expectedModCount);
+    }
+
+    /**
+     * Сворачивает элементы этого списка указанной операцией, начиная с identity, за один проход по массиву.
+     *
+     * @param identity начальное значение, нейтральное для операции.
+     * @param operator ассоциативная операция объединения.
+     * @return результат свертки; identity, если список пуст.
+     * @throws ConcurrentModificationException если список структурно изменен во время свертки.
+     */
+    @Override
+    public E reduce(E identity, BinaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        E result = BulkTasks.reduce(elements, 0, size, identity, operator);
+        checkForComodification(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Сворачивает элементы этого списка указанной операцией в нескольких потоках.
+     * Части массива сворачиваются независимо, начиная с identity, и результаты частей объединяются
+     * в порядке их следования.
+     *
+     * @param identity начальное значение, нейтральное для операции.
+     * @param operator ассоциативная операция объединения.
+     * @return результат свертки; identity, если список пуст.
+     * @throws ConcurrentModificationException если список структурно изменен во время свертки.
+     */
+    @Override
+    public E parallelReduce(E identity, BinaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        int expectedModCount = modCount;
+        E result = BulkTasks.reduce(elements, 0, size, identity, operator, parallelSettings);
+        checkForComodification(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Собирает элементы этого списка в изменяемый контейнер за один проход по массиву.
+     *
+     * @param supplier    создает новый пустой контейнер.
+     * @param accumulator добавляет элемент в контейнер.
+     * @param combiner    не вызывается при последовательном выполнении.
+     * @param <R>         тип контейнера.
+     * @return контейнер с элементами списка.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    public <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        int expectedModCount = modCount;
+        R result = BulkTasks.collect(elements, 0, size, supplier, accumulator);
+        checkForComodification(expectedModCount);
+        return result;
+    }
+
+    /**
+     * Собирает элементы этого списка в изменяемый контейнер в нескольких потоках:
+     * каждая часть массива собирается в свой контейнер, и контейнеры объединяются
+     * combiner'ом в порядке следования частей.
+     *
+     * @param supplier    создает новый пустой контейнер.
+     * @param accumulator добавляет элемент в контейнер.
+     * @param combiner    переносит содержимое второго контейнера в первый.
+     * @param <R>         тип контейнера.
+     * @return контейнер с элементами списка.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    public <R> R parallelCollect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator,
+                                 BiConsumer<R, R> combiner) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        int expectedModCount = modCount;
+        R result = BulkTasks.collect(elements, 0, size, supplier, accumulator, combiner, parallelSettings);
+        checkForComodification(expectedModCount);
+        return result;
+    }
+
+    private void checkForComodification(int expectedModCount) {
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Возвращает представление части этого списка от fromIndex (включительно) до toIndex (не включительно),
+     * как List.subList. Элементы не копируются: get, set и сортировки представления работают
+     * непосредственно с массивом этого списка, а добавление и удаление через представление
+     * сдвигают элементы этого списка.
+     * <p>
+     * Если этот список структурно изменен не через представление, любая операция представления
+     * выбросит ConcurrentModificationException.
+     *
+     * @param fromIndex начальный индекс представления (включительно).
+     * @param toIndex   конечный индекс представления (не включительно).
+     * @return представление указанного диапазона этого списка.
+     * @throws IndexOutOfBoundsException если fromIndex < 0 или toIndex > size().
+     * @throws IllegalArgumentException  если fromIndex > toIndex.
+     */
+    public MyList<E> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size) {
+            throw new IndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        return new SubList(fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Удаляет элементы с индексами от fromIndex (включительно) до toIndex (не включительно) одним сдвигом.
+     *
+     * @param fromIndex начальный индекс удаляемого диапазона.
+     * @param toIndex   конечный индекс удаляемого диапазона.
+     */
+    void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        modCount++;
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(elements, newSize, size, null);
+        size = newSize;
+    }
+
+    /**
+     * Представление диапазона этого списка. Хранит смещение и размер диапазона и переводит индексы
+     * представления в индексы массива этого списка.
+     */
+    private final class SubList implements MyList<E> {
+        private final int offset;
+        private int size;
+        private int expectedModCount;
+
+        SubList(int offset, int size) {
+            this.offset = offset;
+            this.size = size;
+            this.expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        private void checkRange(int fromIndex, int toIndex) {
+            if (fromIndex > toIndex) {
+                throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+            }
+        }
+
+        private void updateSize(int delta) {
+            size += delta;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            add(size, element);
+        }
+
+        @Override
+        public void add(int index, E element) {
+            checkForComodification();
+            if (index < 0 || index > size) {
+                throw new IndexOutOfBoundsException("Index: " + index + "out of bounds for length: " + size);
+            }
+            MyArrayList.this.add(offset + index, element);
+            updateSize(1);
+        }
+
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return size() == 0;
+        }
+
+        @Override
+        public E get(int index) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return elementData(offset + index);
+        }
+
+        @Override
+        public E get(E element) {
+            Objects.requireNonNull(element);
+            checkForComodification();
+            for (int i = offset; i < offset + size; i++) {
+                if (element.equals(elements[i])) {
+                    return element;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean remove(E element) {
+            checkForComodification();
+            for (int i = offset; i < offset + size; i++) {
+                if (Objects.equals(element, elements[i])) {
+                    fastRemove(i);
+                    updateSize(-1);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void clear() {
+            checkForComodification();
+            removeRange(offset, offset + size);
+            updateSize(-size);
+        }
+
+        @Override
+        public E set(int index, E element) {
+            checkForComodification();
+            Objects.checkIndex(index, size);
+            return MyArrayList.this.set(offset + index, element);
+        }
+
+        @Override
+        public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+            checkForComodification();
+            if (fromIndex < 0 || toIndex >= size) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            checkRange(fromIndex, toIndex);
+            MyArrayList.this.sort(offset + fromIndex, offset + toIndex, comparator);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void sort(int fromIndex, int toIndex) {
+            checkForComodification();
+            if (fromIndex < 0 || toIndex >= size) {
+                throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+            }
+            checkRange(fromIndex, toIndex);
+            MyArrayList.this.sort(offset + fromIndex, offset + toIndex);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void parallelSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+            checkForComodification();
+            if (fromIndex < 0 || toIndex >= size) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            checkRange(fromIndex, toIndex);
+            MyArrayList.this.parallelSort(offset + fromIndex, offset + toIndex, comparator);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+            checkForComodification();
+            if (fromIndex < 0 || toIndex >= size) {
+                throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+            }
+            checkRange(fromIndex, toIndex);
+            MyArrayList.this.stableSort(offset + fromIndex, offset + toIndex, comparator);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            checkForComodification();
+            return new Iterator<>() {
+                private int cursor = offset;
+
+                @Override
+                public boolean hasNext() {
+                    return cursor < offset + size;
+                }
+
+                @Override
+                public E next() {
+                    checkForComodification();
+                    if (cursor >= offset + size) {
+                        throw new NoSuchElementException();
+                    }
+                    return elementData(cursor++);
+                }
+            };
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return MyLists.equals(this, o);
+        }
+
+        @Override
+        public int hashCode() {
+            return MyLists.hashCode(this);
+        }
+
+        @Override
+        public String toString() {
+            checkForComodification();
+            StringBuilder stringBuilder = new StringBuilder();
+            stringBuilder.append("{ ");
+            for (int i = offset; i < offset + size; i++) {
+                stringBuilder.append(elements[i]);
+                if (i < offset + size - 1) {
+                    stringBuilder.append(", ");
+                }
+            }
+            stringBuilder.append(" }");
+            return stringBuilder.toString();
+        }
+    }
+
+    private class Itr implements Iterator<E> {
+        int cursor;
+        int lastReturned = -1;
+        int expectedModCount = modCount;
+
+        Itr(int index) {
+            cursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cursor != size;
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            int i = cursor;
+            if (i >= size) {
+                throw new NoSuchElementException();
+            }
+            cursor = i + 1;
+            return elementData(lastReturned = i);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            fastRemove(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int length = size;
+            int i = cursor;
+            Object[] es = elements;
+            for (; i < length && modCount == expectedModCount; i++) {
+                action.accept(elementAt(es, i));
+            }
+            cursor = i;
+            lastReturned = i - 1;
+            checkForComodification();
+        }
+
+        final void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    private class ListItr extends Itr implements ListIterator<E> {
+
+        ListItr(int index) {
+            super(index);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return cursor != 0;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            int i = cursor - 1;
+            if (i < 0) {
+                throw new NoSuchElementException();
+            }
+            cursor = i;
+            return elementData(lastReturned = i);
+        }
+
+        @Override
+        public int nextIndex() {
+            return cursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return cursor - 1;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            MyArrayList.this.set(lastReturned, element);
+        }
+
+        @Override
+        public void add(E element) {
+            checkForComodification();
+            MyArrayList.this.add(cursor, element);
+            cursor++;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class ArraySpliterator implements Spliterator<E> {
+        private int index;
+        private int fence;
+        private int expectedModCount;
+
+        ArraySpliterator(int origin, int fence, int expectedModCount) {
+            this.index = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        private int getFence() {
+            int hi = fence;
+            if (hi < 0) {
+                expectedModCount = modCount;
+                hi = fence = size;
+            }
+            return hi;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int hi = getFence();
+            int lo = index;
+            int middle = (lo + hi) >>> 1;
+            if (lo >= middle) {
+                return null;
+            }
+            index = middle;
+            return new ArraySpliterator(lo, middle, expectedModCount);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            if (i >= hi) {
+                return false;
+            }
+            index = i + 1;
+            action.accept(elementData(i));
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            Objects.requireNonNull(action);
+            int hi = getFence();
+            int i = index;
+            Object[] es = elements;
+            index = hi;
+            if (hi > es.length) {
+                throw new ConcurrentModificationException();
+            }
+            for (; i < hi; i++) {
+                action.accept(elementAt(es, i));
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * Сохраняет состояние списка в поток: размер, а затем только занятые ячейки массива,
+     * без неиспользуемой емкости.
+     *
+     * @param out поток для записи.
+     * @throws IOException при ошибке записи.
+     */
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        int expectedModCount = modCount;
+        out.defaultWriteObject();
+        for (int i = 0; i < size; i++) {
+            out.writeObject(elements[i]);
+        }
+        if (modCount != expectedModCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    /**
+     * Восстанавливает список из потока в массив, емкость которого равна размеру списка,
+     * но не меньше емкости по умолчанию.
+     *
+     * @param in поток для чтения.
+     * @throws IOException            при ошибке чтения.
+     * @throws ClassNotFoundException если класс элемента не найден.
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (size < 0) {
+            throw new InvalidObjectException("Size can't be negative. Your value: " + size);
+        }
+        Object[] es = new Object[Math.max(size, DEFAULT_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            es[i] = in.readObject();
+        }
+        elements = es;
+        metrics = MyListMetrics.NONE;
+        pivotStrategy = PivotStrategy.MEDIAN_OF_THREE;
+        parallelSettings = ParallelSettings.DEFAULT;
+        if (growthPolicy == null) {
+            growthPolicy = GrowthPolicy.DEFAULT;
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList,
+     * оба списка имеют одинаковый размер и все соответствующие пары элементов в двух списках равны.
+     * (Два элемента e1 и e2 равны, если Objects.equals(e1, e2).)
+     * Другими словами, два списка считаются равными, если они содержат одни и те же элементы в одном и том же порядке.
+     * Емкость списков не учитывается.
+     * <p>
+     * Два MyArrayList сравниваются по первым size ячейкам массивов, сравнение прекращается на первом различии.
+     * Если у обоих списков включено кэширование хэш-кода и хэш-коды вычислены, списки с разными хэш-кодами
+     * признаются неравными без сравнения элементов. Списки других классов сравниваются методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof MyArrayList)) return MyLists.equals(this, o);
+        MyArrayList<?> that = (MyArrayList<?>) o;
+        if (size != that.size) return false;
+        if (hasCachedHash() && that.hasCachedHash() && cachedHash != that.cachedHash) return false;
+        return Arrays.equals(elements, 0, size, that.elements, 0, size);
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка, вычисленное по его элементам так же, как в MyLists.hashCode.
+     * Если кэширование хэш-кода включено, значение вычисляется один раз и пересчитывается
+     * только после изменения списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        if (hasCachedHash()) {
+            return cachedHash;
+        }
+        Object[] es = elements;
+        int length = size;
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + Objects.hashCode(es[i]);
+        }
+        if (hashCaching) {
+            cachedHash = result;
+            hashModCount = modCount;
+            hashValid = true;
+        }
+        return result;
+    }
+
+    /**
+     * Включает или выключает кэширование хэш-кода этого списка.
+     * Кэш сбрасывается при любом изменении списка через его методы, итераторы и представления,
+     * но не при изменении состояния самих элементов, поэтому кэширование подходит для списков
+     * неизменяемых элементов, например используемых как ключи HashMap.
+     *
+     * @param hashCaching true, чтобы кэшировать хэш-код.
+     */
+    public void setHashCaching(boolean hashCaching) {
+        this.hashCaching = hashCaching;
+        this.hashValid = false;
+    }
+
+    private boolean hasCachedHash() {
+        return hashCaching && hashValid && hashModCount == modCount;
     }
 
     /**
@@ -0,0 +1,229 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Пул списков MyArrayList для коротких задач, которые создают и выбрасывают много списков.
+ * <p>
+ * Каждый поток хранит собственные свободные списки, поэтому acquire и release не синхронизируются.
+ * Свободные списки разложены по классам размеров: в класс c попадают списки емкостью от 2^c до 2^(c+1) - 1,
+ * и acquire(expectedSize) выдает список из наименьшего непустого класса, вмещающего expectedSize элементов.
+ * Возвращенный список очищается с сохранением массива, поэтому повторно выданный список
+ * сохраняет набранную емкость. Списки емкостью больше maxPooledCapacity не сохраняются,
+ * чтобы пул не удерживал редкие большие массивы.
+ * <p>
+ * Список нельзя использовать после release. Повторный возврат или возврат списка, выданного другим пулом,
+ * завершается исключением IllegalStateException. В режиме поиска утечек пул запоминает место выдачи
+ * каждого списка и сообщает о списках, которые были собраны сборщиком мусора без возврата в пул.
+ * Режим включается конструктором или системным свойством LEAK_DETECTION_PROPERTY и замедляет выдачу.
+ *
+ * @author Sharychenkov Eugene
+ */
+public class MyArrayListPool {
+
+    /**
+     * Системное свойство, включающее поиск утечек в пулах, созданных конструктором без аргументов.
+     */
+    public static final String LEAK_DETECTION_PROPERTY = "ru.sanctio.dataStructures.myList.pool.detectLeaks";
+
+    private static final int SIZE_CLASSES = Integer.SIZE - 1;
+    private static final System.Logger LOGGER = System.getLogger(MyArrayListPool.class.getName());
+
+    private final int maxListsPerClass;
+    private final int maxPooledCapacity;
+    private final boolean detectLeaks;
+    private final ThreadLocal<ArrayDeque<MyArrayList<?>>[]> freeLists;
+    private final Set<Lease> leases;
+    private final ReferenceQueue<MyArrayList<?>> collected;
+    private final LongAdder leakCount = new LongAdder();
+
+    /**
+     * Создает пул, хранящий в каждом потоке до 64 списков каждого класса размеров емкостью до 65536 элементов.
+     * Поиск утечек включен, если задано системное свойство LEAK_DETECTION_PROPERTY со значением true.
+     */
+    public MyArrayListPool() {
+        this(64, 1 << 16, Boolean.getBoolean(LEAK_DETECTION_PROPERTY));
+    }
+
+    /**
+     * Создает пул с указанными ограничениями.
+     *
+     * @param maxListsPerClass  наибольшее количество свободных списков одного класса размеров в одном потоке.
+     * @param maxPooledCapacity наибольшая емкость списка, который возвращается в пул.
+     * @param detectLeaks       true, чтобы искать списки, не возвращенные в пул.
+     * @throws IllegalArgumentException если одно из ограничений отрицательно.
+     */
+    @SuppressWarnings("unchecked")
+    public MyArrayListPool(int maxListsPerClass, int maxPooledCapacity, boolean detectLeaks) {
+        if (maxListsPerClass < 0) {
+            throw new IllegalArgumentException("MaxListsPerClass can't be negative. Your value: " + maxListsPerClass);
+        }
+        if (maxPooledCapacity < 0) {
+            throw new IllegalArgumentException("MaxPooledCapacity can't be negative. Your value: " + maxPooledCapacity);
+        }
+        this.maxListsPerClass = maxListsPerClass;
+        this.maxPooledCapacity = maxPooledCapacity;
+        this.detectLeaks = detectLeaks;
+        this.freeLists = ThreadLocal.withInitial(MyArrayListPool::newSizeClasses);
+        this.leases = detectLeaks ? ConcurrentHashMap.newKeySet() : null;
+        this.collected = detectLeaks ? new ReferenceQueue<>() : null;
+    }
+
+    /**
+     * Выдает пустой список из пула или создает новый, если в пуле текущего потока нет свободных списков.
+     *
+     * @param <E> тип элементов списка.
+     * @return пустой список, который нужно вернуть методом release.
+     */
+    public <E> MyArrayList<E> acquire() {
+        return acquire(0);
+    }
+
+    /**
+     * Выдает пустой список емкостью не меньше expectedSize из пула
+     * или создает новый, если в пуле текущего потока нет подходящих списков.
+     * Сначала просматривается размерный класс, содержащий expectedSize, затем классы больших списков.
+     *
+     * @param expectedSize ожидаемое количество элементов.
+     * @param <E>          тип элементов списка.
+     * @return пустой список, который нужно вернуть методом release.
+     * @throws IllegalArgumentException если expectedSize отрицателен.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> MyArrayList<E> acquire(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("ExpectedSize can't be negative. Your value: " + expectedSize);
+        }
+        ArrayDeque<MyArrayList<?>>[] classes = freeLists.get();
+        int ceil = ceilSizeClass(expectedSize);
+        MyArrayList<E> list = null;
+        if (expectedSize > 0 && floorSizeClass(expectedSize) < ceil) {
+            //в классе с нижней границей меньше expectedSize могут найтись списки достаточной емкости
+            list = (MyArrayList<E>) pollFitting(classes[floorSizeClass(expectedSize)], expectedSize);
+        }
+        for (int c = ceil; c < SIZE_CLASSES && list == null; c++) {
+            if (classes[c] != null) {
+                list = (MyArrayList<E>) classes[c].pollFirst();
+            }
+        }
+        if (list == null) {
+            list = expectedSize == 0 ? new MyArrayList<>() : new MyArrayList<>(expectedSize);
+        }
+        if (detectLeaks) {
+            reportLeaks();
+            Lease lease = new Lease(list, this, collected);
+            leases.add(lease);
+            list.poolLease = lease;
+        } else {
+            list.poolLease = this;
+        }
+        return list;
+    }
+
+    /**
+     * Возвращает список в пул текущего потока. Список очищается, его стратегия роста, получатель метрик,
+     * кэширование хэш-кода, параметры параллельных операций и стратегия выбора опорного элемента
+     * сбрасываются к значениям по умолчанию. После вызова список нельзя использовать.
+     *
+     * @param list список, выданный этим пулом.
+     * @throws IllegalStateException если список не выдан этим пулом или уже возвращен.
+     */
+    public void release(MyArrayList<?> list) {
+        Object lease = list.poolLease;
+        if (lease instanceof Lease && ((Lease) lease).pool == this) {
+            leases.remove(lease);
+            ((Lease) lease).clear();
+        } else if (lease != this) {
+            throw new IllegalStateException("List is not acquired from this pool or is already released");
+        }
+        list.poolLease = null;
+        int capacity = list.capacity();
+        if (capacity == 0 || capacity > maxPooledCapacity) {
+            return;
+        }
+        list.clear(true);
+        list.setGrowthPolicy(GrowthPolicy.DEFAULT);
+        list.setMetrics(MyListMetrics.NONE);
+        list.setHashCaching(false);
+        list.setParallelSettings(ParallelSettings.DEFAULT);
+        list.setPivotStrategy(PivotStrategy.MEDIAN_OF_THREE);
+        ArrayDeque<MyArrayList<?>>[] classes = freeLists.get();
+        int c = floorSizeClass(capacity);
+        if (classes[c] == null) {
+            classes[c] = new ArrayDeque<>();
+        }
+        if (classes[c].size() < maxListsPerClass) {
+            classes[c].addFirst(list);
+        }
+    }
+
+    /**
+     * Проверяет, были ли собраны сборщиком мусора списки, не возвращенные в пул,
+     * и записывает в журнал место их выдачи. В режиме поиска утечек вызывается также при каждой выдаче.
+     *
+     * @return количество утечек, найденных за все время работы пула; 0, если поиск утечек выключен.
+     */
+    public long reportLeaks() {
+        if (!detectLeaks) {
+            return 0;
+        }
+        Reference<? extends MyArrayList<?>> reference;
+        while ((reference = collected.poll()) != null) {
+            Lease lease = (Lease) reference;
+            if (leases.remove(lease)) {
+                leakCount.increment();
+                LOGGER.log(System.Logger.Level.WARNING,
+                        "MyArrayList was garbage collected without being released to the pool", lease.acquiredAt);
+            }
+        }
+        return leakCount.sum();
+    }
+
+    private static MyArrayList<?> pollFitting(ArrayDeque<MyArrayList<?>> freeList, int expectedSize) {
+        if (freeList != null) {
+            for (Iterator<MyArrayList<?>> iterator = freeList.iterator(); iterator.hasNext(); ) {
+                MyArrayList<?> list = iterator.next();
+                if (list.capacity() >= expectedSize) {
+                    iterator.remove();
+                    return list;
+                }
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ArrayDeque<MyArrayList<?>>[] newSizeClasses() {
+        return new ArrayDeque[SIZE_CLASSES];
+    }
+
+    private static int floorSizeClass(int capacity) {
+        return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(capacity);
+    }
+
+    private static int ceilSizeClass(int size) {
+        return size <= 1 ? 0 : Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+    }
+
+    /**
+     * Выданный список в режиме поиска утечек. Ссылка не удерживает список от сборки мусора
+     * и попадает в очередь, если список собран до возврата в пул.
+     */
+    private static final class Lease extends PhantomReference<MyArrayList<?>> {
+        private final MyArrayListPool pool;
+        private final Throwable acquiredAt;
+
+        Lease(MyArrayList<?> list, MyArrayListPool pool, ReferenceQueue<MyArrayList<?>> queue) {
+            super(list, queue);
+            this.pool = pool;
+            this.acquiredAt = new Throwable("MyArrayList acquired here");
+        }
+    }
+}
@@ -1,6 +1,19 @@
 package ru.sanctio.dataStructures.myList;
 
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Упорядоченная коллекция элементов. Пользователь этого интерфейса имеет точный контроль над тем,
@@ -16,8 +29,9 @@ import java.util.Comparator;
  * Позволяет заменить элемент в указанной позиции в этом списке указанным элементом.
  * Предоставляет возможность отсортировать этот список в порядке возрастания в соответствии с естественным
  * порядком его элементов, или в соответствии с заданным компаратором.
+ * Элементы списка можно обойти в цикле for-each, а также в последовательном или параллельном потоке.
  */
-public interface MyList<E> {
+public interface MyList<E> extends Iterable<E> {
     /**
      * Добавляет указанный элемент в конец списка.
      *
@@ -112,4 +126,274 @@ public interface MyList<E> {
      */
     void sort(int fromIndex, int toIndex);
 
+    /**
+     * Сортирует указанный диапазон списка объектов в порядке возрастания
+     * в соответствии с указанным Comparator'ом, используя несколько потоков, если реализация это поддерживает.
+     * Реализация по умолчанию сортирует диапазон последовательно методом sort.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     */
+    default void parallelSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        sort(fromIndex, toIndex, comparator);
+    }
+
+    /**
+     * Сортирует указанный диапазон списка объектов в порядке возрастания
+     * в соответствии с естественным порядком его элементов,
+     * используя несколько потоков, если реализация это поддерживает.
+     * Реализация по умолчанию сортирует диапазон последовательно методом sort.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     */
+    default void parallelSort(int fromIndex, int toIndex) {
+        sort(fromIndex, toIndex);
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон списка объектов в соответствии с указанным Comparator'ом:
+     * равные элементы сохраняют свой взаимный порядок.
+     * Используется слияние естественных серий, поэтому на почти упорядоченных данных сортировка работает
+     * почти за линейное время.
+     * Реализация по умолчанию копирует диапазон во временный массив методом get и записывает результат методом set.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы списка или fromIndex > toIndex.
+     */
+    @SuppressWarnings("unchecked")
+    default void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size()) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        E[] range = (E[]) new Object[toIndex - fromIndex + 1];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = get(fromIndex + i);
+        }
+        RunMergeSort.sort(range, 0, range.length - 1, comparator);
+        for (int i = 0; i < range.length; i++) {
+            set(fromIndex + i, range[i]);
+        }
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон списка объектов в порядке возрастания
+     * в соответствии с естественным порядком его элементов.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws IllegalArgumentException если указанные индексы выходят за границы списка или fromIndex > toIndex.
+     */
+    default void stableSort(int fromIndex, int toIndex) {
+        stableSort(fromIndex, toIndex, Sorting.NATURAL_ORDER);
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения к нему указанной функции.
+     * Реализация по умолчанию читает и записывает элементы методами get(int) и set.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws NullPointerException если функция равна null.
+     */
+    default void replaceAll(UnaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        for (int i = 0; i < size(); i++) {
+            set(i, operator.apply(get(i)));
+        }
+    }
+
+    /**
+     * Заменяет каждый элемент списка результатом применения к нему указанной функции,
+     * используя несколько потоков, если реализация это поддерживает. Функция может вызываться
+     * одновременно из разных потоков и в любом порядке, поэтому не должна зависеть от порядка обхода.
+     * Реализация по умолчанию выполняет replaceAll последовательно.
+     *
+     * @param operator функция, применяемая к каждому элементу.
+     * @throws NullPointerException если функция равна null.
+     */
+    default void parallelReplaceAll(UnaryOperator<E> operator) {
+        replaceAll(operator);
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента списка, используя несколько потоков,
+     * если реализация это поддерживает. Действие может вызываться одновременно из разных потоков
+     * и в любом порядке.
+     * Реализация по умолчанию выполняет forEach последовательно.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws NullPointerException если действие равно null.
+     */
+    default void parallelForEach(Consumer<? super E> action) {
+        forEach(action);
+    }
+
+    /**
+     * Сворачивает элементы списка указанной операцией, начиная с identity:
+     * результат равен operator(...operator(operator(identity, e0), e1)..., en).
+     *
+     * @param identity начальное значение, нейтральное для операции.
+     * @param operator ассоциативная операция объединения.
+     * @return результат свертки; identity, если список пуст.
+     * @throws NullPointerException если операция равна null.
+     */
+    default E reduce(E identity, BinaryOperator<E> operator) {
+        Objects.requireNonNull(operator);
+        E result = identity;
+        for (E element : this) {
+            result = operator.apply(result, element);
+        }
+        return result;
+    }
+
+    /**
+     * Сворачивает элементы списка указанной операцией, используя несколько потоков,
+     * если реализация это поддерживает. Каждая часть списка сворачивается начиная с identity,
+     * после чего результаты частей объединяются той же операцией в порядке следования частей,
+     * поэтому результат совпадает с reduce, только если identity нейтрально, а операция ассоциативна.
+     * Реализация по умолчанию выполняет reduce последовательно.
+     *
+     * @param identity начальное значение, нейтральное для операции.
+     * @param operator ассоциативная операция объединения.
+     * @return результат свертки; identity, если список пуст.
+     * @throws NullPointerException если операция равна null.
+     */
+    default E parallelReduce(E identity, BinaryOperator<E> operator) {
+        return reduce(identity, operator);
+    }
+
+    /**
+     * Собирает элементы списка в изменяемый контейнер, как Stream.collect.
+     *
+     * @param supplier    создает новый пустой контейнер.
+     * @param accumulator добавляет элемент в контейнер.
+     * @param combiner    переносит содержимое второго контейнера в первый;
+     *                    при последовательном выполнении не вызывается.
+     * @param <R>         тип контейнера.
+     * @return контейнер с элементами списка.
+     * @throws NullPointerException если любой из аргументов равен null.
+     */
+    default <R> R collect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator, BiConsumer<R, R> combiner) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(accumulator);
+        Objects.requireNonNull(combiner);
+        R container = supplier.get();
+        for (E element : this) {
+            accumulator.accept(container, element);
+        }
+        return container;
+    }
+
+    /**
+     * Собирает элементы списка в изменяемый контейнер, используя несколько потоков,
+     * если реализация это поддерживает. Каждая часть списка собирается в свой контейнер,
+     * после чего контейнеры объединяются combiner'ом в порядке следования частей.
+     * Реализация по умолчанию выполняет collect последовательно.
+     *
+     * @param supplier    создает новый пустой контейнер.
+     * @param accumulator добавляет элемент в контейнер.
+     * @param combiner    переносит содержимое второго контейнера в первый.
+     * @param <R>         тип контейнера.
+     * @return контейнер с элементами списка.
+     * @throws NullPointerException если любой из аргументов равен null.
+     */
+    default <R> R parallelCollect(Supplier<R> supplier, BiConsumer<R, ? super E> accumulator,
+                                  BiConsumer<R, R> combiner) {
+        return collect(supplier, accumulator, combiner);
+    }
+
+    /**
+     * Возвращает итератор по элементам списка в порядке их расположения.
+     * Реализация по умолчанию обходит элементы по индексам методом get(int) и не поддерживает удаление.
+     *
+     * @return итератор по элементам списка.
+     */
+    @Override
+    default Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size();
+            }
+
+            @Override
+            public E next() {
+                if (cursor >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return get(cursor++);
+            }
+        };
+    }
+
+    /**
+     * Возвращает Spliterator по элементам списка с характеристиками ORDERED, SIZED и SUBSIZED.
+     * Реализация по умолчанию делит диапазон индексов пополам и читает элементы методом get(int).
+     *
+     * @return Spliterator по элементам списка.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return new RandomAccessSpliterator<>(this);
+    }
+
+    /**
+     * Возвращает ленивое представление элементов списка, преобразованных указанной функцией.
+     * Функция применяется при обходе представления, промежуточный список не создается.
+     *
+     * @param mapper функция преобразования.
+     * @param <R>    тип элементов представления.
+     * @return ленивое представление.
+     */
+    default <R> MyListView<R> map(Function<? super E, ? extends R> mapper) {
+        return MyListView.of(this).map(mapper);
+    }
+
+    /**
+     * Возвращает ленивое представление элементов списка, удовлетворяющих условию.
+     * Условие проверяется при обходе представления, промежуточный список не создается.
+     *
+     * @param predicate условие, возвращающее true для оставляемых элементов.
+     * @return ленивое представление.
+     */
+    default MyListView<E> filter(Predicate<? super E> predicate) {
+        return MyListView.of(this).filter(predicate);
+    }
+
+    /**
+     * Возвращает ленивое представление не более чем maxSize первых элементов списка.
+     *
+     * @param maxSize наибольшее количество элементов.
+     * @return ленивое представление.
+     * @throws IllegalArgumentException если maxSize отрицателен.
+     */
+    default MyListView<E> limit(long maxSize) {
+        return MyListView.of(this).limit(maxSize);
+    }
+
+    /**
+     * Возвращает последовательный поток элементов списка.
+     *
+     * @return последовательный поток элементов списка.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Возвращает параллельный поток элементов списка.
+     *
+     * @return параллельный поток элементов списка.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
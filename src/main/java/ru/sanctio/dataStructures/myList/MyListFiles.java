@@ -0,0 +1,181 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Сохранение списков в компактном двоичном формате и их загрузка.
+ * <p>
+ * Файл начинается с заголовка из четырех чисел int: сигнатуры, версии формата, размера элемента в байтах
+ * и количества элементов. За заголовком подряд следуют элементы, закодированные ElementCodec'ом,
+ * без разделителей. Все числа записываются в порядке little-endian, который совпадает с порядком байтов
+ * распространенных платформ, поэтому файл переносим между ними.
+ * <p>
+ * Элементы кодируются в прямой буфер и передаются через FileChannel большими блоками.
+ * Для чтения без загрузки всего файла в память используется map, возвращающий MappedMyList.
+ *
+ * @author Sharychenkov Eugene
+ */
+public final class MyListFiles {
+
+    /**
+     * Сигнатура файла: байты "MYLS".
+     */
+    static final int MAGIC = 0x4D594C53;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 4 * Integer.BYTES;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    /**
+     * Размер блока, которым элементы передаются через FileChannel.
+     */
+    private static final int BLOCK_SIZE = 1 << 20;
+
+    private MyListFiles() {
+    }
+
+    /**
+     * Записывает элементы указанного списка в файл, заменяя его содержимое.
+     *
+     * @param list  список для сохранения.
+     * @param codec кодек элементов списка.
+     * @param path  путь к файлу.
+     * @param <E>   тип элементов списка.
+     * @throws IOException          при ошибке записи.
+     * @throws NullPointerException если список содержит null, а кодек не поддерживает null элементы.
+     */
+    public static <E> void write(MyList<? extends E> list, ElementCodec<E> codec, Path path) throws IOException {
+        int elementSize = checkElementSize(codec);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = DirectMemory.allocate(blockSize(elementSize)).order(BYTE_ORDER);
+            try {
+                buffer.putInt(MAGIC).putInt(VERSION).putInt(elementSize).putInt(list.size());
+                for (E element : list) {
+                    if (buffer.remaining() < elementSize) {
+                        flush(buffer, channel);
+                    }
+                    codec.write(buffer, buffer.position(), element);
+                    buffer.position(buffer.position() + elementSize);
+                }
+                flush(buffer, channel);
+            } finally {
+                DirectMemory.free(buffer);
+            }
+        }
+    }
+
+    /**
+     * Читает все элементы из файла в новый MyArrayList, емкость которого равна количеству элементов.
+     *
+     * @param path  путь к файлу.
+     * @param codec кодек элементов, которым файл был записан.
+     * @param <E>   тип элементов списка.
+     * @return список с элементами из файла.
+     * @throws IOException если файл не является файлом списка, записан кодеком другого размера,
+     *                     поврежден или не может быть прочитан.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyArrayList<E> read(Path path, ElementCodec<E> codec) throws IOException {
+        int elementSize = checkElementSize(codec);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            int count = readHeader(channel, elementSize);
+            if (channel.size() < HEADER_SIZE + (long) count * elementSize) {
+                throw new IOException("File is truncated: " + path);
+            }
+            MyArrayList<E> list = new MyArrayList<>(count);
+            ByteBuffer buffer = DirectMemory.allocate(blockSize(elementSize)).order(BYTE_ORDER);
+            try {
+                int remaining = count;
+                while (remaining > 0) {
+                    int blockCount = Math.min(remaining, buffer.capacity() / elementSize);
+                    buffer.clear().limit(blockCount * elementSize);
+                    readFully(buffer, channel);
+                    Object[] block = new Object[blockCount];
+                    for (int i = 0; i < blockCount; i++) {
+                        block[i] = codec.read(buffer, i * elementSize);
+                    }
+                    list.addAll((E[]) block);
+                    remaining -= blockCount;
+                }
+            } finally {
+                DirectMemory.free(buffer);
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Открывает файл как неизменяемый список, отображенный в память.
+     * Элементы не читаются заранее: операционная система подгружает страницы файла при обращении к ним,
+     * поэтому открытие файла любого размера выполняется быстро.
+     *
+     * @param path  путь к файлу.
+     * @param codec кодек элементов, которым файл был записан.
+     * @param <E>   тип элементов списка.
+     * @return список, отображенный в память; должен быть закрыт методом close.
+     * @throws IOException если файл не является файлом списка, записан кодеком другого размера,
+     *                     поврежден или не может быть открыт.
+     */
+    public static <E> MappedMyList<E> map(Path path, ElementCodec<E> codec) throws IOException {
+        return new MappedMyList<>(path, codec, MappedMyList.DEFAULT_REGION_SIZE);
+    }
+
+    static int checkElementSize(ElementCodec<?> codec) {
+        int elementSize = Objects.requireNonNull(codec).size();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Element size must be positive. Your value: " + elementSize);
+        }
+        return elementSize;
+    }
+
+    /**
+     * Читает и проверяет заголовок файла.
+     *
+     * @return количество элементов в файле.
+     */
+    static int readHeader(FileChannel channel, int elementSize) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(BYTE_ORDER);
+        channel.position(0);
+        readFully(header, channel);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a MyList file");
+        }
+        if (header.getInt(4) != VERSION) {
+            throw new IOException("Unsupported format version: " + header.getInt(4));
+        }
+        if (header.getInt(8) != elementSize) {
+            throw new IOException("Element size mismatch. File: " + header.getInt(8) + ", codec: " + elementSize);
+        }
+        int count = header.getInt(12);
+        if (count < 0) {
+            throw new IOException("Element count can't be negative. Your value: " + count);
+        }
+        return count;
+    }
+
+    private static int blockSize(int elementSize) {
+        return Math.max(BLOCK_SIZE / elementSize, 1) * elementSize + HEADER_SIZE;
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void readFully(ByteBuffer buffer, FileChannel channel) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package ru.sanctio.dataStructures.myList;
+
+/**
+ * Получатель метрик операций списка.
+ * Список сообщает о расширениях массива, сдвигах элементов, линейных поисках и сортировках,
+ * а реализация решает, как их накапливать и публиковать.
+ * Все методы по умолчанию ничего не делают, поэтому реализация может переопределить только нужные.
+ * <p>
+ * Методы вызываются в потоке, выполняющем операцию, и должны работать быстро.
+ * Если одна реализация подключена к нескольким спискам, она должна быть потокобезопасной.
+ *
+ * @author Sharychenkov Eugene
+ */
+public interface MyListMetrics {
+
+    /**
+     * Получатель, отбрасывающий все метрики. Список, к которому он подключен,
+     * не измеряет время операций и не вычисляет значения метрик.
+     */
+    MyListMetrics NONE = new MyListMetrics() {
+    };
+
+    /**
+     * Вызывается после расширения массива.
+     *
+     * @param oldCapacity    емкость до расширения.
+     * @param newCapacity    емкость после расширения.
+     * @param copiedElements количество ячеек, скопированных из старого массива в новый.
+     */
+    default void resized(int oldCapacity, int newCapacity, int copiedElements) {
+    }
+
+    /**
+     * Вызывается после сдвига элементов внутри массива при вставке или удалении по индексу.
+     *
+     * @param shiftedElements количество сдвинутых элементов.
+     */
+    default void shifted(int shiftedElements) {
+    }
+
+    /**
+     * Вызывается после линейного поиска элемента методами get(E) и remove(E).
+     *
+     * @param scannedElements количество просмотренных элементов.
+     * @param found           true, если элемент найден.
+     */
+    default void scanned(int scannedElements, boolean found) {
+    }
+
+    /**
+     * Вызывается после сортировки диапазона.
+     *
+     * @param length длина отсортированного диапазона.
+     * @param nanos  продолжительность сортировки в наносекундах.
+     */
+    default void sorted(int length, long nanos) {
+    }
+}
@@ -0,0 +1,212 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Ленивое представление элементов списка, преобразованных цепочкой операций map, filter и limit.
+ * <p>
+ * Операции не выполняются при построении представления: каждая из них только добавляет звено в цепочку.
+ * При обходе (iterator, forEach, count, toMyArrayList) звенья соединяются в одну функцию,
+ * и каждый элемент исходного списка проходит всю цепочку за один шаг, поэтому промежуточные списки
+ * не создаются, а исходный список просматривается один раз. После того как limit пропустил
+ * нужное количество элементов, просмотр исходного списка прекращается.
+ * <p>
+ * Представление можно обходить многократно, каждый обход заново читает исходный список
+ * и видит его текущее содержимое. Функции map и filter вызываются при каждом обходе.
+ *
+ * @param <E> тип элементов представления.
+ * @author Sharychenkov Eugene
+ */
+public final class MyListView<E> implements Iterable<E> {
+
+    private final MyList<?> source;
+    private final Function<Sink<? super E>, Sink<Object>> pipeline;
+
+    private MyListView(MyList<?> source, Function<Sink<? super E>, Sink<Object>> pipeline) {
+        this.source = source;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * Возвращает представление всех элементов указанного списка без преобразований.
+     *
+     * @param source исходный список.
+     * @param <E>    тип элементов списка.
+     * @return представление элементов списка.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> MyListView<E> of(MyList<E> source) {
+        Objects.requireNonNull(source);
+        return new MyListView<>(source, downstream -> (Sink<Object>) downstream);
+    }
+
+    /**
+     * Возвращает представление, элементы которого получены применением функции к элементам этого представления.
+     *
+     * @param mapper функция преобразования.
+     * @param <R>    тип элементов нового представления.
+     * @return новое представление.
+     */
+    public <R> MyListView<R> map(Function<? super E, ? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        return new MyListView<>(source, downstream -> pipeline.apply(new Sink<E>() {
+            @Override
+            public void accept(E element) {
+                downstream.accept(mapper.apply(element));
+            }
+
+            @Override
+            public boolean cancelled() {
+                return downstream.cancelled();
+            }
+        }));
+    }
+
+    /**
+     * Возвращает представление элементов этого представления, удовлетворяющих условию.
+     *
+     * @param predicate условие, возвращающее true для оставляемых элементов.
+     * @return новое представление.
+     */
+    public MyListView<E> filter(Predicate<? super E> predicate) {
+        Objects.requireNonNull(predicate);
+        return new MyListView<>(source, downstream -> pipeline.apply(new Sink<E>() {
+            @Override
+            public void accept(E element) {
+                if (predicate.test(element)) {
+                    downstream.accept(element);
+                }
+            }
+
+            @Override
+            public boolean cancelled() {
+                return downstream.cancelled();
+            }
+        }));
+    }
+
+    /**
+     * Возвращает представление не более чем maxSize первых элементов этого представления.
+     *
+     * @param maxSize наибольшее количество элементов.
+     * @return новое представление.
+     * @throws IllegalArgumentException если maxSize отрицателен.
+     */
+    public MyListView<E> limit(long maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("MaxSize can't be negative. Your value: " + maxSize);
+        }
+        return new MyListView<>(source, downstream -> pipeline.apply(new Sink<E>() {
+            private long passed;
+
+            @Override
+            public void accept(E element) {
+                if (passed < maxSize) {
+                    passed++;
+                    downstream.accept(element);
+                }
+            }
+
+            @Override
+            public boolean cancelled() {
+                return passed >= maxSize || downstream.cancelled();
+            }
+        }));
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента представления за один проход по исходному списку.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        Sink<Object> sink = pipeline.apply(action::accept);
+        Iterator<?> iterator = source.iterator();
+        while (!sink.cancelled() && iterator.hasNext()) {
+            sink.accept(iterator.next());
+        }
+    }
+
+    /**
+     * Возвращает итератор, который вычисляет элементы представления по мере обхода.
+     * Итератор читает из исходного списка только те элементы, которые нужны для следующего результата.
+     *
+     * @return итератор по элементам представления.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Iterator<?> iterator = source.iterator();
+            private final Sink<Object> sink = pipeline.apply(element -> {
+                next = element;
+                ready = true;
+            });
+            private E next;
+            private boolean ready;
+
+            @Override
+            public boolean hasNext() {
+                while (!ready && !sink.cancelled() && iterator.hasNext()) {
+                    sink.accept(iterator.next());
+                }
+                return ready;
+            }
+
+            @Override
+            public E next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                E element = next;
+                next = null;
+                ready = false;
+                return element;
+            }
+        };
+    }
+
+    /**
+     * Подсчитывает элементы представления.
+     *
+     * @return количество элементов представления.
+     */
+    public long count() {
+        long[] count = new long[1];
+        forEach(element -> count[0]++);
+        return count[0];
+    }
+
+    /**
+     * Вычисляет элементы представления в новый MyArrayList.
+     *
+     * @return новый список с элементами представления.
+     */
+    public MyArrayList<E> toMyArrayList() {
+        MyArrayList<E> list = new MyArrayList<>();
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Звено цепочки, принимающее элементы от предыдущего звена.
+     */
+    @FunctionalInterface
+    private interface Sink<T> {
+
+        void accept(T element);
+
+        /**
+         * @return true, если звено больше не принимает элементы и просмотр можно прекратить.
+         */
+        default boolean cancelled() {
+            return false;
+        }
+    }
+}
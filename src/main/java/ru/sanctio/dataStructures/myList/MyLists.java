@@ -0,0 +1,56 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Общие реализации equals и hashCode для списков MyList.
+ * <p>
+ * Все реализации MyList считают равными любые два списка, содержащие одни и те же элементы
+ * в одном и том же порядке, независимо от их классов и емкости, и вычисляют хэш-код по одной формуле:
+ * result = 31 * result + Objects.hashCode(element), начиная с 1, как java.util.List.
+ * Реализации сравнивают списки своего класса напрямую по внутреннему представлению,
+ * а списки других классов - методами этого класса.
+ *
+ * @author Sharychenkov Eugene
+ */
+public final class MyLists {
+
+    private MyLists() {
+    }
+
+    /**
+     * Сравнивает список с указанным объектом. Размеры сравниваются до элементов,
+     * элементы сравниваются одновременным обходом итераторами до первого различия.
+     *
+     * @param list список.
+     * @param o    объект для сравнения.
+     * @return true, если объект является MyList с теми же элементами в том же порядке.
+     */
+    public static boolean equals(MyList<?> list, Object o) {
+        if (list == o) return true;
+        if (!(o instanceof MyList)) return false;
+        MyList<?> that = (MyList<?>) o;
+        if (list.size() != that.size()) return false;
+        Iterator<?> first = list.iterator();
+        Iterator<?> second = that.iterator();
+        while (first.hasNext() && second.hasNext()) {
+            if (!Objects.equals(first.next(), second.next())) return false;
+        }
+        return first.hasNext() == second.hasNext();
+    }
+
+    /**
+     * Вычисляет хэш-код списка.
+     *
+     * @param list список.
+     * @return хэш-код, согласованный с equals для всех реализаций MyList.
+     */
+    public static int hashCode(MyList<?> list) {
+        int result = 1;
+        for (Object element : list) {
+            result = 31 * result + Objects.hashCode(element);
+        }
+        return result;
+    }
+}
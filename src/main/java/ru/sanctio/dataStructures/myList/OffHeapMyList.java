@@ -0,0 +1,594 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Реализация интерфейса MyList, хранящая элементы вне кучи Java в прямых буферах.
+ * Каждый элемент кодируется указанным ElementCodec'ом в последовательность байтов фиксированной длины,
+ * поэтому содержимое списка не просматривается сборщиком мусора.
+ * <p>
+ * Элементы размещаются в каталоге блоков не больше DEFAULT_CHUNK_SIZE байт, каждый из которых содержит
+ * целое число элементов, поэтому общий объем списка не ограничен размером одного ByteBuffer.
+ * Емкость увеличивается в полтора раза, как у MyArrayList, при этом заполненные блоки не копируются:
+ * растет только последний блок, а затем добавляются новые. Емкость не может превышать
+ * Integer.MAX_VALUE элементов. Не допускает null значений. Не является потокобезопасным.
+ * <p>
+ * Память освобождается явно методом close, после которого список нельзя использовать.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class OffHeapMyList<E> implements MyList<E>, AutoCloseable {
+
+    private final ElementCodec<E> codec;
+    private final int elementSize;
+    private final int maxCapacity;
+    private final int chunkLength;
+    private ByteBuffer[] chunks;
+    private int chunkCount;
+    private int capacity;
+    private int size;
+    private static final int DEFAULT_CAPACITY = 10;
+    static final int DEFAULT_CHUNK_SIZE = 1 << 30;
+
+    /**
+     * Создает пустой список с начальной емкостью равной десяти.
+     *
+     * @param codec кодек элементов списка.
+     */
+    public OffHeapMyList(ElementCodec<E> codec) {
+        this(codec, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью.
+     *
+     * @param codec           кодек элементов списка.
+     * @param initialCapacity начальная емкость списка.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна,
+     *                                  либо размер элемента не положителен.
+     */
+    public OffHeapMyList(ElementCodec<E> codec, int initialCapacity) {
+        this(codec, initialCapacity, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Создает пустой список с указанной начальной емкостью и размером блока.
+     *
+     * @param codec           кодек элементов списка.
+     * @param initialCapacity начальная емкость списка.
+     * @param chunkSize       наибольший размер одного блока в байтах.
+     * @throws IllegalArgumentException если заданная начальная емкость отрицательна,
+     *                                  либо размер элемента или блока не положителен.
+     */
+    OffHeapMyList(ElementCodec<E> codec, int initialCapacity, int chunkSize) {
+        this.codec = Objects.requireNonNull(codec);
+        elementSize = codec.size();
+        if (elementSize <= 0) {
+            throw new IllegalArgumentException("Element size must be positive. Your value: " + elementSize);
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive. Your value: " + chunkSize);
+        }
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("InitialCapacity can't be negative. Your value: " + initialCapacity);
+        }
+        maxCapacity = Integer.MAX_VALUE;
+        chunkLength = Math.max(chunkSize / elementSize, 1);
+        chunks = new ByteBuffer[0];
+        resize(initialCapacity);
+    }
+
+    /**
+     * Добавляет указанный элемент в конец этого списка.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если емкость списка может превысить Integer.MAX_VALUE элементов.
+     * @throws NullPointerException           если указанный элемент равен null.
+     */
+    @Override
+    public void add(E element) {
+        Objects.requireNonNull(element);
+        checkCapacity(size);
+        write(size, element);
+        size++;
+    }
+
+    /**
+     * Добавляет указанный элемент на указанный индекс.
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен в этот список.
+     * @throws ArrayIndexOutOfBoundsException если емкость списка может превысить Integer.MAX_VALUE элементов.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     * @throws NullPointerException           если указанный элемент равен null.
+     */
+    @Override
+    public void add(int index, E element) {
+        Objects.requireNonNull(element);
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        checkCapacity(size);
+        moveElements(index, index + 1, size - index);
+        write(index, element);
+        size++;
+    }
+
+    /**
+     * Проверяет возможность добавить новый элемент в этот список.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void checkCapacity(int minCapacity) {
+        ensureOpen();
+        if (minCapacity >= maxCapacity) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more " + maxCapacity);
+        }
+        if (minCapacity == capacity) {
+            increasedCapacity(minCapacity + 1);
+        }
+    }
+
+    /**
+     * Увеличивает емкость, чтобы гарантировать, что она может содержать как минимум количество элементов,
+     * указанное аргументом минимальной емкости.
+     *
+     * @param minCapacity необходимая минимальная емкость.
+     */
+    private void increasedCapacity(int minCapacity) {
+        int oldCapacity = capacity;
+        long newCapacity = oldCapacity + (long) (oldCapacity >> 1);
+        if (newCapacity - minCapacity < 0) {
+            newCapacity = minCapacity;
+        }
+        if (newCapacity > maxCapacity) {
+            newCapacity = maxCapacity;
+        }
+        resize((int) newCapacity);
+    }
+
+    /**
+     * Доводит емкость списка до указанной: последний неполный блок заменяется большим,
+     * после чего добавляются новые блоки. Заменяемый блок освобождается сразу после копирования,
+     * полные блоки остаются на месте.
+     *
+     * @param newCapacity новая емкость, не меньше текущей.
+     */
+    private void resize(int newCapacity) {
+        int newChunkCount = (int) ((newCapacity + (long) chunkLength - 1) / chunkLength);
+        if (newChunkCount > chunks.length) {
+            chunks = Arrays.copyOf(chunks, newChunkCount);
+        }
+        if (chunkCount > 0) {
+            int last = chunkCount - 1;
+            int lastStart = last * chunkLength;
+            int lastLength = capacity - lastStart;
+            int newLastLength = (int) Math.min(chunkLength, (long) newCapacity - lastStart);
+            if (newLastLength > lastLength) {
+                ByteBuffer newChunk = DirectMemory.allocate(newLastLength * elementSize);
+                int used = Math.max(Math.min(size - lastStart, lastLength), 0);
+                newChunk.put(0, chunks[last], 0, used * elementSize);
+                DirectMemory.free(chunks[last]);
+                chunks[last] = newChunk;
+            }
+        }
+        for (int c = chunkCount; c < newChunkCount; c++) {
+            int length = (int) Math.min(chunkLength, (long) newCapacity - (long) c * chunkLength);
+            chunks[c] = DirectMemory.allocate(length * elementSize);
+        }
+        chunkCount = Math.max(chunkCount, newChunkCount);
+        capacity = newCapacity;
+    }
+
+    private ByteBuffer chunk(int index) {
+        return chunks[index / chunkLength];
+    }
+
+    private int offset(int index) {
+        return (index % chunkLength) * elementSize;
+    }
+
+    private E read(int index) {
+        return codec.read(chunk(index), offset(index));
+    }
+
+    private void write(int index, E element) {
+        codec.write(chunk(index), offset(index), element);
+    }
+
+    /**
+     * Копирует count элементов с индекса from на индекс to. Диапазоны могут перекрываться,
+     * копирование выполняется кусками, не пересекающими границы блоков.
+     */
+    private void moveElements(int from, int to, int count) {
+        if (to > from) {
+            for (int remaining = count; remaining > 0; ) {
+                int srcEnd = from + remaining;
+                int dstEnd = to + remaining;
+                int n = Math.min(remaining, Math.min((srcEnd - 1) % chunkLength + 1, (dstEnd - 1) % chunkLength + 1));
+                int src = srcEnd - n;
+                int dst = dstEnd - n;
+                chunk(dst).put(offset(dst), chunk(src), offset(src), n * elementSize);
+                remaining -= n;
+            }
+        } else {
+            for (int done = 0; done < count; ) {
+                int src = from + done;
+                int dst = to + done;
+                int n = Math.min(count - done,
+                        Math.min(chunkLength - src % chunkLength, chunkLength - dst % chunkLength));
+                chunk(dst).put(offset(dst), chunk(src), offset(src), n * elementSize);
+                done += n;
+            }
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        ensureOpen();
+        Objects.checkIndex(index, size);
+        return read(index);
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    private int indexOf(E element) {
+        ensureOpen();
+        for (int i = 0; i < size; i++) {
+            if (element.equals(read(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Если список не содержит элемента, он не изменяется.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        if (element == null) {
+            return false;
+        }
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        int lastIndex = size - 1;
+        if (lastIndex > index) {
+            moveElements(index + 1, index, lastIndex - index);
+        }
+        size = lastIndex;
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка и освобождает занятую ими память.
+     * Список будет пуст и будет иметь емкость равной десяти, после возврата этого вызова.
+     */
+    @Override
+    public void clear() {
+        ensureOpen();
+        freeChunks();
+        chunks = new ByteBuffer[0];
+        capacity = 0;
+        size = 0;
+        resize(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Заменяет элемент в указанной позиции в этом списке указанным элементом.
+     *
+     * @param index   индекс элемента для замены
+     * @param element элемент, который будет сохранен в указанной позиции
+     * @return элемент, ранее находившийся в указанной позиции
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (индекс < 0 || индекс >= размер())
+     * @throws NullPointerException      если указанный элемент равен null.
+     */
+    @Override
+    public E set(int index, E element) {
+        Objects.requireNonNull(element);
+        E oldValue = get(index);
+        write(index, element);
+        return oldValue;
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в соответствии с указанным Comparator'ом.
+     * Элементы переставляются непосредственно в буфере, без копирования диапазона в кучу.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки этого списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        ensureOpen();
+        if (fromIndex == toIndex) {
+            return;
+        }
+        introSort(fromIndex, toIndex, Sorting.depthLimit(toIndex - fromIndex + 1), comparator, new byte[elementSize]);
+    }
+
+    /**
+     * Сортирует указанный диапазон этого списка в порядке возрастания
+     * в соответствии с естественным порядком его элементов.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @throws ClassCastException             если элементы не реализуют интерфейс Comparable.
+     * @throws ArrayIndexOutOfBoundsException если указанные индексы выходят за границы этого списка.
+     * @throws IllegalArgumentException       если fromIndex > toIndex.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new ArrayIndexOutOfBoundsException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        ensureOpen();
+        if (fromIndex == toIndex) {
+            return;
+        }
+        introSort(fromIndex, toIndex, Sorting.depthLimit(toIndex - fromIndex + 1), Sorting.NATURAL_ORDER,
+                new byte[elementSize]);
+    }
+
+    /**
+     * Интроспективная сортировка непосредственно в блоках: трехпутевое разбиение вокруг медианы трех,
+     * переход к пирамидальной сортировке при превышении предела глубины и сортировка вставками
+     * коротких диапазонов, как в Sorting.introSort. Опорный элемент декодируется один раз на разбиение,
+     * поэтому каждое сравнение декодирует только один элемент.
+     */
+    private void introSort(int low, int high, int depthLimit, Comparator<? super E> comparator, byte[] swapBuffer) {
+        while (high - low + 1 > Sorting.INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(low, high, comparator, swapBuffer);
+                return;
+            }
+            int middle = low + ((high - low) >>> 1);
+            E pivot = read(medianOfThree(low, middle, high, comparator));
+
+            //элементы меньше опорного попадают в [low, lt), равные - в [lt, gt], большие - в (gt, high]
+            int lt = low, i = low, gt = high;
+            while (i <= gt) {
+                int cmp = comparator.compare(read(i), pivot);
+                if (cmp < 0) {
+                    swap(lt++, i++, swapBuffer);
+                } else if (cmp > 0) {
+                    swap(i, gt--, swapBuffer);
+                } else {
+                    i++;
+                }
+            }
+
+            //рекурсия для меньшей части, цикл для большей, чтобы глубина стека была логарифмической
+            if (lt - low < high - gt) {
+                introSort(low, lt - 1, depthLimit, comparator, swapBuffer);
+                low = gt + 1;
+            } else {
+                introSort(gt + 1, high, depthLimit, comparator, swapBuffer);
+                high = lt - 1;
+            }
+        }
+        insertionSort(low, high, comparator, swapBuffer);
+    }
+
+    private int medianOfThree(int a, int b, int c, Comparator<? super E> comparator) {
+        E first = read(a);
+        E second = read(b);
+        E third = read(c);
+        if (comparator.compare(first, second) < 0) {
+            if (comparator.compare(second, third) < 0) return b;
+            return comparator.compare(first, third) < 0 ? c : a;
+        }
+        if (comparator.compare(first, third) < 0) return a;
+        return comparator.compare(second, third) < 0 ? c : b;
+    }
+
+    private void insertionSort(int low, int high, Comparator<? super E> comparator, byte[] swapBuffer) {
+        for (int i = low + 1; i <= high; i++) {
+            E current = read(i);
+            int j = i - 1;
+            while (j >= low && comparator.compare(read(j), current) > 0) {
+                j--;
+            }
+            if (j + 1 < i) {
+                chunk(i).get(offset(i), swapBuffer);
+                moveElements(j + 1, j + 2, i - j - 1);
+                chunk(j + 1).put(offset(j + 1), swapBuffer);
+            }
+        }
+    }
+
+    private void heapSort(int low, int high, Comparator<? super E> comparator, byte[] swapBuffer) {
+        int length = high - low + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(low, i, length, comparator, swapBuffer);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(low, low + end, swapBuffer);
+            siftDown(low, 0, end, comparator, swapBuffer);
+        }
+    }
+
+    private void siftDown(int base, int i, int length, Comparator<? super E> comparator, byte[] swapBuffer) {
+        E current = read(base + i);
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= length) {
+                return;
+            }
+            E childValue = read(base + child);
+            if (child + 1 < length) {
+                E right = read(base + child + 1);
+                if (comparator.compare(right, childValue) > 0) {
+                    child++;
+                    childValue = right;
+                }
+            }
+            if (comparator.compare(current, childValue) >= 0) {
+                return;
+            }
+            swap(base + i, base + child, swapBuffer);
+            i = child;
+        }
+    }
+
+    private void swap(int i, int j, byte[] swapBuffer) {
+        if (i == j) {
+            return;
+        }
+        ByteBuffer firstChunk = chunk(i);
+        ByteBuffer secondChunk = chunk(j);
+        int first = offset(i);
+        int second = offset(j);
+        firstChunk.get(first, swapBuffer);
+        firstChunk.put(first, secondChunk, second, elementSize);
+        secondChunk.put(second, swapBuffer);
+    }
+
+    /**
+     * Освобождает память, занятую элементами этого списка.
+     * Повторный вызов ничего не делает, любые другие операции после вызова
+     * завершаются исключением IllegalStateException.
+     */
+    @Override
+    public void close() {
+        if (chunks != null) {
+            freeChunks();
+            chunks = null;
+            capacity = 0;
+            size = 0;
+        }
+    }
+
+    private void freeChunks() {
+        for (int c = 0; c < chunkCount; c++) {
+            DirectMemory.free(chunks[c]);
+            chunks[c] = null;
+        }
+        chunkCount = 0;
+    }
+
+    private void ensureOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("List is closed");
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки OffHeapMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        OffHeapMyList<?> that = (OffHeapMyList<?>) o;
+        if (size != that.size) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(get(i), that.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < size; i++) {
+            result = 31 * result + Objects.hashCode(get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        for (int i = 0; i < size; i++) {
+            if (i < size - 1) {
+                stringBuilder.append(get(i)).append(", ");
+            } else {
+                stringBuilder.append(get(i));
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
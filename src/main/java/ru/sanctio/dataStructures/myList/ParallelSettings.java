@@ -0,0 +1,100 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Параметры параллельных массовых операций списка: parallelReplaceAll, parallelForEach,
+ * parallelReduce и parallelCollect.
+ * <p>
+ * Диапазон элементов делится пополам, пока части длиннее наибольшей из двух величин:
+ * порога последовательной обработки и длины диапазона, деленной на учетверенный параллелизм пула.
+ * Части короче порога обрабатываются в одном потоке без создания задач, поэтому порог следует выбирать
+ * так, чтобы обработка одной части занимала заметно больше времени, чем создание задачи ForkJoin.
+ * Если в пуле один поток, операция выполняется последовательно целиком.
+ * <p>
+ * Объекты этого класса неизменяемы.
+ *
+ * @author Sharychenkov Eugene
+ */
+public final class ParallelSettings {
+
+    /**
+     * Порог последовательной обработки по умолчанию.
+     */
+    public static final int DEFAULT_SEQUENTIAL_THRESHOLD = 1 << 13;
+
+    /**
+     * Общий ForkJoinPool и порог DEFAULT_SEQUENTIAL_THRESHOLD.
+     */
+    public static final ParallelSettings DEFAULT = new ParallelSettings(null, DEFAULT_SEQUENTIAL_THRESHOLD);
+
+    /**
+     * Пул задач; null означает общий ForkJoinPool, который запрашивается при каждой операции.
+     */
+    private final ForkJoinPool pool;
+    private final int sequentialThreshold;
+
+    private ParallelSettings(ForkJoinPool pool, int sequentialThreshold) {
+        if (sequentialThreshold <= 0) {
+            throw new IllegalArgumentException("Sequential threshold must be positive. Your value: "
+                    + sequentialThreshold);
+        }
+        this.pool = pool;
+        this.sequentialThreshold = sequentialThreshold;
+    }
+
+    /**
+     * Возвращает параметры с указанным пулом и порогом последовательной обработки.
+     *
+     * @param pool                пул, в котором выполняются задачи операции.
+     * @param sequentialThreshold наибольшая длина части, обрабатываемой одной задачей без деления.
+     * @return параметры параллельных операций.
+     * @throws NullPointerException     если пул равен null.
+     * @throws IllegalArgumentException если порог не положителен.
+     */
+    public static ParallelSettings of(ForkJoinPool pool, int sequentialThreshold) {
+        return new ParallelSettings(Objects.requireNonNull(pool), sequentialThreshold);
+    }
+
+    /**
+     * Возвращает параметры с общим ForkJoinPool и указанным порогом последовательной обработки.
+     *
+     * @param sequentialThreshold наибольшая длина части, обрабатываемой одной задачей без деления.
+     * @return параметры параллельных операций.
+     * @throws IllegalArgumentException если порог не положителен.
+     */
+    public static ParallelSettings withSequentialThreshold(int sequentialThreshold) {
+        return new ParallelSettings(null, sequentialThreshold);
+    }
+
+    /**
+     * Возвращает пул, в котором выполняются задачи операций.
+     *
+     * @return пул задач.
+     */
+    public ForkJoinPool pool() {
+        return pool == null ? ForkJoinPool.commonPool() : pool;
+    }
+
+    /**
+     * Возвращает наибольшую длину части, обрабатываемой одной задачей без деления.
+     *
+     * @return порог последовательной обработки.
+     */
+    public int sequentialThreshold() {
+        return sequentialThreshold;
+    }
+
+    /**
+     * Возвращает длину части, которая обрабатывается одной задачей, для диапазона указанной длины,
+     * или length, если диапазон нужно обработать последовательно целиком.
+     */
+    int leafSize(ForkJoinPool pool, int length) {
+        int parallelism = pool.getParallelism();
+        if (length <= sequentialThreshold || parallelism == 1) {
+            return length;
+        }
+        return Math.max(length / (parallelism << 2), sequentialThreshold);
+    }
+}
@@ -0,0 +1,820 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Неизменяемая (персистентная) реализация интерфейса MyList со структурным разделением версий.
+ * <p>
+ * Элементы хранятся в 32-ичном префиксном дереве, листья которого содержат по 32 элемента,
+ * а последние (до 32) элементы находятся в отдельном хвостовом массиве. Методы with... не изменяют список,
+ * а возвращают новую версию, которая разделяет с исходной все узлы, кроме пути от корня до измененного листа.
+ * Поэтому get(int), withSet и withAdded выполняются за O(log32 n), а каждая версия занимает
+ * дополнительно O(log32 n) памяти вместо копии всего списка.
+ * Вставка и удаление не в конце списка перестраивают элементы после указанного индекса.
+ * <p>
+ * Изменяющие методы интерфейса MyList (add, set, remove, clear, sort) выбрасывают
+ * UnsupportedOperationException. Для быстрого построения списка из многих элементов используется
+ * Builder, который изменяет принадлежащие ему узлы на месте.
+ * Экземпляры неизменяемы и потокобезопасны. Допускает null значения.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public final class PersistentMyList<E> implements MyList<E> {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final Node EMPTY_NODE = new Node(null, new Object[WIDTH]);
+    private static final PersistentMyList<?> EMPTY = new PersistentMyList<>(0, BITS, EMPTY_NODE, new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    /**
+     * Узел дерева. Узлы, созданные Builder'ом, помечены его владельцем
+     * и могут изменяться на месте, пока Builder не завершен.
+     */
+    private static final class Node {
+        final Object owner;
+        final Object[] array;
+
+        Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+
+    private PersistentMyList(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Возвращает пустой список.
+     *
+     * @param <E> тип элементов списка.
+     * @return пустой список.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentMyList<E> empty() {
+        return (PersistentMyList<E>) EMPTY;
+    }
+
+    /**
+     * Возвращает список, содержащий указанные элементы в порядке их расположения.
+     *
+     * @param elements элементы списка.
+     * @param <E>      тип элементов списка.
+     * @return список из указанных элементов.
+     */
+    @SafeVarargs
+    public static <E> PersistentMyList<E> of(E... elements) {
+        Builder<E> builder = builder();
+        for (E element : elements) {
+            builder.add(element);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает Builder для построения списка с нуля.
+     *
+     * @param <E> тип элементов списка.
+     * @return новый Builder.
+     */
+    public static <E> Builder<E> builder() {
+        return PersistentMyList.<E>empty().toBuilder();
+    }
+
+    /**
+     * Возвращает Builder, начальное содержимое которого совпадает с этим списком.
+     * Этот список при работе Builder'а не изменяется: узлы копируются при первом изменении.
+     *
+     * @return новый Builder.
+     */
+    public Builder<E> toBuilder() {
+        return new Builder<>(this);
+    }
+
+    private int tailOffset() {
+        return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+    }
+
+    private Object[] arrayFor(int index) {
+        if (index >= tailOffset()) {
+            return tail;
+        }
+        Node node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+        return node.array;
+    }
+
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+        Node path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(owner, level - BITS, node);
+        return path;
+    }
+
+    private static void checkCapacity(int currentSize) {
+        long checkSize = currentSize;
+        if (checkSize + 1 > Integer.MAX_VALUE) {
+            throw new ArrayIndexOutOfBoundsException("Capacity there can't be more Integer.MAX_VALUE");
+        }
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке за время O(log32 n).
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) arrayFor(index)[index & MASK];
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Вернет исключение при поиске null элемента.
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    private int indexOf(Object element) {
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] array = arrayFor(base);
+            int length = Math.min(WIDTH, size - base);
+            for (int i = 0; i < length; i++) {
+                if (Objects.equals(element, array[i])) {
+                    return base + i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Возвращает новую версию списка с указанным элементом в конце за время O(log32 n).
+     *
+     * @param element элемент, который будет добавлен.
+     * @return новая версия списка.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public PersistentMyList<E> withAdded(E element) {
+        checkCapacity(size);
+        if (size - tailOffset() < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+            return new PersistentMyList<>(size + 1, shift, root, newTail);
+        }
+        //хвост заполнен: переносим его в дерево листом и начинаем новый хвост
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(shift, root, tailNode);
+        }
+        return new PersistentMyList<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    private Node pushTail(int level, Node parent, Node tailNode) {
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node copy = new Node(null, parent.array.clone());
+        Node child = (Node) parent.array[subIndex];
+        copy.array[subIndex] = level == BITS ? tailNode
+                : child != null ? pushTail(level - BITS, child, tailNode) : newPath(null, level - BITS, tailNode);
+        return copy;
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой элемент в указанной позиции заменен указанным элементом.
+     * Копируется только путь от корня до листа, остальные узлы разделяются с этой версией.
+     *
+     * @param index   индекс элемента для замены.
+     * @param element элемент, который будет сохранен в указанной позиции.
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    public PersistentMyList<E> withSet(int index, E element) {
+        Objects.checkIndex(index, size);
+        if (index >= tailOffset()) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+            return new PersistentMyList<>(size, shift, root, newTail);
+        }
+        return new PersistentMyList<>(size, shift, assoc(shift, root, index, element), tail);
+    }
+
+    private static Node assoc(int level, Node node, int index, Object element) {
+        Node copy = new Node(null, node.array.clone());
+        if (level == 0) {
+            copy.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            copy.array[subIndex] = assoc(level - BITS, (Node) node.array[subIndex], index, element);
+        }
+        return copy;
+    }
+
+    /**
+     * Возвращает новую версию списка без последнего элемента за время O(log32 n).
+     *
+     * @return новая версия списка.
+     * @throws NoSuchElementException если список пуст.
+     */
+    public PersistentMyList<E> withoutLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        if (size - tailOffset() > 1) {
+            return new PersistentMyList<>(size - 1, shift, root, Arrays.copyOf(tail, tail.length - 1));
+        }
+        //хвост опустел: последний лист дерева становится новым хвостом
+        Object[] newTail = arrayFor(size - 2);
+        Node newRoot = popTail(shift, root);
+        int newShift = shift;
+        if (newRoot == null) {
+            newRoot = EMPTY_NODE;
+        }
+        if (shift > BITS && newRoot.array[1] == null) {
+            newRoot = (Node) newRoot.array[0];
+            newShift -= BITS;
+        }
+        return new PersistentMyList<>(size - 1, newShift, newRoot, newTail);
+    }
+
+    private Node popTail(int level, Node node) {
+        int subIndex = ((size - 2) >>> level) & MASK;
+        if (level > BITS) {
+            Node newChild = popTail(level - BITS, (Node) node.array[subIndex]);
+            if (newChild == null && subIndex == 0) {
+                return null;
+            }
+            Node copy = new Node(null, node.array.clone());
+            copy.array[subIndex] = newChild;
+            return copy;
+        }
+        if (subIndex == 0) {
+            return null;
+        }
+        Node copy = new Node(null, node.array.clone());
+        copy.array[subIndex] = null;
+        return copy;
+    }
+
+    /**
+     * Возвращает новую версию списка с указанным элементом на указанном индексе.
+     * Элементы после индекса сдвигаются, поэтому время работы O(size() - index).
+     *
+     * @param index   индекс, на который будет добавлен элемент.
+     * @param element элемент, который будет добавлен.
+     * @return новая версия списка.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws IndexOutOfBoundsException      если индекс выходит за пределы диапазона (index < 0 || index > size())
+     */
+    public PersistentMyList<E> withInserted(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException("Index: " + index +
+                    "out of bounds for length: " + size);
+        }
+        if (index == size) {
+            return withAdded(element);
+        }
+        Builder<E> builder = toBuilder();
+        builder.add(null);
+        for (int i = size; i > index; i--) {
+            builder.set(i, get(i - 1));
+        }
+        builder.set(index, element);
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка без элемента в указанной позиции.
+     * Элементы после индекса сдвигаются, поэтому время работы O(size() - index).
+     *
+     * @param index индекс удаляемого элемента.
+     * @return новая версия списка.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    public PersistentMyList<E> withRemovedAt(int index) {
+        Objects.checkIndex(index, size);
+        if (index == size - 1) {
+            return withoutLast();
+        }
+        Builder<E> builder = toBuilder();
+        for (int i = index; i < size - 1; i++) {
+            builder.set(i, get(i + 1));
+        }
+        builder.removeLast();
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка без первого вхождения указанного элемента.
+     * Если список не содержит элемента, возвращает этот же список.
+     *
+     * @param element элемент, который нужно удалить.
+     * @return новая версия списка или этот список, если элемент не найден.
+     */
+    public PersistentMyList<E> withRemoved(E element) {
+        int index = indexOf(element);
+        return index < 0 ? this : withRemovedAt(index);
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой указанный диапазон отсортирован
+     * в соответствии с указанным Comparator'ом интроспективной сортировкой.
+     *
+     * @param fromIndex  начальный индекс диапазона сортировки(включительно).
+     * @param toIndex    конечный индекс диапазона сортировки(включительно).
+     * @param comparator Comparator для определения сортировки.
+     * @return новая версия списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    @SuppressWarnings("unchecked")
+    public PersistentMyList<E> withSorted(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        if (fromIndex < 0 || toIndex >= size) {
+            throw new IllegalArgumentException("The specified indexes go beyond the boundaries of this list");
+        }
+        if (fromIndex > toIndex) {
+            throw new IllegalArgumentException("fromIndex there can't be more toIndex");
+        }
+        E[] range = (E[]) new Object[toIndex - fromIndex + 1];
+        for (int i = 0; i < range.length; i++) {
+            range[i] = get(fromIndex + i);
+        }
+        Sorting.introSort(range, 0, range.length - 1, comparator);
+        Builder<E> builder = toBuilder();
+        for (int i = 0; i < range.length; i++) {
+            builder.set(fromIndex + i, range[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Возвращает новую версию списка, в которой указанный диапазон отсортирован в порядке возрастания
+     * в соответствии с естественным порядком его элементов.
+     *
+     * @param fromIndex начальный индекс диапазона сортировки(включительно).
+     * @param toIndex   конечный индекс диапазона сортировки(включительно).
+     * @return новая версия списка.
+     * @throws IllegalArgumentException если указанные индексы выходят за границы этого списка или fromIndex > toIndex.
+     */
+    public PersistentMyList<E> withSorted(int fromIndex, int toIndex) {
+        return withSorted(fromIndex, toIndex, Sorting.NATURAL_ORDER);
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withAdded.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(E element) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withAdded");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withInserted.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withInserted");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withRemoved.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public boolean remove(E element) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withRemoved");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте empty.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use empty");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withSet.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withSet");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withSorted.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withSorted");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withSorted.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withSorted");
+    }
+
+    /**
+     * Не поддерживается: список неизменяем, используйте withSorted.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("PersistentMyList is immutable, use withSorted");
+    }
+
+    /**
+     * Возвращает итератор по элементам этого списка, который обходит листья дерева целиком.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private Object[] array;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public E next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                if ((cursor & MASK) == 0) {
+                    array = arrayFor(cursor);
+                }
+                return (E) array[cursor++ & MASK];
+            }
+        };
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в порядке их расположения.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        for (int base = 0; base < size; base += WIDTH) {
+            Object[] array = arrayFor(base);
+            int length = Math.min(WIDTH, size - base);
+            for (int i = 0; i < length; i++) {
+                action.accept((E) array[i]);
+            }
+        }
+    }
+
+    /**
+     * Изменяемый построитель PersistentMyList. Изменяет на месте только созданные им узлы,
+     * поэтому построение списка из n элементов выполняется без копирования путей на каждом шаге.
+     * После вызова build() Builder больше не может использоваться. Не является потокобезопасным.
+     *
+     * @param <E> тип элементов списка.
+     */
+    public static final class Builder<E> {
+        private Object owner = new Object();
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Builder(PersistentMyList<E> list) {
+            size = list.size;
+            shift = list.shift;
+            root = new Node(owner, list.root.array.clone());
+            tail = Arrays.copyOf(list.tail, WIDTH);
+        }
+
+        private void ensureBuilding() {
+            if (owner == null) {
+                throw new IllegalStateException("Builder has already been built");
+            }
+        }
+
+        private Node editable(Node node) {
+            return node.owner == owner ? node : new Node(owner, node.array.clone());
+        }
+
+        private int tailOffset() {
+            return size < WIDTH ? 0 : ((size - 1) >>> BITS) << BITS;
+        }
+
+        private Object[] arrayFor(int index) {
+            if (index >= tailOffset()) {
+                return tail;
+            }
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return node.array;
+        }
+
+        /**
+         * Возвращает количество элементов, добавленных в Builder.
+         *
+         * @return количество элементов.
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * Возвращает элемент в указанной позиции.
+         *
+         * @param index индекс возвращаемого элемента.
+         * @return элемент в указанной позиции.
+         * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+         */
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            ensureBuilding();
+            Objects.checkIndex(index, size);
+            return (E) arrayFor(index)[index & MASK];
+        }
+
+        /**
+         * Добавляет указанный элемент в конец.
+         *
+         * @param element элемент, который будет добавлен.
+         * @return этот Builder.
+         * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+         * @throws IllegalStateException          если build() уже был вызван.
+         */
+        public Builder<E> add(E element) {
+            ensureBuilding();
+            checkCapacity(size);
+            if (size - tailOffset() < WIDTH) {
+                tail[size & MASK] = element;
+                size++;
+                return this;
+            }
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(shift, root, tailNode);
+            }
+            size++;
+            return this;
+        }
+
+        private Node pushTail(int level, Node parent, Node tailNode) {
+            Node node = editable(parent);
+            int subIndex = ((size - 1) >>> level) & MASK;
+            Node child = (Node) node.array[subIndex];
+            node.array[subIndex] = level == BITS ? tailNode
+                    : child != null ? pushTail(level - BITS, child, tailNode) : newPath(owner, level - BITS, tailNode);
+            return node;
+        }
+
+        /**
+         * Заменяет элемент в указанной позиции указанным элементом.
+         *
+         * @param index   индекс элемента для замены.
+         * @param element элемент, который будет сохранен в указанной позиции.
+         * @return этот Builder.
+         * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+         * @throws IllegalStateException     если build() уже был вызван.
+         */
+        public Builder<E> set(int index, E element) {
+            ensureBuilding();
+            Objects.checkIndex(index, size);
+            if (index >= tailOffset()) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(shift, root, index, element);
+            }
+            return this;
+        }
+
+        private Node assoc(int level, Node node, int index, Object element) {
+            Node editable = editable(node);
+            if (level == 0) {
+                editable.array[index & MASK] = element;
+            } else {
+                int subIndex = (index >>> level) & MASK;
+                editable.array[subIndex] = assoc(level - BITS, (Node) editable.array[subIndex], index, element);
+            }
+            return editable;
+        }
+
+        /**
+         * Удаляет последний элемент.
+         *
+         * @return этот Builder.
+         * @throws NoSuchElementException если Builder не содержит элементов.
+         * @throws IllegalStateException  если build() уже был вызван.
+         */
+        public Builder<E> removeLast() {
+            ensureBuilding();
+            if (size == 0) {
+                throw new NoSuchElementException();
+            }
+            if (size == 1 || ((size - 1) & MASK) > 0) {
+                tail[(size - 1) & MASK] = null;
+                size--;
+                return this;
+            }
+            Object[] newTail = editable(leafFor(size - 2)).array;
+            Node newRoot = popTail(shift, root);
+            if (newRoot == null) {
+                newRoot = new Node(owner, new Object[WIDTH]);
+            }
+            if (shift > BITS && newRoot.array[1] == null) {
+                newRoot = editable((Node) newRoot.array[0]);
+                shift -= BITS;
+            }
+            root = newRoot;
+            tail = newTail;
+            size--;
+            return this;
+        }
+
+        private Node leafFor(int index) {
+            Node node = root;
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+            return node;
+        }
+
+        private Node popTail(int level, Node node) {
+            Node editable = editable(node);
+            int subIndex = ((size - 2) >>> level) & MASK;
+            if (level > BITS) {
+                Node newChild = popTail(level - BITS, (Node) editable.array[subIndex]);
+                if (newChild == null && subIndex == 0) {
+                    return null;
+                }
+                editable.array[subIndex] = newChild;
+                return editable;
+            }
+            if (subIndex == 0) {
+                return null;
+            }
+            editable.array[subIndex] = null;
+            return editable;
+        }
+
+        /**
+         * Возвращает неизменяемый список с содержимым этого Builder'а.
+         * После вызова Builder больше не может использоваться.
+         *
+         * @return неизменяемый список.
+         * @throws IllegalStateException если build() уже был вызван.
+         */
+        public PersistentMyList<E> build() {
+            ensureBuilding();
+            owner = null;
+            if (size == 0) {
+                return empty();
+            }
+            Object[] trimmedTail = Arrays.copyOf(tail, size - tailOffset());
+            return new PersistentMyList<>(size, shift, root, trimmedTail);
+        }
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки PersistentMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        PersistentMyList<?> that = (PersistentMyList<?>) o;
+        if (size != that.size) return false;
+        Iterator<?> other = that.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, other.next())) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (E element : this) {
+            result = 31 * result + Objects.hashCode(element);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции.
+     * Строковое представление состоит из списка элементов коллекции в том порядке, в котором они хранятся в списке,
+     * заключенного в фигурные скобки («{}»). Соседние элементы разделяются символами ", " (запятая и пробел).
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append("{ ");
+        int i = 0;
+        for (E element : this) {
+            stringBuilder.append(element);
+            if (++i < size) {
+                stringBuilder.append(", ");
+            }
+        }
+        stringBuilder.append(" }");
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Способ выбора опорного элемента быстрой сортировки, используемой методами sort.
+ * <p>
+ * Стратегии не хранят изменяемого состояния, общего для нескольких сортировок: случайные стратегии
+ * получают генератор при каждом вызове sort, поэтому одну стратегию можно использовать
+ * для одновременной сортировки разных списков из нескольких потоков без синхронизации.
+ * Выбор стратегии влияет только на скорость сортировки, но не на ее результат.
+ *
+ * @author Sharychenkov Eugene
+ */
+public abstract class PivotStrategy {
+
+    /**
+     * Медиана первого, среднего и последнего элементов диапазона. Стратегия по умолчанию:
+     * дешевая и устойчивая к упорядоченным и обратно упорядоченным данным.
+     */
+    public static final PivotStrategy MEDIAN_OF_THREE = new PivotStrategy() {
+        @Override
+        <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+            return Sorting.medianOfThree(sortArr, low, (low + high) >>> 1, high, comparator);
+        }
+    };
+
+    /**
+     * Медиана трех медиан трех элементов, взятых равномерно по диапазону (ninther Тьюки).
+     * Требует до 12 сравнений вместо 3, но дает опорный элемент ближе к медиане на больших диапазонах
+     * и на данных с повторяющимися узорами. Диапазоны короче NINTHER_THRESHOLD элементов
+     * обрабатываются как MEDIAN_OF_THREE.
+     */
+    public static final PivotStrategy NINTHER = new PivotStrategy() {
+        @Override
+        <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+            int middle = (low + high) >>> 1;
+            if (high - low + 1 < NINTHER_THRESHOLD) {
+                return Sorting.medianOfThree(sortArr, low, middle, high, comparator);
+            }
+            int step = (high - low + 1) >>> 3;
+            int first = Sorting.medianOfThree(sortArr, low, low + step, low + 2 * step, comparator);
+            int second = Sorting.medianOfThree(sortArr, middle - step, middle, middle + step, comparator);
+            int third = Sorting.medianOfThree(sortArr, high - 2 * step, high - step, high, comparator);
+            return Sorting.medianOfThree(sortArr, first, second, third, comparator);
+        }
+    };
+
+    /**
+     * Случайный элемент диапазона, выбранный генератором ThreadLocalRandom текущего потока.
+     * Исключает подбор входных данных, вызывающих худший случай, но результат
+     * разбиения не воспроизводится между запусками.
+     */
+    public static final PivotStrategy RANDOM = new PivotStrategy() {
+        @Override
+        <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+            return ThreadLocalRandom.current().nextInt(low, high + 1);
+        }
+    };
+
+    /**
+     * Наименьшая длина диапазона, для которого NINTHER выбирает медиану из девяти элементов.
+     */
+    static final int NINTHER_THRESHOLD = 40;
+
+    PivotStrategy() {
+    }
+
+    /**
+     * Возвращает стратегию, выбирающую случайный элемент генератором с указанным начальным значением.
+     * Каждый вызов sort создает новый генератор с этим значением, поэтому сортировка одних и тех же данных
+     * выполняет одни и те же сравнения, что делает замеры воспроизводимыми.
+     *
+     * @param seed начальное значение генератора.
+     * @return детерминированная случайная стратегия.
+     */
+    public static PivotStrategy seeded(long seed) {
+        return new PivotStrategy() {
+            @Override
+            <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+                throw new IllegalStateException("Seeded strategy is used only through start()");
+            }
+
+            @Override
+            PivotStrategy start() {
+                SplittableRandom random = new SplittableRandom(seed);
+                return new PivotStrategy() {
+                    @Override
+                    <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+                        return random.nextInt(low, high + 1);
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Возвращает индекс опорного элемента диапазона [low, high].
+     */
+    abstract <E> int choosePivot(E[] sortArr, int low, int high, Comparator<? super E> comparator);
+
+    /**
+     * Вызывается один раз в начале каждой сортировки и возвращает стратегию, используемую этой сортировкой.
+     * Стратегии с состоянием создают здесь собственный экземпляр, остальные возвращают себя.
+     */
+    PivotStrategy start() {
+        return this;
+    }
+}
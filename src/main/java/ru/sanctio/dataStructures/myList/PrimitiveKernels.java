@@ -0,0 +1,312 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Arrays;
+
+/**
+ * Поиск, подсчет, агрегирование и заполнение диапазонов массивов int[], long[] и double[]
+ * для списков IntMyArrayList, LongMyArrayList и DoubleMyArrayList.
+ * <p>
+ * Если библиотека собрана в профиле Maven vector, а JVM запущена с модулем jdk.incubator.vector
+ * (--add-modules jdk.incubator.vector), поиск, подсчет и агрегирование выполняются VectorKernels
+ * над векторами предпочтительной для процессора ширины.
+ * Иначе, а также если задано системное свойство SCALAR_PROPERTY или векторные операции
+ * не удалось инициализировать на этой платформе, используются скалярные циклы.
+ * Класс VectorKernels загружается по имени только при выборе векторной реализации, поэтому без модуля
+ * или без этого класса библиотека работает как раньше.
+ * <p>
+ * Все диапазоны задаются полуоткрыто: [from, to). Проверка границ выполняется вызывающим списком.
+ */
+final class PrimitiveKernels {
+
+    /**
+     * Системное свойство, отключающее векторную реализацию.
+     */
+    static final String SCALAR_PROPERTY = "ru.sanctio.dataStructures.myList.scalarKernels";
+
+    /**
+     * Векторная реализация или null, если используются скалярные циклы.
+     */
+    private static final Vectorized VECTOR = Boolean.getBoolean(SCALAR_PROPERTY) ? null : loadVectorKernels();
+
+    /**
+     * true, если операции выполняются Vector API.
+     */
+    static final boolean VECTORIZED = VECTOR != null;
+
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * Загружает VectorKernels, если присутствует модуль jdk.incubator.vector и класс собран
+     * (профиль Maven vector), и проверяет его работоспособность. Если векторные формы не удается создать
+     * на этой платформе, инициализация VectorKernels завершается ошибкой, и вместо нее используются скалярные циклы.
+     *
+     * @return векторная реализация или null.
+     */
+    private static Vectorized loadVectorKernels() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+            return null;
+        }
+        try {
+            Vectorized kernels = (Vectorized) Class.forName(PrimitiveKernels.class.getPackageName() + ".VectorKernels")
+                    .getDeclaredConstructor().newInstance();
+            return kernels.selfTest() ? kernels : null;
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            System.getLogger(PrimitiveKernels.class.getName()).log(System.Logger.Level.DEBUG,
+                    "Vector API kernels are unavailable, falling back to scalar loops", e);
+            return null;
+        }
+    }
+
+    /**
+     * Операции, которые выполняются Vector API. Единственная реализация - VectorKernels;
+     * вызовы через поле static final с одной реализацией JIT-компилятор встраивает так же, как статические.
+     */
+    interface Vectorized {
+
+        /**
+         * Проверяет, что результаты векторных операций совпадают со скалярными.
+         */
+        boolean selfTest();
+
+        int indexOf(int[] a, int from, int to, int key);
+
+        int count(int[] a, int from, int to, int key);
+
+        int min(int[] a, int from, int to);
+
+        int max(int[] a, int from, int to);
+
+        long sum(int[] a, int from, int to);
+
+        int indexOf(long[] a, int from, int to, long key);
+
+        int count(long[] a, int from, int to, long key);
+
+        long min(long[] a, int from, int to);
+
+        long max(long[] a, int from, int to);
+
+        long sum(long[] a, int from, int to);
+
+        int indexOf(double[] a, int from, int to, double key);
+
+        int count(double[] a, int from, int to, double key);
+
+        double min(double[] a, int from, int to);
+
+        double max(double[] a, int from, int to);
+
+        double sum(double[] a, int from, int to);
+    }
+
+    /**
+     * Заполнение выполняется Arrays.fill: JIT-компилятор заменяет его встроенной реализацией,
+     * которая по замерам PrimitiveKernelsBenchmark не уступает явным векторам.
+     */
+    static void fill(int[] a, int from, int to, int value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    static void fill(long[] a, int from, int to, long value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    static void fill(double[] a, int from, int to, double value) {
+        Arrays.fill(a, from, to, value);
+    }
+
+    static int indexOf(int[] a, int from, int to, int key) {
+        return VECTORIZED ? VECTOR.indexOf(a, from, to, key) : scalarIndexOf(a, from, to, key);
+    }
+
+    static int count(int[] a, int from, int to, int key) {
+        return VECTORIZED ? VECTOR.count(a, from, to, key) : scalarCount(a, from, to, key);
+    }
+
+    static int min(int[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.min(a, from, to) : scalarMin(a, from, to);
+    }
+
+    static int max(int[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.max(a, from, to) : scalarMax(a, from, to);
+    }
+
+    static long sum(int[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.sum(a, from, to) : scalarSum(a, from, to);
+    }
+
+    static int indexOf(long[] a, int from, int to, long key) {
+        return VECTORIZED ? VECTOR.indexOf(a, from, to, key) : scalarIndexOf(a, from, to, key);
+    }
+
+    static int count(long[] a, int from, int to, long key) {
+        return VECTORIZED ? VECTOR.count(a, from, to, key) : scalarCount(a, from, to, key);
+    }
+
+    static long min(long[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.min(a, from, to) : scalarMin(a, from, to);
+    }
+
+    static long max(long[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.max(a, from, to) : scalarMax(a, from, to);
+    }
+
+    static long sum(long[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.sum(a, from, to) : scalarSum(a, from, to);
+    }
+
+    static int indexOf(double[] a, int from, int to, double key) {
+        return VECTORIZED ? VECTOR.indexOf(a, from, to, key) : scalarIndexOf(a, from, to, key);
+    }
+
+    static int count(double[] a, int from, int to, double key) {
+        return VECTORIZED ? VECTOR.count(a, from, to, key) : scalarCount(a, from, to, key);
+    }
+
+    static double min(double[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.min(a, from, to) : scalarMin(a, from, to);
+    }
+
+    static double max(double[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.max(a, from, to) : scalarMax(a, from, to);
+    }
+
+    static double sum(double[] a, int from, int to) {
+        return VECTORIZED ? VECTOR.sum(a, from, to) : scalarSum(a, from, to);
+    }
+
+    static int scalarIndexOf(int[] a, int from, int to, int key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(int[] a, int from, int to, int key) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static int scalarMin(int[] a, int from, int to) {
+        int min = Integer.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static int scalarMax(int[] a, int from, int to) {
+        int max = Integer.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static long scalarSum(int[] a, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    static int scalarIndexOf(long[] a, int from, int to, long key) {
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(long[] a, int from, int to, long key) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (a[i] == key) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static long scalarMin(long[] a, int from, int to) {
+        long min = Long.MAX_VALUE;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static long scalarMax(long[] a, int from, int to) {
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static long scalarSum(long[] a, int from, int to) {
+        long sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Значения сравниваются так же, как в Double.equals: NaN равен NaN, а 0.0 не равен -0.0.
+     */
+    static int scalarIndexOf(double[] a, int from, int to, double key) {
+        long bits = Double.doubleToLongBits(key);
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(a[i]) == bits) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int scalarCount(double[] a, int from, int to, double key) {
+        long bits = Double.doubleToLongBits(key);
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (Double.doubleToLongBits(a[i]) == bits) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    static double scalarMin(double[] a, int from, int to) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            min = Math.min(min, a[i]);
+        }
+        return min;
+    }
+
+    static double scalarMax(double[] a, int from, int to) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = from; i < to; i++) {
+            max = Math.max(max, a[i]);
+        }
+        return max;
+    }
+
+    static double scalarSum(double[] a, int from, int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += a[i];
+        }
+        return sum;
+    }
+}
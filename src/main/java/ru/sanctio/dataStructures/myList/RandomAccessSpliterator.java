@@ -0,0 +1,79 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator для любой реализации MyList, обходящий элементы по индексам методом get(int).
+ * Делится пополам по индексам, поэтому подходит для параллельных потоков.
+ * Граница обхода определяется при первом использовании, а не при создании.
+ */
+final class RandomAccessSpliterator<E> implements Spliterator<E> {
+
+    private final MyList<E> list;
+    private int index;
+    private int fence;
+
+    RandomAccessSpliterator(MyList<E> list) {
+        this(list, 0, -1);
+    }
+
+    private RandomAccessSpliterator(MyList<E> list, int origin, int fence) {
+        this.list = list;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    private int getFence() {
+        if (fence < 0) {
+            fence = list.size();
+        }
+        return fence;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        int hi = getFence();
+        int lo = index;
+        int middle = (lo + hi) >>> 1;
+        if (lo >= middle) {
+            return null;
+        }
+        index = middle;
+        return new RandomAccessSpliterator<>(list, lo, middle);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        if (index >= getFence()) {
+            return false;
+        }
+        action.accept(list.get(index++));
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super E> action) {
+        if (action == null) {
+            throw new NullPointerException();
+        }
+        int hi = getFence();
+        for (int i = index; i < hi; i++) {
+            action.accept(list.get(i));
+        }
+        index = hi;
+    }
+
+    @Override
+    public long estimateSize() {
+        return getFence() - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
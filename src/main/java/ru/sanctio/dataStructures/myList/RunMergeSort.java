@@ -0,0 +1,325 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Устойчивая сортировка слиянием естественных серий в духе TimSort.
+ * <p>
+ * Диапазон разбивается на уже упорядоченные серии: возрастающие серии используются как есть,
+ * строго убывающие разворачиваются, короткие серии дополняются бинарными вставками до minRun.
+ * Серии сливаются попарно так, чтобы длины сливаемых серий были сбалансированы.
+ * Перед слиянием отбрасываются элементы, которые уже стоят на своих местах,
+ * поэтому на почти упорядоченных данных время работы близко к O(n).
+ * <p>
+ * Для слияния нужен временный буфер размером не больше половины диапазона.
+ * Буферы длиной до MAX_POOLED_SCRATCH элементов переиспользуются в пределах потока,
+ * после сортировки использованная часть буфера очищается, чтобы не удерживать ссылки на элементы.
+ * Все границы диапазонов включительные, как в методах sort интерфейса MyList.
+ */
+final class RunMergeSort<E> {
+
+    /**
+     * Диапазоны короче этого значения сортируются бинарными вставками без слияний.
+     */
+    private static final int MIN_MERGE = 32;
+
+    /**
+     * Максимальная длина буфера слияния, который сохраняется для повторного использования в потоке.
+     */
+    static final int MAX_POOLED_SCRATCH = 1 << 20;
+
+    /**
+     * Наибольшая глубина стека серий для диапазонов длиной до Integer.MAX_VALUE.
+     */
+    private static final int MAX_STACK_SIZE = 49;
+
+    private static final ThreadLocal<Object[]> SCRATCH_POOL = new ThreadLocal<>();
+
+    private final E[] sortArr;
+    private final Comparator<? super E> comparator;
+    private final Object[] scratch;
+    private final int[] runBase = new int[MAX_STACK_SIZE];
+    private final int[] runLength = new int[MAX_STACK_SIZE];
+    private int stackSize;
+    private int scratchUsed;
+
+    private RunMergeSort(E[] sortArr, Comparator<? super E> comparator, Object[] scratch) {
+        this.sortArr = sortArr;
+        this.comparator = comparator;
+        this.scratch = scratch;
+    }
+
+    /**
+     * Устойчиво сортирует указанный диапазон массива: равные элементы сохраняют свой взаимный порядок.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     */
+    static <E> void sort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+        int length = high - low + 1;
+        if (length < 2) {
+            return;
+        }
+        int end = high + 1;
+        if (length < MIN_MERGE) {
+            int runEnd = countRunAndMakeAscending(sortArr, low, end, comparator);
+            binaryInsertionSort(sortArr, low, end, runEnd, comparator);
+            return;
+        }
+
+        Object[] scratch = acquireScratch((length >>> 1) + 1);
+        RunMergeSort<E> sorter = new RunMergeSort<>(sortArr, comparator, scratch);
+        try {
+            int minRun = minRunLength(length);
+            int lo = low;
+            int remaining = length;
+            do {
+                int runEnd = countRunAndMakeAscending(sortArr, lo, end, comparator);
+                int currentLength = runEnd - lo;
+
+                //короткую серию дополняем до minRun бинарными вставками
+                if (currentLength < minRun) {
+                    int forced = Math.min(remaining, minRun);
+                    binaryInsertionSort(sortArr, lo, lo + forced, runEnd, comparator);
+                    currentLength = forced;
+                }
+
+                sorter.pushRun(lo, currentLength);
+                sorter.mergeCollapse();
+                lo += currentLength;
+                remaining -= currentLength;
+            } while (remaining != 0);
+            sorter.mergeForceCollapse();
+        } finally {
+            releaseScratch(scratch, sorter.scratchUsed);
+        }
+    }
+
+    /**
+     * Возвращает буфер слияния не короче указанной длины.
+     * Буфер из пула забирается на время сортировки, поэтому вложенные сортировки в том же потоке
+     * (например, из Comparator'а) получат собственный буфер.
+     */
+    private static Object[] acquireScratch(int minLength) {
+        Object[] scratch = SCRATCH_POOL.get();
+        if (scratch != null && scratch.length >= minLength) {
+            SCRATCH_POOL.remove();
+            return scratch;
+        }
+        return new Object[minLength];
+    }
+
+    private static void releaseScratch(Object[] scratch, int used) {
+        Arrays.fill(scratch, 0, used, null);
+        if (scratch.length <= MAX_POOLED_SCRATCH) {
+            Object[] pooled = SCRATCH_POOL.get();
+            if (pooled == null || pooled.length < scratch.length) {
+                SCRATCH_POOL.set(scratch);
+            }
+        }
+    }
+
+    /**
+     * Находит конец серии, начинающейся с индекса lo, и делает ее возрастающей.
+     * Строго убывающая серия разворачивается, что не нарушает устойчивость.
+     *
+     * @return индекс, следующий за последним элементом серии.
+     */
+    private static <E> int countRunAndMakeAscending(E[] sortArr, int lo, int hi, Comparator<? super E> comparator) {
+        int runHi = lo + 1;
+        if (runHi == hi) {
+            return hi;
+        }
+        if (comparator.compare(sortArr[runHi++], sortArr[lo]) < 0) {
+            while (runHi < hi && comparator.compare(sortArr[runHi], sortArr[runHi - 1]) < 0) {
+                runHi++;
+            }
+            reverseRange(sortArr, lo, runHi);
+        } else {
+            while (runHi < hi && comparator.compare(sortArr[runHi], sortArr[runHi - 1]) >= 0) {
+                runHi++;
+            }
+        }
+        return runHi;
+    }
+
+    private static void reverseRange(Object[] sortArr, int lo, int hi) {
+        hi--;
+        while (lo < hi) {
+            Sorting.swap(sortArr, lo++, hi--);
+        }
+    }
+
+    /**
+     * Сортирует диапазон [lo, hi) бинарными вставками, если известно, что [lo, start) уже упорядочен.
+     * Равный элемент вставляется после уже стоящих равных, что сохраняет устойчивость.
+     */
+    private static <E> void binaryInsertionSort(E[] sortArr, int lo, int hi, int start,
+                                                Comparator<? super E> comparator) {
+        if (start == lo) {
+            start++;
+        }
+        for (; start < hi; start++) {
+            E current = sortArr[start];
+            int left = lo;
+            int right = start;
+            while (left < right) {
+                int middle = (left + right) >>> 1;
+                if (comparator.compare(current, sortArr[middle]) < 0) {
+                    right = middle;
+                } else {
+                    left = middle + 1;
+                }
+            }
+            System.arraycopy(sortArr, left, sortArr, left + 1, start - left);
+            sortArr[left] = current;
+        }
+    }
+
+    /**
+     * Возвращает минимальную длину серии: число из диапазона [MIN_MERGE / 2, MIN_MERGE],
+     * при котором length / minRun равно степени двойки или чуть меньше ее.
+     */
+    private static int minRunLength(int length) {
+        int remainder = 0;
+        while (length >= MIN_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+        return length + remainder;
+    }
+
+    private void pushRun(int base, int length) {
+        runBase[stackSize] = base;
+        runLength[stackSize] = length;
+        stackSize++;
+    }
+
+    /**
+     * Сливает серии на вершине стека, пока их длины не будут убывать быстрее чисел Фибоначчи.
+     * Это ограничивает глубину стека и балансирует длины сливаемых серий.
+     */
+    private void mergeCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] <= runLength[n] + runLength[n + 1]
+                    || n > 1 && runLength[n - 2] <= runLength[n] + runLength[n - 1]) {
+                if (runLength[n - 1] < runLength[n + 1]) {
+                    n--;
+                }
+            } else if (runLength[n] > runLength[n + 1]) {
+                break;
+            }
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (stackSize > 1) {
+            int n = stackSize - 2;
+            if (n > 0 && runLength[n - 1] < runLength[n + 1]) {
+                n--;
+            }
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Сливает серии с номерами i и i + 1 в стеке.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBase[i];
+        int length1 = runLength[i];
+        int base2 = runBase[i + 1];
+        int length2 = runLength[i + 1];
+
+        runLength[i] = length1 + length2;
+        if (i == stackSize - 3) {
+            runBase[i + 1] = runBase[i + 2];
+            runLength[i + 1] = runLength[i + 2];
+        }
+        stackSize--;
+
+        //элементы первой серии, не большие первого элемента второй, уже на своих местах
+        int skipped = upperBound(sortArr[base2], base1, base1 + length1) - base1;
+        base1 += skipped;
+        length1 -= skipped;
+        if (length1 == 0) {
+            return;
+        }
+
+        //элементы второй серии, не меньшие последнего элемента первой, уже на своих местах
+        length2 = lowerBound(sortArr[base1 + length1 - 1], base2, base2 + length2) - base2;
+        if (length2 == 0) {
+            return;
+        }
+
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        } else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+    }
+
+    private int upperBound(E key, int lo, int hi) {
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (comparator.compare(sortArr[middle], key) <= 0) lo = middle + 1;
+            else hi = middle;
+        }
+        return lo;
+    }
+
+    private int lowerBound(E key, int lo, int hi) {
+        while (lo < hi) {
+            int middle = (lo + hi) >>> 1;
+            if (comparator.compare(sortArr[middle], key) < 0) lo = middle + 1;
+            else hi = middle;
+        }
+        return lo;
+    }
+
+    /**
+     * Сливает серии, копируя в буфер первую, более короткую серию, и заполняя массив слева направо.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        System.arraycopy(sortArr, base1, scratch, 0, length1);
+        scratchUsed = Math.max(scratchUsed, length1);
+        int i = 0;
+        int j = base2;
+        int end2 = base2 + length2;
+        int destination = base1;
+        while (i < length1 && j < end2) {
+            if (comparator.compare(sortArr[j], (E) scratch[i]) < 0) {
+                sortArr[destination++] = sortArr[j++];
+            } else {
+                sortArr[destination++] = (E) scratch[i++];
+            }
+        }
+        System.arraycopy(scratch, i, sortArr, destination, length1 - i);
+    }
+
+    /**
+     * Сливает серии, копируя в буфер вторую, более короткую серию, и заполняя массив справа налево.
+     */
+    @SuppressWarnings("unchecked")
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        System.arraycopy(sortArr, base2, scratch, 0, length2);
+        scratchUsed = Math.max(scratchUsed, length2);
+        int i = base1 + length1 - 1;
+        int j = length2 - 1;
+        int destination = base2 + length2 - 1;
+        while (i >= base1 && j >= 0) {
+            if (comparator.compare((E) scratch[j], sortArr[i]) < 0) {
+                sortArr[destination--] = sortArr[i--];
+            } else {
+                sortArr[destination--] = (E) scratch[j--];
+            }
+        }
+        System.arraycopy(scratch, 0, sortArr, base1, j + 1);
+    }
+}
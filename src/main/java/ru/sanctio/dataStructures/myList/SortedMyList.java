@@ -0,0 +1,356 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Реализация интерфейса MyList, которая всегда хранит элементы отсортированными
+ * в соответствии с естественным порядком или указанным Comparator'ом.
+ * <p>
+ * Элементы хранятся в MyArrayList. Позиция нового элемента находится двоичным поиском,
+ * равные элементы располагаются в порядке добавления. Поиск и удаление элемента выполняют
+ * двоичный поиск вместо линейного просмотра, поэтому Comparator должен быть согласован с equals
+ * хотя бы в том смысле, что равные по equals элементы сравниваются как равные.
+ * Пакет отсортированных элементов добавляется методом addAllSorted за один проход слиянием.
+ * <p>
+ * Методы, задающие позицию элемента явно (add(int, E), set и сортировки), нарушили бы порядок,
+ * поэтому выбрасывают UnsupportedOperationException.
+ * Допускает null значения, если их поддерживает Comparator. Не является потокобезопасным.
+ *
+ * @param <E> тип элементов списка.
+ * @author Sharychenkov Eugene
+ */
+public class SortedMyList<E> implements MyList<E> {
+
+    private final MyArrayList<E> elements;
+    private final Comparator<? super E> comparator;
+
+    /**
+     * Создает пустой список, упорядоченный в соответствии с естественным порядком элементов.
+     */
+    public SortedMyList() {
+        this(null);
+    }
+
+    /**
+     * Создает пустой список, упорядоченный в соответствии с указанным Comparator'ом.
+     *
+     * @param comparator Comparator для упорядочивания элементов; null означает естественный порядок.
+     */
+    public SortedMyList(Comparator<? super E> comparator) {
+        this.elements = new MyArrayList<>();
+        this.comparator = comparator == null ? Sorting.NATURAL_ORDER : comparator;
+    }
+
+    /**
+     * Возвращает Comparator, определяющий порядок элементов этого списка.
+     *
+     * @return Comparator этого списка.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Находит позицию, на которую должен быть вставлен элемент: после всех элементов, не больших его.
+     */
+    private int upperBound(E element) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (comparator.compare(elements.get(middle), element) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Находит индекс первого элемента, равного указанному по equals, среди элементов,
+     * равных ему по Comparator'у.
+     */
+    private int indexOf(E element) {
+        int index = elements.binarySearch(element, comparator);
+        if (index < 0) {
+            return -1;
+        }
+        while (index > 0 && comparator.compare(elements.get(index - 1), element) == 0) {
+            index--;
+        }
+        for (int i = index; i < elements.size() && comparator.compare(elements.get(i), element) == 0; i++) {
+            if (Objects.equals(elements.get(i), element)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Добавляет указанный элемент в позицию, сохраняющую порядок этого списка.
+     * Позиция находится двоичным поиском за O(log n), после чего последующие элементы сдвигаются.
+     *
+     * @param element элемент, который будет добавлен в этот список
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     * @throws ClassCastException             если элемент несопоставим с элементами списка.
+     */
+    @Override
+    public void add(E element) {
+        elements.add(upperBound(element), element);
+    }
+
+    /**
+     * Добавляет все элементы указанной коллекции, сохраняя порядок этого списка.
+     * Копия пакета сортируется устойчиво (на уже отсортированном пакете это линейный просмотр),
+     * затем сливается со списком за один проход, емкость увеличивается не более одного раза.
+     *
+     * @param collection коллекция, элементы которой будут добавлены.
+     * @return true, если этот список изменился в результате вызова.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public boolean addAllSorted(Collection<? extends E> collection) {
+        return mergeBatch(collection.toArray());
+    }
+
+    /**
+     * Добавляет все элементы указанного списка, сохраняя порядок этого списка.
+     * Копия пакета сортируется устойчиво (на уже отсортированном пакете это линейный просмотр),
+     * затем сливается со списком за один проход, емкость увеличивается не более одного раза.
+     *
+     * @param list список, элементы которого будут добавлены.
+     * @return true, если этот список изменился в результате вызова.
+     * @throws ArrayIndexOutOfBoundsException если вместимость может превысить Integer.MAX_VALUE.
+     */
+    public boolean addAllSorted(MyList<? extends E> list) {
+        Object[] batch = new Object[list.size()];
+        int i = 0;
+        for (E element : list) {
+            batch[i++] = element;
+        }
+        return mergeBatch(batch);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean mergeBatch(Object[] batch) {
+        if (batch.length == 0) {
+            return false;
+        }
+        RunMergeSort.sort((E[]) batch, 0, batch.length - 1, comparator);
+        elements.mergeSorted(batch, comparator);
+        return true;
+    }
+
+    /**
+     * Не поддерживается: позиция элемента определяется порядком списка.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void add(int index, E element) {
+        throw new UnsupportedOperationException("SortedMyList defines the position of elements, use add");
+    }
+
+    /**
+     * Ищет указанный элемент двоичным поиском.
+     *
+     * @param key искомый элемент.
+     * @return индекс элемента, если он найден, иначе (-(точка вставки) - 1).
+     * @throws ClassCastException если элемент несопоставим с элементами списка.
+     */
+    public int binarySearch(E key) {
+        return elements.binarySearch(key, comparator);
+    }
+
+    /**
+     * Проверяет количество элементов в этом списке.
+     *
+     * @return количество элементов в этом списке.
+     */
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    /**
+     * Проверяет отсутствие элементов в этом списке.
+     *
+     * @return true, если этот список не содержит элементов.
+     */
+    @Override
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Возвращает элемент в указанной позиции в этом списке.
+     *
+     * @param index индекс возвращаемого элемента.
+     * @return элемент в указанной позиции в этом списке.
+     * @throws IndexOutOfBoundsException если индекс выходит за пределы диапазона (index < 0 || index >= size())
+     */
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    /**
+     * Возвращает первое вхождение указанного элемента из этого списка, если оно присутствует,
+     * если элемент отсутствует в этом списке, вернет null. Поиск выполняется двоичным поиском за O(log n).
+     *
+     * @param element элемент, который нужно найти в этом списке, если он присутствует.
+     * @return первое вхождение указанного элемента из этого списка.
+     * @throws NullPointerException если указанная ссылка на объект равна null.
+     */
+    @Override
+    public E get(E element) {
+        Objects.requireNonNull(element);
+        return indexOf(element) >= 0 ? element : null;
+    }
+
+    /**
+     * Удаляет первое вхождение указанного элемента из этого списка, если оно присутствует.
+     * Элемент находится двоичным поиском, после удаления последующие элементы сдвигаются.
+     *
+     * @param element элемент, который нужно удалить из этого списка, если он присутствует
+     * @return true, если этот список содержит указанный элемент
+     * (или, что, то же самое, если этот список изменился в результате вызова).
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+        if (index < 0) {
+            return false;
+        }
+        elements.fastRemove(index);
+        return true;
+    }
+
+    /**
+     * Удаляет все элементы из этого списка.
+     */
+    @Override
+    public void clear() {
+        elements.clear();
+    }
+
+    /**
+     * Не поддерживается: замена элемента может нарушить порядок списка.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public E set(int index, E element) {
+        throw new UnsupportedOperationException("SortedMyList defines the position of elements, use remove and add");
+    }
+
+    /**
+     * Не поддерживается: список всегда отсортирован своим Comparator'ом.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("SortedMyList is always sorted by its comparator");
+    }
+
+    /**
+     * Не поддерживается: список всегда отсортирован своим Comparator'ом.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void sort(int fromIndex, int toIndex) {
+        throw new UnsupportedOperationException("SortedMyList is always sorted by its comparator");
+    }
+
+    /**
+     * Не поддерживается: список всегда отсортирован своим Comparator'ом.
+     *
+     * @throws UnsupportedOperationException всегда.
+     */
+    @Override
+    public void stableSort(int fromIndex, int toIndex, Comparator<? super E> comparator) {
+        throw new UnsupportedOperationException("SortedMyList is always sorted by its comparator");
+    }
+
+    /**
+     * Возвращает fail-fast итератор по элементам этого списка в порядке возрастания.
+     * Итератор поддерживает удаление последнего возвращенного элемента.
+     *
+     * @return итератор по элементам этого списка.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return elements.iterator();
+    }
+
+    /**
+     * Возвращает fail-fast Spliterator по элементам этого списка
+     * с характеристиками ORDERED, SIZED и SUBSIZED.
+     *
+     * @return Spliterator по элементам этого списка.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return elements.spliterator();
+    }
+
+    /**
+     * Выполняет указанное действие для каждого элемента этого списка в порядке возрастания.
+     *
+     * @param action действие, выполняемое для каждого элемента.
+     * @throws ConcurrentModificationException если список структурно изменен во время обхода.
+     */
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        elements.forEach(action);
+    }
+
+    /**
+     * Сравнивает указанный объект с этим списком на предмет равенства.
+     * Возвращает true тогда и только тогда, когда указанный объект также является MyList
+     * и содержит те же элементы в том же порядке. Списки SortedMyList сравниваются напрямую,
+     * списки других классов - методом MyLists.equals.
+     *
+     * @param o объект для сравнения
+     * @return true, если переданный объект и этот список равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return MyLists.equals(this, o);
+        SortedMyList<?> that = (SortedMyList<?>) o;
+        if (size() != that.size()) return false;
+        for (int i = 0; i < size(); i++) {
+            if (!Objects.equals(elements.get(i), that.elements.get(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Возвращает значение хэш-кода для этого списка.
+     *
+     * @return значение хэш-кода для этого списка.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (E element : elements) {
+            result = 31 * result + Objects.hashCode(element);
+        }
+        return result;
+    }
+
+    /**
+     * Возвращает строковое представление этой коллекции в порядке возрастания элементов,
+     * в том же формате, что и MyArrayList.
+     *
+     * @return строковое представление этой коллекции.
+     */
+    @Override
+    public String toString() {
+        return elements.toString();
+    }
+}
@@ -0,0 +1,569 @@
+package ru.sanctio.dataStructures.myList;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Алгоритмы сортировки диапазонов массивов, используемые реализациями MyList.
+ * Все границы диапазонов включительные, как в методах sort интерфейса MyList.
+ */
+final class Sorting {
+
+    /**
+     * Comparator, упорядочивающий элементы в соответствии с их естественным порядком.
+     */
+    @SuppressWarnings("unchecked")
+    static final Comparator<Object> NATURAL_ORDER = (e1, e2) -> ((Comparable<Object>) e1).compareTo(e2);
+
+    /**
+     * Минимальный размер части диапазона, которая сортируется одним потоком при параллельной сортировке.
+     * Меньшие диапазоны сортируются последовательно целиком.
+     */
+    static final int MIN_PARALLEL_SORT_GRANULARITY = 1 << 13;
+
+    /**
+     * Максимальная длина диапазона, который сортируется вставками.
+     */
+    static final int INSERTION_SORT_THRESHOLD = 16;
+
+    private Sorting() {
+    }
+
+    /**
+     * Сортирует указанный диапазон массива интроспективной сортировкой.
+     * <p>
+     * Основа алгоритма - быстрая сортировка с трехсторонним разбиением, при котором элементы,
+     * равные опорному, сразу собираются в середине и больше не участвуют в сортировке,
+     * поэтому большое количество повторяющихся значений ускоряет сортировку, а не замедляет ее.
+     * Рекурсия выполняется только для меньшей части разбиения, поэтому глубина стека не превышает log2(n).
+     * Если глубина разбиений превышает 2*log2(n), диапазон досортировывается пирамидальной сортировкой,
+     * что гарантирует время O(n log n) в худшем случае. Диапазоны не длиннее
+     * INSERTION_SORT_THRESHOLD элементов сортируются вставками.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     */
+    static <E> void introSort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+        introSort(sortArr, low, high, comparator, PivotStrategy.MEDIAN_OF_THREE);
+    }
+
+    /**
+     * Сортирует указанный диапазон массива интроспективной сортировкой,
+     * выбирая опорные элементы указанной стратегией.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента.
+     */
+    static <E> void introSort(E[] sortArr, int low, int high, Comparator<? super E> comparator,
+                              PivotStrategy strategy) {
+        if (high <= low) {
+            return;
+        }
+        introSort(sortArr, low, high, depthLimit(high - low + 1), comparator, strategy.start(), new int[2]);
+    }
+
+    private static <E> void introSort(E[] sortArr, int low, int high, int depthLimit,
+                                      Comparator<? super E> comparator, PivotStrategy strategy, int[] bounds) {
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(sortArr, low, high, comparator);
+                return;
+            }
+
+            //выбираем опорный элемент и разделяем диапазон на части меньше, равные и больше него
+            int pivot = strategy.choosePivot(sortArr, low, high, comparator);
+            partition(sortArr, low, high, pivot, comparator, bounds);
+            int lessHigh = bounds[0] - 1;
+            int greaterLow = bounds[1] + 1;
+
+            //рекурсия для меньшей части, цикл для большей
+            if (lessHigh - low < high - greaterLow) {
+                introSort(sortArr, low, lessHigh, depthLimit, comparator, strategy, bounds);
+                low = greaterLow;
+            } else {
+                introSort(sortArr, greaterLow, high, depthLimit, comparator, strategy, bounds);
+                high = lessHigh;
+            }
+        }
+        insertionSort(sortArr, low, high, comparator);
+    }
+
+    /**
+     * Возвращает допустимую глубину разбиений для диапазона указанной длины.
+     *
+     * @param length длина диапазона.
+     * @return удвоенный двоичный логарифм длины.
+     */
+    static int depthLimit(int length) {
+        return 2 * (31 - Integer.numberOfLeadingZeros(length));
+    }
+
+    /**
+     * Разделяет диапазон массива относительно элемента с индексом pivotIndex на три части:
+     * элементы меньше опорного, равные ему и больше него.
+     * После вызова bounds[0] и bounds[1] содержат первый и последний индексы части, равной опорному.
+     *
+     * @param sortArr    массив для разбиения.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param pivotIndex индекс опорного элемента внутри диапазона.
+     * @param comparator Comparator для определения порядка элементов.
+     * @param bounds     массив из двух элементов для границ равной части.
+     */
+    static <E> void partition(E[] sortArr, int low, int high, int pivotIndex,
+                              Comparator<? super E> comparator, int[] bounds) {
+        E border = sortArr[pivotIndex];
+        swap(sortArr, low, pivotIndex);
+        int less = low, i = low + 1, greater = high;
+        while (i <= greater) {
+            int result = comparator.compare(sortArr[i], border);
+            if (result < 0) {
+                swap(sortArr, less++, i++);
+            } else if (result > 0) {
+                swap(sortArr, i, greater--);
+            } else {
+                i++;
+            }
+        }
+        bounds[0] = less;
+        bounds[1] = greater;
+    }
+
+    /**
+     * Возвращает индекс медианы трех указанных элементов.
+     */
+    static <E> int medianOfThree(E[] sortArr, int a, int b, int c, Comparator<? super E> comparator) {
+        if (comparator.compare(sortArr[a], sortArr[b]) < 0) {
+            if (comparator.compare(sortArr[b], sortArr[c]) < 0) return b;
+            return comparator.compare(sortArr[a], sortArr[c]) < 0 ? c : a;
+        }
+        if (comparator.compare(sortArr[a], sortArr[c]) < 0) return a;
+        return comparator.compare(sortArr[b], sortArr[c]) < 0 ? c : b;
+    }
+
+    /**
+     * Сортирует указанный диапазон массива вставками.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     */
+    static <E> void insertionSort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+        for (int i = low + 1; i <= high; i++) {
+            E current = sortArr[i];
+            int j = i - 1;
+            while (j >= low && comparator.compare(sortArr[j], current) > 0) {
+                sortArr[j + 1] = sortArr[j];
+                j--;
+            }
+            sortArr[j + 1] = current;
+        }
+    }
+
+    /**
+     * Сортирует указанный диапазон массива пирамидальной сортировкой за время O(n log n) без рекурсии.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     */
+    static <E> void heapSort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+        int length = high - low + 1;
+        for (int i = (length >>> 1) - 1; i >= 0; i--) {
+            siftDown(sortArr, low, i, length, comparator);
+        }
+        for (int end = length - 1; end > 0; end--) {
+            swap(sortArr, low, low + end);
+            siftDown(sortArr, low, 0, end, comparator);
+        }
+    }
+
+    /**
+     * Опускает элемент с номером i в максимальной куче из length элементов, начинающейся с индекса base.
+     */
+    private static <E> void siftDown(E[] sortArr, int base, int i, int length, Comparator<? super E> comparator) {
+        E current = sortArr[base + i];
+        int half = length >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < length && comparator.compare(sortArr[base + right], sortArr[base + child]) > 0) {
+                child = right;
+            }
+            if (comparator.compare(current, sortArr[base + child]) >= 0) {
+                break;
+            }
+            sortArr[base + i] = sortArr[base + child];
+            i = child;
+        }
+        sortArr[base + i] = current;
+    }
+
+    static void swap(Object[] sortArr, int i, int j) {
+        Object swap = sortArr[i];
+        sortArr[i] = sortArr[j];
+        sortArr[j] = swap;
+    }
+
+    /**
+     * Переставляет элементы диапазона так, что на позиции k оказывается элемент, который стоял бы там
+     * после сортировки, слева от него - не большие, справа - не меньшие элементы (интроспективный выбор).
+     * <p>
+     * Используется то же трехстороннее разбиение, что и в introSort, но после разбиения продолжается
+     * только та часть, которая содержит k, поэтому в среднем выполняется O(n) сравнений.
+     * Если глубина разбиений превышает 2*log2(n), оставшийся диапазон сортируется пирамидальной сортировкой,
+     * что ограничивает худший случай величиной O(n log n).
+     *
+     * @param sortArr    массив для перестановки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param k          индекс внутри диапазона, на который ставится k-й по порядку элемент.
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента.
+     */
+    static <E> void select(E[] sortArr, int low, int high, int k, Comparator<? super E> comparator,
+                           PivotStrategy strategy) {
+        PivotStrategy started = strategy.start();
+        int depthLimit = depthLimit(high - low + 1);
+        int[] bounds = new int[2];
+        while (high - low + 1 > INSERTION_SORT_THRESHOLD) {
+            if (depthLimit-- == 0) {
+                heapSort(sortArr, low, high, comparator);
+                return;
+            }
+            int pivot = started.choosePivot(sortArr, low, high, comparator);
+            partition(sortArr, low, high, pivot, comparator, bounds);
+            if (k < bounds[0]) {
+                high = bounds[0] - 1;
+            } else if (k > bounds[1]) {
+                low = bounds[1] + 1;
+            } else {
+                //k попал в часть, равную опорному элементу
+                return;
+            }
+        }
+        insertionSort(sortArr, low, high, comparator);
+    }
+
+    /**
+     * Ставит count наименьших элементов диапазона в его начало в отсортированном порядке,
+     * остальные элементы остаются в конце диапазона в неопределенном порядке.
+     * Выбор границы стоит в среднем O(n), сортировка начала - O(count log count).
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param count      количество элементов, которые нужно отсортировать, от 0 до длины диапазона.
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента.
+     */
+    static <E> void partialSort(E[] sortArr, int low, int high, int count, Comparator<? super E> comparator,
+                                PivotStrategy strategy) {
+        if (count == 0) {
+            return;
+        }
+        int last = low + count - 1;
+        if (last == high) {
+            introSort(sortArr, low, high, comparator, strategy);
+            return;
+        }
+        //после выбора элемент last уже на своем месте, остается отсортировать элементы левее него
+        select(sortArr, low, high, last, comparator, strategy);
+        introSort(sortArr, low, last - 1, comparator, strategy);
+    }
+
+    /**
+     * Возвращает не более k наибольших элементов диапазона в порядке убывания, не изменяя массив.
+     * Элементы проходят через кучу из k элементов с наименьшим из отобранных в вершине,
+     * поэтому требуется O(n log k) сравнений и O(k) дополнительной памяти.
+     *
+     * @param sortArr    массив с элементами.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param k          наибольшее количество возвращаемых элементов, неотрицательное.
+     * @param comparator Comparator для определения порядка элементов.
+     * @return новый массив наибольших элементов, упорядоченный по убыванию.
+     */
+    @SuppressWarnings("unchecked")
+    static <E> Object[] topK(E[] sortArr, int low, int high, int k, Comparator<? super E> comparator) {
+        int count = Math.min(k, high - low + 1);
+        E[] heap = (E[]) new Object[count];
+        if (count == 0) {
+            return heap;
+        }
+        //куча по обратному порядку: в вершине наименьший из отобранных элементов
+        Comparator<? super E> reversed = comparator.reversed();
+        System.arraycopy(sortArr, low, heap, 0, count);
+        for (int i = (count >>> 1) - 1; i >= 0; i--) {
+            siftDown(heap, 0, i, count, reversed);
+        }
+        for (int i = low + count; i <= high; i++) {
+            if (comparator.compare(sortArr[i], heap[0]) > 0) {
+                heap[0] = sortArr[i];
+                siftDown(heap, 0, 0, count, reversed);
+            }
+        }
+        heapSort(heap, 0, count - 1, reversed);
+        return heap;
+    }
+
+    /**
+     * Сортирует указанный диапазон массива параллельно в общем ForkJoinPool.
+     * Диапазон делится на части, которые сортируются интроспективной сортировкой в разных потоках,
+     * после чего отсортированные части попарно сливаются, также параллельно.
+     * Если диапазон меньше MIN_PARALLEL_SORT_GRANULARITY или в пуле один поток,
+     * диапазон сортируется последовательно.
+     * Для слияния выделяется временный массив размером с диапазон.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     */
+    static <E> void parallelSort(E[] sortArr, int low, int high, Comparator<? super E> comparator) {
+        parallelSort(sortArr, low, high, comparator, PivotStrategy.MEDIAN_OF_THREE, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Сортирует указанный диапазон массива параллельно в общем ForkJoinPool,
+     * выбирая опорные элементы указанной стратегией. Каждая часть диапазона начинает
+     * сортировку со своего вызова PivotStrategy.start, поэтому потоки не разделяют состояние стратегии.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента.
+     */
+    static <E> void parallelSort(E[] sortArr, int low, int high, Comparator<? super E> comparator,
+                                 PivotStrategy strategy) {
+        parallelSort(sortArr, low, high, comparator, strategy, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Сортирует указанный диапазон массива параллельно в указанном ForkJoinPool.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     * @param pool       пул, в котором выполняются задачи сортировки.
+     */
+    static <E> void parallelSort(E[] sortArr, int low, int high, Comparator<? super E> comparator, ForkJoinPool pool) {
+        parallelSort(sortArr, low, high, comparator, PivotStrategy.MEDIAN_OF_THREE, pool);
+    }
+
+    /**
+     * Сортирует указанный диапазон массива параллельно в указанном ForkJoinPool,
+     * выбирая опорные элементы указанной стратегией.
+     *
+     * @param sortArr    массив для сортировки.
+     * @param low        начальный индекс диапазона(включительно).
+     * @param high       конечный индекс диапазона(включительно).
+     * @param comparator Comparator для определения порядка элементов.
+     * @param strategy   стратегия выбора опорного элемента.
+     * @param pool       пул, в котором выполняются задачи сортировки.
+     */
+    static <E> void parallelSort(E[] sortArr, int low, int high, Comparator<? super E> comparator,
+                                 PivotStrategy strategy, ForkJoinPool pool) {
+        int length = high - low + 1;
+        int parallelism = pool.getParallelism();
+        if (length <= MIN_PARALLEL_SORT_GRANULARITY || parallelism == 1) {
+            introSort(sortArr, low, high, comparator, strategy);
+            return;
+        }
+        int granularity = Math.max(length / (parallelism << 2), MIN_PARALLEL_SORT_GRANULARITY);
+        Object[] buffer = new Object[length];
+        pool.invoke(new SortTask<>(sortArr, buffer, low, high + 1, low, granularity, comparator, strategy));
+    }
+
+    /**
+     * Сортирует диапазон [low, high) массива: делит его пополам, сортирует половины
+     * в разных задачах и сливает их через буфер.
+     */
+    private static final class SortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] sortArr;
+        private final Object[] buffer;
+        private final int low;
+        private final int high;
+        private final int bufferBase;
+        private final int granularity;
+        private final Comparator<? super E> comparator;
+        private final PivotStrategy strategy;
+
+        SortTask(E[] sortArr, Object[] buffer, int low, int high, int bufferBase,
+                 int granularity, Comparator<? super E> comparator, PivotStrategy strategy) {
+            this.sortArr = sortArr;
+            this.buffer = buffer;
+            this.low = low;
+            this.high = high;
+            this.bufferBase = bufferBase;
+            this.granularity = granularity;
+            this.comparator = comparator;
+            this.strategy = strategy;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= granularity) {
+                if (high - low > 1) {
+                    introSort(sortArr, low, high - 1, comparator, strategy);
+                }
+                return;
+            }
+            int middle = (low + high) >>> 1;
+            invokeAll(new SortTask<>(sortArr, buffer, low, middle, bufferBase, granularity, comparator, strategy),
+                    new SortTask<>(sortArr, buffer, middle, high, bufferBase, granularity, comparator, strategy));
+            if (comparator.compare(sortArr[middle - 1], sortArr[middle]) <= 0) {
+                //половины уже упорядочены друг относительно друга
+                return;
+            }
+            new MergeTask<>(sortArr, buffer, low, middle, middle, high, low - bufferBase,
+                    granularity, comparator).invoke();
+            new CopyTask(buffer, sortArr, low - bufferBase, low, high - low, granularity).invoke();
+        }
+    }
+
+    /**
+     * Сливает отсортированные диапазоны [leftLow, leftHigh) и [rightLow, rightHigh) массива
+     * в буфер, начиная с индекса target. Большой диапазон делится пополам,
+     * точка деления меньшего находится бинарным поиском, и обе пары сливаются параллельно.
+     * При равенстве элементов первыми идут элементы левого диапазона.
+     */
+    private static final class MergeTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] sortArr;
+        private final Object[] buffer;
+        private final int leftLow;
+        private final int leftHigh;
+        private final int rightLow;
+        private final int rightHigh;
+        private final int target;
+        private final int granularity;
+        private final Comparator<? super E> comparator;
+
+        MergeTask(E[] sortArr, Object[] buffer, int leftLow, int leftHigh, int rightLow, int rightHigh,
+                  int target, int granularity, Comparator<? super E> comparator) {
+            this.sortArr = sortArr;
+            this.buffer = buffer;
+            this.leftLow = leftLow;
+            this.leftHigh = leftHigh;
+            this.rightLow = rightLow;
+            this.rightHigh = rightHigh;
+            this.target = target;
+            this.granularity = granularity;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected void compute() {
+            int leftLength = leftHigh - leftLow;
+            int rightLength = rightHigh - rightLow;
+            if (leftLength + rightLength <= granularity) {
+                merge();
+                return;
+            }
+            int leftSplit;
+            int rightSplit;
+            if (leftLength >= rightLength) {
+                leftSplit = (leftLow + leftHigh) >>> 1;
+                rightSplit = lowerBound(sortArr[leftSplit]);
+            } else {
+                rightSplit = (rightLow + rightHigh) >>> 1;
+                leftSplit = upperBound(sortArr[rightSplit]);
+            }
+            int secondTarget = target + (leftSplit - leftLow) + (rightSplit - rightLow);
+            invokeAll(new MergeTask<>(sortArr, buffer, leftLow, leftSplit, rightLow, rightSplit,
+                            target, granularity, comparator),
+                    new MergeTask<>(sortArr, buffer, leftSplit, leftHigh, rightSplit, rightHigh,
+                            secondTarget, granularity, comparator));
+        }
+
+        /**
+         * Находит в правом диапазоне первый элемент, не меньший указанного.
+         */
+        private int lowerBound(E key) {
+            int lo = rightLow, hi = rightHigh;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (comparator.compare(sortArr[mid], key) < 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        /**
+         * Находит в левом диапазоне первый элемент, больший указанного.
+         */
+        private int upperBound(E key) {
+            int lo = leftLow, hi = leftHigh;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (comparator.compare(sortArr[mid], key) <= 0) lo = mid + 1;
+                else hi = mid;
+            }
+            return lo;
+        }
+
+        private void merge() {
+            int i = leftLow, j = rightLow, k = target;
+            while (i < leftHigh && j < rightHigh) {
+                if (comparator.compare(sortArr[j], sortArr[i]) < 0) {
+                    buffer[k++] = sortArr[j++];
+                } else {
+                    buffer[k++] = sortArr[i++];
+                }
+            }
+            System.arraycopy(sortArr, i, buffer, k, leftHigh - i);
+            k += leftHigh - i;
+            System.arraycopy(sortArr, j, buffer, k, rightHigh - j);
+        }
+    }
+
+    /**
+     * Параллельно копирует диапазон одного массива в другой.
+     */
+    private static final class CopyTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Object[] source;
+        private final Object[] destination;
+        private final int sourceFrom;
+        private final int destinationFrom;
+        private final int length;
+        private final int granularity;
+
+        CopyTask(Object[] source, Object[] destination, int sourceFrom, int destinationFrom,
+                 int length, int granularity) {
+            this.source = source;
+            this.destination = destination;
+            this.sourceFrom = sourceFrom;
+            this.destinationFrom = destinationFrom;
+            this.length = length;
+            this.granularity = granularity;
+        }
+
+        @Override
+        protected void compute() {
+            if (length <= granularity) {
+                System.arraycopy(source, sourceFrom, destination, destinationFrom, length);
+                return;
+            }
+            int half = length >>> 1;
+            invokeAll(new CopyTask(source, destination, sourceFrom, destinationFrom, half, granularity),
+                    new CopyTask(source, destination, sourceFrom + half, destinationFrom + half,
+                            length - half, granularity));
+        }
+    }
+}
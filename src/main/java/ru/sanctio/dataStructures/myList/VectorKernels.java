@@ -0,0 +1,221 @@
+package ru.sanctio.dataStructures.myList;
+
+import jdk.incubator.vector.*;
+
+/**
+ * Реализация поиска, подсчета и агрегирования PrimitiveKernels на Vector API. Основная часть диапазона обрабатывается векторами
+ * предпочтительной для процессора ширины, остаток короче одного вектора - скалярным циклом.
+ * <p>
+ * Класс требует модуль jdk.incubator.vector и компилируется только в профиле Maven vector.
+ * PrimitiveKernels загружает его по имени, если модуль присутствует, и проверяет успешную инициализацию класса.
+ */
+final class VectorKernels implements PrimitiveKernels.Vectorized {
+
+    private static final VectorSpecies<Integer> INT = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONG = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLE = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * Векторы int той же ширины, что и LONG: каждый такой вектор содержит вдвое больше элементов,
+     * и суммирование расширяет его до long двумя частями без переполнения.
+     * В отличие от вектора половинной ширины, такая форма существует при любом размере векторов,
+     * в том числе при 64-битных векторах (-XX:MaxVectorSize=8).
+     */
+    private static final VectorSpecies<Integer> INT_AS_LONG = IntVector.SPECIES_PREFERRED.withShape(LONG.vectorShape());
+
+    /**
+     * Вызывается PrimitiveKernels через отражение, поэтому класс не нужен при компиляции остальной библиотеки.
+     */
+    VectorKernels() {
+    }
+
+    /**
+     * Проверяет, что векторные формы созданы и операции выполняются на этой платформе.
+     * Вызывается PrimitiveKernels один раз; ошибка инициализации класса приводит к выбору скалярной реализации.
+     *
+     * @return true, если результаты векторных операций совпадают со скалярными.
+     */
+    @Override
+    public boolean selfTest() {
+        int[] ints = new int[3 * INT_AS_LONG.length() + 1];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = Integer.MAX_VALUE - i;
+        }
+        return sum(ints, 0, ints.length) == PrimitiveKernels.scalarSum(ints, 0, ints.length)
+                && indexOf(ints, 0, ints.length, Integer.MAX_VALUE - ints.length + 1) == ints.length - 1;
+    }
+
+    @Override
+    public int indexOf(int[] a, int from, int to, int key) {
+        int i = from;
+        for (int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+            VectorMask<Integer> found = IntVector.fromArray(INT, a, i).eq(key);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return PrimitiveKernels.scalarIndexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(int[] a, int from, int to, int key) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+            count += IntVector.fromArray(INT, a, i).eq(key).trueCount();
+        }
+        return count + PrimitiveKernels.scalarCount(a, i, to, key);
+    }
+
+    @Override
+    public int min(int[] a, int from, int to) {
+        IntVector min = IntVector.broadcast(INT, Integer.MAX_VALUE);
+        int i = from;
+        for (int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+            min = min.min(IntVector.fromArray(INT, a, i));
+        }
+        return Math.min(min.reduceLanes(VectorOperators.MIN), PrimitiveKernels.scalarMin(a, i, to));
+    }
+
+    @Override
+    public int max(int[] a, int from, int to) {
+        IntVector max = IntVector.broadcast(INT, Integer.MIN_VALUE);
+        int i = from;
+        for (int bound = from + INT.loopBound(to - from); i < bound; i += INT.length()) {
+            max = max.max(IntVector.fromArray(INT, a, i));
+        }
+        return Math.max(max.reduceLanes(VectorOperators.MAX), PrimitiveKernels.scalarMax(a, i, to));
+    }
+
+    @Override
+    public long sum(int[] a, int from, int to) {
+        LongVector sum = LongVector.zero(LONG);
+        int i = from;
+        for (int bound = from + INT_AS_LONG.loopBound(to - from); i < bound; i += INT_AS_LONG.length()) {
+            IntVector ints = IntVector.fromArray(INT_AS_LONG, a, i);
+            sum = sum.add((LongVector) ints.convertShape(VectorOperators.I2L, LONG, 0))
+                    .add((LongVector) ints.convertShape(VectorOperators.I2L, LONG, 1));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + PrimitiveKernels.scalarSum(a, i, to);
+    }
+
+    @Override
+    public int indexOf(long[] a, int from, int to, long key) {
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            VectorMask<Long> found = LongVector.fromArray(LONG, a, i).eq(key);
+            if (found.anyTrue()) {
+                return i + found.firstTrue();
+            }
+        }
+        return PrimitiveKernels.scalarIndexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(long[] a, int from, int to, long key) {
+        int count = 0;
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            count += LongVector.fromArray(LONG, a, i).eq(key).trueCount();
+        }
+        return count + PrimitiveKernels.scalarCount(a, i, to, key);
+    }
+
+    @Override
+    public long min(long[] a, int from, int to) {
+        LongVector min = LongVector.broadcast(LONG, Long.MAX_VALUE);
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            min = min.min(LongVector.fromArray(LONG, a, i));
+        }
+        return Math.min(min.reduceLanes(VectorOperators.MIN), PrimitiveKernels.scalarMin(a, i, to));
+    }
+
+    @Override
+    public long max(long[] a, int from, int to) {
+        LongVector max = LongVector.broadcast(LONG, Long.MIN_VALUE);
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            max = max.max(LongVector.fromArray(LONG, a, i));
+        }
+        return Math.max(max.reduceLanes(VectorOperators.MAX), PrimitiveKernels.scalarMax(a, i, to));
+    }
+
+    @Override
+    public long sum(long[] a, int from, int to) {
+        LongVector sum = LongVector.zero(LONG);
+        int i = from;
+        for (int bound = from + LONG.loopBound(to - from); i < bound; i += LONG.length()) {
+            sum = sum.add(LongVector.fromArray(LONG, a, i));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + PrimitiveKernels.scalarSum(a, i, to);
+    }
+
+    /**
+     * Ищет как Double.equals: NaN находится проверкой IS_NAN, остальные значения - сравнением битов,
+     * поэтому 0.0 не равен -0.0.
+     */
+    @Override
+    public int indexOf(double[] a, int from, int to, double key) {
+        boolean nan = Double.isNaN(key);
+        long bits = Double.doubleToLongBits(key);
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLE, a, i);
+            int first = nan ? vector.test(VectorOperators.IS_NAN).firstTrue()
+                    : vector.reinterpretAsLongs().eq(bits).firstTrue();
+            if (first < DOUBLE.length()) {
+                return i + first;
+            }
+        }
+        return PrimitiveKernels.scalarIndexOf(a, i, to, key);
+    }
+
+    @Override
+    public int count(double[] a, int from, int to, double key) {
+        boolean nan = Double.isNaN(key);
+        long bits = Double.doubleToLongBits(key);
+        int count = 0;
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            DoubleVector vector = DoubleVector.fromArray(DOUBLE, a, i);
+            count += nan ? vector.test(VectorOperators.IS_NAN).trueCount()
+                    : vector.reinterpretAsLongs().eq(bits).trueCount();
+        }
+        return count + PrimitiveKernels.scalarCount(a, i, to, key);
+    }
+
+    @Override
+    public double min(double[] a, int from, int to) {
+        DoubleVector min = DoubleVector.broadcast(DOUBLE, Double.POSITIVE_INFINITY);
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            min = min.min(DoubleVector.fromArray(DOUBLE, a, i));
+        }
+        return Math.min(min.reduceLanes(VectorOperators.MIN), PrimitiveKernels.scalarMin(a, i, to));
+    }
+
+    @Override
+    public double max(double[] a, int from, int to) {
+        DoubleVector max = DoubleVector.broadcast(DOUBLE, Double.NEGATIVE_INFINITY);
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            max = max.max(DoubleVector.fromArray(DOUBLE, a, i));
+        }
+        return Math.max(max.reduceLanes(VectorOperators.MAX), PrimitiveKernels.scalarMax(a, i, to));
+    }
+
+    /**
+     * Складывает элементы в нескольких независимых суммах, поэтому результат может отличаться
+     * от последовательного сложения в последних разрядах.
+     */
+    @Override
+    public double sum(double[] a, int from, int to) {
+        DoubleVector sum = DoubleVector.zero(DOUBLE);
+        int i = from;
+        for (int bound = from + DOUBLE.loopBound(to - from); i < bound; i += DOUBLE.length()) {
+            sum = sum.add(DoubleVector.fromArray(DOUBLE, a, i));
+        }
+        return sum.reduceLanes(VectorOperators.ADD) + PrimitiveKernels.scalarSum(a, i, to);
+    }
+}
@@ -0,0 +1,86 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkTasksTest {
+    private ForkJoinPool pool;
+    private ParallelSettings settings;
+    private Object[] array;
+
+    @BeforeEach
+    void createArray() {
+        pool = new ForkJoinPool(4);
+        settings = ParallelSettings.of(pool, 1000);
+        array = new Object[100_003];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void rangeShouldBeReplacedInParallel() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BulkTasks.<Integer>replaceAll(array, 10, array.length - 10, element -> {
+            threads.add(Thread.currentThread().getName());
+            return -element;
+        }, settings);
+
+        for (int i = 0; i < array.length; i++) {
+            int expected = i < 10 || i >= array.length - 10 ? i : -i;
+            assertEquals(expected, array[i]);
+        }
+        assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+
+    @Test
+    void actionShouldBeAppliedToEveryElementOnce() {
+        LongAdder sum = new LongAdder();
+        BulkTasks.<Integer>forEach(array, 0, array.length, sum::add, settings);
+
+        assertEquals((long) array.length * (array.length - 1) / 2, sum.sum());
+    }
+
+    @Test
+    void reduceShouldCombinePartsInOrder() {
+        array = new Object[5000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = String.valueOf(i % 10);
+        }
+        String sequential = BulkTasks.reduce(array, 0, array.length, "", String::concat);
+
+        assertEquals(sequential, BulkTasks.reduce(array, 0, array.length, "", String::concat, settings));
+    }
+
+    @Test
+    void collectShouldCombineContainersInOrder() {
+        MyArrayList<Integer> collected = BulkTasks.<Integer, MyArrayList<Integer>>collect(array, 0, array.length,
+                MyArrayList::new, MyArrayList::add, (left, right) -> left.addAll(right), settings);
+
+        assertEquals(array.length, collected.size());
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i, collected.get(i));
+        }
+    }
+
+    @Test
+    void shortRangeShouldBeProcessedInCallingThread() {
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        BulkTasks.forEach(array, 0, 1000, element -> threads.add(Thread.currentThread().getName()), settings);
+
+        assertEquals(Set.of(Thread.currentThread().getName()), threads);
+    }
+}
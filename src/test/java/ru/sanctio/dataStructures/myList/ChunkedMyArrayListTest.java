@@ -0,0 +1,141 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkedMyArrayListTest {
+    private ChunkedMyArrayList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new ChunkedMyArrayList<>(4);
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(null);
+    }
+
+    @Test
+    void shouldThrowAnIllegalArgumentExceptionWhenChunkSizeIsNotPowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedMyArrayList<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new ChunkedMyArrayList<>(6));
+    }
+
+    @Test
+    void growthShouldAllocateChunksWithoutCopyingElements() {
+        Object[][] chunksBefore = (Object[][]) ReflectionTestUtils.getField(list, "chunks");
+        Object[] firstChunk = chunksBefore[0];
+        for (int i = 0; i < 1000; i++) {
+            list.add(i);
+        }
+
+        Object[][] chunksAfter = (Object[][]) ReflectionTestUtils.getField(list, "chunks");
+        assertSame(firstChunk, chunksAfter[0]);
+        assertEquals(4, chunksAfter[1].length);
+        assertEquals(1006, list.size());
+        assertEquals(999, list.get(1005));
+    }
+
+    @Test
+    void shouldThrowAnIndexOutOfBoundsExceptionWhenIndexEqualOrMoreSize() {
+        int size = list.size();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(size));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(size, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(size + 1, 1));
+    }
+
+    @Test
+    void shouldBehaveLikeArrayListAcrossChunkBoundaries() {
+        ChunkedMyArrayList<Integer> chunked = new ChunkedMyArrayList<>(8);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(11);
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(4);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                chunked.add(index, step);
+                expected.add(index, step);
+            } else if (operation == 1) {
+                chunked.add(step);
+                expected.add(step);
+            } else if (operation == 2) {
+                Integer element = expected.get(random.nextInt(expected.size()));
+                assertTrue(chunked.remove(element));
+                expected.remove(element);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), chunked.set(index, -step));
+            }
+            assertEquals(expected.size(), chunked.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), chunked.get(i));
+        }
+    }
+
+    @Test
+    void elementsShouldBeFoundAndRemoved() {
+        assertEquals(8, list.get(Integer.valueOf(8)));
+        assertNull(list.get(Integer.valueOf(3)));
+        assertThrows(NullPointerException.class, () -> list.get(null));
+        assertTrue(list.remove(null));
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(3));
+
+        assertEquals("{ 1, 2, 8, 5 }", list.toString());
+    }
+
+    @Test
+    void rangesShouldBeSortedWithinAndAcrossChunks() {
+        list.remove(null);
+        list.add(3);
+        list.add(0);
+        list.sort(0, 2, Comparator.reverseOrder());
+        assertEquals("{ 2, 1, 1, 8, 5, 3, 0 }", list.toString());
+
+        list.sort(0, 6);
+        assertEquals("{ 0, 1, 1, 2, 3, 5, 8 }", list.toString());
+
+        list.stableSort(0, 6, Comparator.comparing(element -> element % 2));
+        assertEquals("{ 0, 2, 8, 1, 1, 3, 5 }", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.sort(0, 7, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> list.sort(0, 7));
+    }
+
+    @Test
+    void iteratorShouldRemoveElementsAndFailFast() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            Integer element = iterator.next();
+            if (element != null && element < 2) {
+                iterator.remove();
+            }
+        }
+        assertEquals("{ 2, 8, 5, null }", list.toString());
+
+        Iterator<Integer> failing = list.iterator();
+        failing.next();
+        list.add(3);
+        assertThrows(ConcurrentModificationException.class, failing::next);
+    }
+
+    @Test
+    void allElementsShouldBeRemoved() {
+        list.clear();
+        list.add(7);
+
+        assertEquals("{ 7 }", list.toString());
+        ChunkedMyArrayList<Integer> other = new ChunkedMyArrayList<>(16);
+        other.add(7);
+        assertEquals(other, list);
+        assertEquals(other.hashCode(), list.hashCode());
+    }
+}
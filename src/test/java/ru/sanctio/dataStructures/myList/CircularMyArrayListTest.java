@@ -0,0 +1,154 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircularMyArrayListTest {
+    private CircularMyArrayList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new CircularMyArrayList<>();
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(null);
+    }
+
+    @Test
+    void elementsShouldBeAddedToTheHead() {
+        CircularMyArrayList<Integer> newList = new CircularMyArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            newList.add(0, i);
+        }
+
+        assertEquals(10000, newList.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(9999 - i, newList.get(i));
+        }
+    }
+
+    @Test
+    void headAndTailShouldWorkAsDeque() {
+        list.addFirst(0);
+        list.addLast(9);
+
+        assertEquals(0, list.getFirst());
+        assertEquals(9, list.getLast());
+        assertEquals(0, list.removeFirst());
+        assertEquals(9, list.removeLast());
+        assertEquals("{ 1, 1, 2, 8, 5, null }", list.toString());
+    }
+
+    @Test
+    void shouldThrowNoSuchElementExceptionWhenListIsEmpty() {
+        CircularMyArrayList<Integer> newList = new CircularMyArrayList<>(0);
+
+        assertThrows(NoSuchElementException.class, newList::removeFirst);
+        assertThrows(NoSuchElementException.class, newList::removeLast);
+        assertThrows(NoSuchElementException.class, newList::getFirst);
+    }
+
+    @Test
+    void shouldBehaveLikeArrayListWhenWrappedAround() {
+        CircularMyArrayList<Integer> circular = new CircularMyArrayList<>(4);
+        List<Integer> expected = new ArrayList<>();
+        Random random = new Random(7);
+        for (int step = 0; step < 5000; step++) {
+            int operation = random.nextInt(6);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                circular.add(index, step);
+                expected.add(index, step);
+            } else if (operation == 1) {
+                circular.addFirst(step);
+                expected.add(0, step);
+            } else if (operation == 2) {
+                circular.add(step);
+                expected.add(step);
+            } else if (operation == 3) {
+                assertEquals(expected.remove(0), circular.removeFirst());
+            } else if (operation == 4) {
+                Integer element = expected.get(random.nextInt(expected.size()));
+                assertTrue(circular.remove(element));
+                expected.remove(element);
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals(expected.set(index, -step), circular.set(index, -step));
+            }
+            assertEquals(expected.size(), circular.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), circular.get(i));
+        }
+    }
+
+    @Test
+    void elementsShouldBeFoundAndRemoved() {
+        assertEquals(8, list.get(Integer.valueOf(8)));
+        assertNull(list.get(Integer.valueOf(3)));
+        assertThrows(NullPointerException.class, () -> list.get(null));
+        assertTrue(list.remove(null));
+        assertTrue(list.remove(2));
+        assertFalse(list.remove(3));
+
+        assertEquals("{ 1, 1, 8, 5 }", list.toString());
+    }
+
+    @Test
+    void wrappedListShouldBeSorted() {
+        CircularMyArrayList<Integer> circular = new CircularMyArrayList<>(8);
+        for (int i = 0; i < 4; i++) {
+            circular.add(i * 10);
+            circular.addFirst(i * 10 + 5);
+        }
+        circular.sort(1, 6);
+        assertEquals("{ 35, 0, 5, 10, 15, 20, 25, 30 }", circular.toString());
+
+        circular.sort(0, 7, Comparator.reverseOrder());
+        assertEquals("{ 35, 30, 25, 20, 15, 10, 5, 0 }", circular.toString());
+
+        circular.stableSort(0, 7, Comparator.comparing(element -> element % 10));
+        assertEquals("{ 30, 20, 10, 0, 35, 25, 15, 5 }", circular.toString());
+        assertThrows(IllegalArgumentException.class, () -> circular.sort(0, 8, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> circular.sort(0, 8));
+    }
+
+    @Test
+    void iteratorShouldRemoveElementsAndFailFast() {
+        list.addFirst(0);
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            Integer element = iterator.next();
+            if (element != null && element < 2) {
+                iterator.remove();
+            }
+        }
+        assertEquals("{ 2, 8, 5, null }", list.toString());
+
+        Iterator<Integer> failing = list.iterator();
+        failing.next();
+        list.addFirst(3);
+        assertThrows(ConcurrentModificationException.class, failing::next);
+    }
+
+    @Test
+    void listsWithDifferentLayoutShouldBeEqual() {
+        CircularMyArrayList<Integer> other = new CircularMyArrayList<>();
+        other.add(8);
+        other.add(5);
+        other.add(null);
+        other.addFirst(2);
+        other.addFirst(1);
+        other.addFirst(1);
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+    }
+}
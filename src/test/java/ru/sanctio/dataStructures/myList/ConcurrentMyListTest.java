@@ -0,0 +1,178 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentMyListTest {
+    private ConcurrentMyList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new ConcurrentMyList<>(4);
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(null);
+    }
+
+    @Test
+    void elementsShouldBeAddedAcrossSegments() {
+        for (int i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10006, list.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, list.get(i + 6));
+        }
+    }
+
+    @Test
+    void elementShouldBeAddedToTheSpecifiedIndex() {
+        list.add(0, 15);
+        list.add(3, 16);
+
+        assertEquals("{ 15, 1, 1, 16, 2, 8, 5, null }", list.toString());
+    }
+
+    @Test
+    void shouldThrowAnIndexOutOfBoundsExceptionWhenIndexEqualOrMoreSize() {
+        int size = list.size();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(size));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(size, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(size + 1, 1));
+    }
+
+    @Test
+    void elementsShouldBeFoundReplacedAndRemoved() {
+        assertEquals(8, list.get(Integer.valueOf(8)));
+        assertNull(list.get(Integer.valueOf(3)));
+        assertEquals(2, list.set(2, 3));
+        assertTrue(list.remove(null));
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(2));
+
+        assertEquals("{ 1, 3, 8, 5 }", list.toString());
+    }
+
+    @Test
+    void allElementsShouldBeRemoved() {
+        list.clear();
+        list.add(7);
+
+        assertEquals("{ 7 }", list.toString());
+    }
+
+    @Test
+    void listShouldBeSorted() {
+        list.remove(null);
+        list.sort(0, list.size() - 1);
+        assertEquals("{ 1, 1, 2, 5, 8 }", list.toString());
+
+        list.sort(0, list.size() - 1, Comparator.reverseOrder());
+        assertEquals("{ 8, 5, 2, 1, 1 }", list.toString());
+    }
+
+    @Test
+    void iterationShouldStopEarlyWhenListShrinks() {
+        Iterator<Integer> iterator = list.iterator();
+        Spliterator<Integer> spliterator = list.spliterator();
+        assertEquals(1, iterator.next());
+        assertTrue(spliterator.tryAdvance(element -> assertEquals(1, element)));
+        list.remove(8);
+        list.remove(5);
+        list.remove(null);
+
+        List<Integer> iterated = new ArrayList<>();
+        iterator.forEachRemaining(iterated::add);
+        spliterator.forEachRemaining(iterated::add);
+        assertEquals(List.of(1, 2, 1, 2), iterated);
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void addShouldReturnOnlyAfterItsElementIsPublished() throws Exception {
+        AtomicInteger reserved = (AtomicInteger) ReflectionTestUtils.getField(list, "reserved");
+        int stalled = reserved.getAndIncrement();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> adder = executor.submit(() -> list.add(7));
+            assertThrows(TimeoutException.class, () -> adder.get(100, TimeUnit.MILLISECONDS));
+            assertEquals(6, list.size());
+
+            ReflectionTestUtils.invokeMethod(list, "setSlot", stalled, 9);
+            adder.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(8, list.size());
+        assertEquals(9, list.get(6));
+        assertEquals(7, list.get(7));
+    }
+
+    @Test
+    void elementsShouldBeAddedAndReadConcurrently() throws Exception {
+        ConcurrentMyList<Integer> shared = new ConcurrentMyList<>();
+        int writers = 8;
+        int perWriter = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(writers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        try {
+            Future<?> reader = executor.submit(() -> {
+                start.await();
+                while (!done.get()) {
+                    int size = shared.size();
+                    for (int i = 0; i < size; i++) {
+                        assertNotNull(shared.get(i));
+                    }
+                }
+                return null;
+            });
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                int writer = w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perWriter; i++) {
+                        shared.add(writer * perWriter + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            done.set(true);
+            reader.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(writers * perWriter, shared.size());
+        boolean[] seen = new boolean[writers * perWriter];
+        for (Integer element : shared) {
+            assertFalse(seen[element]);
+            seen[element] = true;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CopyOnWriteMyListTest {
+    private CopyOnWriteMyList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new CopyOnWriteMyList<>();
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(null);
+    }
+
+    @Test
+    void elementsShouldBeAddedReplacedAndRemoved() {
+        list.add(0, 15);
+        assertEquals(2, list.set(3, 3));
+        assertTrue(list.remove(null));
+        assertTrue(list.remove(1));
+        assertFalse(list.remove(2));
+
+        assertEquals("{ 15, 1, 3, 8, 5 }", list.toString());
+        assertEquals(8, list.get(Integer.valueOf(8)));
+        assertNull(list.get(Integer.valueOf(2)));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(5));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(6, 1));
+    }
+
+    @Test
+    void iteratorShouldSeeSnapshotAtCreation() {
+        Iterator<Integer> iterator = list.iterator();
+        list.clear();
+        list.add(7);
+
+        int count = 0;
+        while (iterator.hasNext()) {
+            iterator.next();
+            count++;
+        }
+        assertEquals(6, count);
+        assertEquals("{ 7 }", list.toString());
+        assertThrows(UnsupportedOperationException.class, iterator::remove);
+    }
+
+    @Test
+    void publishedArrayShouldNotChangeAfterMutation() {
+        Object[] before = list.getArray();
+        list.add(3);
+        list.sort(0, 5, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        assertArrayEquals(new Object[]{1, 1, 2, 8, 5, null}, before);
+        assertEquals("{ null, 1, 1, 2, 5, 8, 3 }", list.toString());
+    }
+
+    @Test
+    void batchShouldBePublishedOnce() {
+        Object[] before = list.getArray();
+        list.mutate(batch -> {
+            for (int i = 0; i < 100; i++) {
+                batch.add(i);
+            }
+            batch.remove(null);
+            batch.sort(0, 4);
+            assertSame(before, list.getArray());
+        });
+
+        assertEquals(105, list.size());
+        assertEquals(8, list.get(4));
+        assertEquals(0, list.get(5));
+        assertEquals(99, list.get(104));
+    }
+
+    @Test
+    void failedBatchShouldNotChangeList() {
+        assertThrows(IllegalStateException.class, () -> list.mutate(batch -> {
+            batch.clear();
+            throw new IllegalStateException();
+        }));
+
+        assertEquals("{ 1, 1, 2, 8, 5, null }", list.toString());
+    }
+
+    @Test
+    void listShouldBeSortedStably() {
+        list.remove(null);
+        list.stableSort(0, 4, Comparator.comparing(element -> element % 2));
+
+        assertEquals("{ 2, 8, 1, 1, 5 }", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.sort(0, 5, Comparator.naturalOrder()));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> list.sort(0, 5));
+    }
+}
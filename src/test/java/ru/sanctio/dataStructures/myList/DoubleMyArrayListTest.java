@@ -0,0 +1,64 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleMyArrayListTest {
+    private DoubleMyArrayList list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new DoubleMyArrayList();
+        list.add(2.5);
+        list.add(Double.NaN);
+        list.add(-0.0);
+        list.add(0.0);
+        list.add(-1.0);
+    }
+
+    @Test
+    void shouldBeReturnIndexOfFirstOccurrenceLikeDoubleEquals() {
+        assertEquals(1, list.indexOf(Double.NaN));
+        assertEquals(2, list.indexOf(-0.0));
+        assertEquals(3, list.indexOf(0.0));
+        assertEquals(-1, list.indexOf(1.0));
+    }
+
+    @Test
+    void listShouldBeSortedByNonDecreasing() {
+        list.sort(0, list.size() - 1);
+
+        assertArrayEquals(new double[]{-1.0, -0.0, 0.0, 2.5, Double.NaN}, list.toArray());
+    }
+
+    @Test
+    void shouldBeReplaceTheElementInTheSpecifiedPosition() {
+        assertEquals(2.5, list.set(0, 3.5));
+        assertEquals(3.5, list.getDouble(0));
+    }
+
+    @Test
+    void listShouldBeConvertedToAndFromMyList() {
+        assertEquals(list, DoubleMyArrayList.from(list.toMyArrayList()));
+    }
+
+    @Test
+    void shouldBeCountedAndAggregatedLikeDoubleEquals() {
+        for (int i = 0; i < 40; i++) {
+            list.add(i % 2 == 0 ? 0.0 : -0.0);
+        }
+        assertEquals(21, list.count(0.0));
+        assertEquals(21, list.count(-0.0));
+        assertEquals(1, list.count(Double.NaN));
+        assertTrue(Double.isNaN(list.min()));
+        assertTrue(Double.isNaN(list.sum()));
+
+        list.fill(1, 1, 3.5);
+        assertEquals(-1.0, list.min());
+        assertEquals(3.5, list.max());
+        assertEquals(5.0, list.sum());
+        assertFalse(list.contains(Double.NaN));
+    }
+}
@@ -0,0 +1,125 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedMyArrayListTest {
+    private IndexedMyArrayList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new IndexedMyArrayList<>();
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(null);
+    }
+
+    @Test
+    void indexShouldBeUpdatedByAdd() {
+        list.add(0, 15);
+        list.addAll(List.of(15, 16));
+
+        assertEquals(15, list.get(Integer.valueOf(15)));
+        assertEquals(2, list.occurrences(15));
+        assertTrue(list.contains(16));
+        assertTrue(list.contains(null));
+        assertNull(list.get(Integer.valueOf(3)));
+    }
+
+    @Test
+    void indexShouldBeUpdatedByRemove() {
+        assertTrue(list.remove(1));
+        assertTrue(list.contains(1));
+        assertTrue(list.remove(1));
+        assertFalse(list.contains(1));
+        assertFalse(list.remove(1));
+        assertTrue(list.remove(null));
+
+        assertEquals("{ 2, 8, 5 }", list.toString());
+        assertFalse(list.contains(null));
+    }
+
+    @Test
+    void indexShouldBeUpdatedBySet() {
+        assertEquals(2, list.set(2, 7));
+
+        assertFalse(list.contains(2));
+        assertTrue(list.contains(7));
+    }
+
+    @Test
+    void indexShouldBeUpdatedByIteratorsAndBulkRemoval() {
+        Iterator<Integer> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        ListIterator<Integer> listIterator = list.listIterator(1);
+        listIterator.add(9);
+        listIterator.next();
+        listIterator.set(3);
+        list.removeIf(element -> element != null && element > 7);
+
+        assertEquals("{ 1, 3, 5, null }", list.toString());
+        assertEquals(1, list.occurrences(1));
+        assertFalse(list.contains(2));
+        assertFalse(list.contains(8));
+        assertFalse(list.contains(9));
+        assertTrue(list.contains(3));
+    }
+
+    @Test
+    void indexShouldBeUpdatedByClearAndSurviveSort() {
+        list.remove(null);
+        list.sort(0, list.size() - 1);
+        assertEquals(2, list.occurrences(1));
+
+        list.clear();
+        assertFalse(list.contains(1));
+        assertEquals(0, list.occurrences(8));
+
+        list.add(8);
+        list.clear(true);
+        assertFalse(list.contains(8));
+    }
+
+    @Test
+    void indexShouldBeRebuiltByReplaceAll() {
+        list.replaceAll(element -> element == null ? 0 : element * 10);
+
+        assertEquals(2, list.occurrences(10));
+        assertFalse(list.contains(1));
+        assertFalse(list.contains(null));
+        assertTrue(list.contains(0));
+
+        list.parallelReplaceAll(element -> element + 1);
+        assertEquals(2, list.occurrences(11));
+        assertFalse(list.contains(10));
+    }
+
+    @Test
+    void shouldThrowAnNullPointerExceptionWhenSpecifiedElementIsNull() {
+        assertThrows(NullPointerException.class, () -> list.get(null));
+    }
+
+    @Test
+    void indexShouldBeUpdatedThroughSubList() {
+        MyList<Integer> window = list.subList(0, 3);
+        window.clear();
+
+        assertEquals(0, list.occurrences(1));
+        assertFalse(list.contains(2));
+        assertTrue(list.contains(8));
+
+        list.subList(0, 1).set(0, 9);
+        assertTrue(list.contains(9));
+        assertFalse(list.contains(8));
+    }
+}
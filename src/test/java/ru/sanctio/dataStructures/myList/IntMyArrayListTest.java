@@ -0,0 +1,163 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntMyArrayListTest {
+    private IntMyArrayList list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new IntMyArrayList();
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+        list.add(4);
+    }
+
+    @Test
+    void elementShouldBeAddedToTheEnd() {
+        list.add(7);
+
+        assertEquals(7, list.getInt(list.size() - 1));
+    }
+
+    @Test
+    void capacityShouldBeIncreaseByAdd() {
+        for (int i = 0; i < 1000; i++) {
+            int capacity = ((int[]) ReflectionTestUtils.getField(list, "elements")).length;
+            list.add(i);
+            if (list.size() - 1 == capacity) {
+                assertEquals(capacity + (capacity >> 1), ((int[]) ReflectionTestUtils.getField(list, "elements")).length);
+            }
+        }
+    }
+
+    @Test
+    void elementShouldBeAddedToTheSpecifiedIndex() {
+        list.add(0, 15);
+
+        assertEquals(15, list.getInt(0));
+        assertEquals(1, list.getInt(1));
+    }
+
+    @Test
+    void shouldThrowAnIndexOutOfBoundsExceptionWhenIndexMoreSize() {
+        int size = list.size();
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(size + 1, 5));
+    }
+
+    @Test
+    void shouldThrowAnNullPointerExceptionWhenAddedElementIsNull() {
+        MyList<Integer> myList = list;
+
+        assertThrows(NullPointerException.class, () -> myList.add(null));
+    }
+
+    @Test
+    void shouldBeReturnIndexOfFirstOccurrence() {
+        assertEquals(3, list.indexOf(8));
+        assertEquals(-1, list.indexOf(3));
+    }
+
+    @Test
+    void ShouldBeReturnFirstOccurrenceSpecifiedElement() {
+        assertEquals(2, list.get(Integer.valueOf(2)));
+        assertNull(list.get(Integer.valueOf(3)));
+    }
+
+    @Test
+    void shouldBeDeletedTheFirstOccurrenceOfTheSpecifiedElement() {
+        assertTrue(list.remove(Integer.valueOf(1)));
+        assertEquals(5, list.size());
+        assertEquals(1, list.getInt(0));
+        assertFalse(list.remove(Integer.valueOf(15)));
+        assertFalse(list.remove(null));
+    }
+
+    @Test
+    void shouldBeReplaceTheElementInTheSpecifiedPosition() {
+        assertEquals(1, list.set(0, 5));
+        assertEquals(5, list.getInt(0));
+    }
+
+    @Test
+    void allElementsShouldBeRemoved() {
+        list.clear();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void listShouldBeSortedByNonDecreasing() {
+        list.sort(0, list.size() - 1);
+
+        assertArrayEquals(new int[]{1, 1, 2, 4, 5, 8}, list.toArray());
+    }
+
+    @Test
+    void listShouldBeSortedBySpecifiedComparator() {
+        list.sort(1, list.size() - 1, Comparator.reverseOrder());
+
+        assertArrayEquals(new int[]{1, 8, 5, 4, 2, 1}, list.toArray());
+    }
+
+    @Test
+    void shouldThrowAnArrayIndexOutOfBoundsExceptionWhenSortIndexMoreSize() {
+        int size = list.size();
+
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> list.sort(0, size));
+    }
+
+    @Test
+    void listShouldBeConvertedToAndFromMyList() {
+        MyArrayList<Integer> boxed = list.toMyArrayList();
+        IntMyArrayList copy = IntMyArrayList.from(boxed);
+
+        assertEquals(list.size(), boxed.size());
+        assertEquals(list, copy);
+        assertEquals(list.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void elementsShouldBeIteratedByDefaultIteratorAndSpliterator() {
+        int sum = 0;
+        for (int element : list) {
+            sum += element;
+        }
+
+        assertEquals(21, sum);
+        assertEquals(21, list.parallelStream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void shouldBeSearchedAggregatedAndFilled() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i % 7);
+        }
+        assertTrue(list.contains(8));
+        assertFalse(list.contains(9));
+        assertEquals(3, list.indexOf(8));
+        assertEquals(2 + 15, list.count(1));
+        assertEquals(0, list.min());
+        assertEquals(8, list.max());
+        assertEquals(21 + 295, list.sum());
+
+        list.fill(1, 104, Integer.MAX_VALUE);
+        assertEquals(1, list.getInt(0));
+        assertEquals(Integer.MAX_VALUE, list.getInt(104));
+        assertEquals(1 + 104L * Integer.MAX_VALUE + 1, list.sum());
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> list.fill(0, 106, 0));
+        assertThrows(IllegalArgumentException.class, () -> list.fill(3, 2, 0));
+        assertThrows(NoSuchElementException.class, () -> new IntMyArrayList().min());
+    }
+}
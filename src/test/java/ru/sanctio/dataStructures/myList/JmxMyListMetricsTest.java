@@ -0,0 +1,144 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JmxMyListMetricsTest {
+    private MyArrayList<Integer> list;
+    private JmxMyListMetrics metrics;
+
+    @BeforeEach
+    void createNewList() {
+        list = new MyArrayList<>();
+        metrics = new JmxMyListMetrics();
+        list.setMetrics(metrics);
+    }
+
+    @AfterEach
+    void unregister() {
+        metrics.unregister();
+    }
+
+    @Test
+    void resizesShouldBeCounted() {
+        for (int i = 0; i < 11; i++) {
+            list.add(i);
+        }
+
+        assertEquals(1, metrics.getResizeCount());
+        assertTrue(metrics.getResizeCopiedBytes() >= 10 * 4);
+        assertEquals(0, metrics.getResizeCopiedBytes() % 10);
+    }
+
+    @Test
+    void resizesAndShiftsShouldBeReportedInElements() {
+        int[] reported = new int[4];
+        list.setMetrics(new MyListMetrics() {
+            @Override
+            public void resized(int oldCapacity, int newCapacity, int copiedElements) {
+                reported[0] = oldCapacity;
+                reported[1] = newCapacity;
+                reported[2] = copiedElements;
+            }
+
+            @Override
+            public void shifted(int shiftedElements) {
+                reported[3] += shiftedElements;
+            }
+        });
+        for (int i = 0; i < 10; i++) {
+            list.add(i);
+        }
+        list.add(7, 7);
+        list.remove(Integer.valueOf(1));
+
+        assertArrayEquals(new int[]{10, 15, 10, 3 + 9}, reported);
+    }
+
+    @Test
+    void shiftsShouldBeCounted() {
+        list.add(1);
+        list.add(2);
+        list.add(3);
+        list.add(0, 0);
+        list.remove(Integer.valueOf(1));
+
+        assertEquals(2, metrics.getShiftCount());
+        assertTrue(metrics.getShiftedBytes() >= 5 * 4);
+        assertEquals(0, metrics.getShiftedBytes() % 5);
+    }
+
+    @Test
+    void scansShouldBeCountedWithLengths() {
+        for (int i = 0; i < 8; i++) {
+            list.add(i);
+        }
+        assertEquals(3, list.get(Integer.valueOf(3)));
+        assertNull(list.get(Integer.valueOf(100)));
+        assertFalse(list.remove(Integer.valueOf(100)));
+
+        assertEquals(3, metrics.getScanCount());
+        assertEquals(2, metrics.getScanMissCount());
+        assertEquals(4 + 8 + 8, metrics.getScannedElements());
+        long[] histogram = metrics.getScanLengthHistogram();
+        assertEquals(1, histogram[3]);
+        assertEquals(2, histogram[4]);
+    }
+
+    @Test
+    void sortsShouldBeTimed() {
+        for (int i = 0; i < 8; i++) {
+            list.add(8 - i);
+        }
+        list.sort(0, 7);
+        list.stableSort(0, 3, Comparator.naturalOrder());
+
+        assertEquals(2, metrics.getSortCount());
+        assertEquals(8 + 4, metrics.getSortedElements());
+        assertEquals(2, Arrays.stream(metrics.getSortLatencyHistogram()).sum());
+    }
+
+    @Test
+    void resetShouldClearCounters() {
+        list.add(0, 1);
+        list.get(Integer.valueOf(1));
+        metrics.reset();
+
+        assertEquals(0, metrics.getScanCount());
+        assertEquals(0, metrics.getScanLengthHistogram().length);
+    }
+
+    @Test
+    void metricsShouldBePublishedThroughJmx() throws Exception {
+        ObjectName name = metrics.register("test");
+        list.add(1);
+        list.get(Integer.valueOf(1));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        assertEquals(1L, server.getAttribute(name, "ScanCount"));
+        assertThrows(IllegalStateException.class, () -> metrics.register("test"));
+
+        metrics.unregister();
+        assertFalse(server.isRegistered(name));
+    }
+
+    @Test
+    void disabledMetricsShouldNotBeReported() {
+        list.setMetrics(MyListMetrics.NONE);
+        list.add(1);
+        list.get(Integer.valueOf(1));
+
+        assertEquals(0, metrics.getScanCount());
+        assertSame(MyListMetrics.NONE, list.getMetrics());
+        assertThrows(NullPointerException.class, () -> list.setMetrics(null));
+    }
+}
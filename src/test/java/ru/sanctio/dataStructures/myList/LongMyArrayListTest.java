@@ -0,0 +1,77 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongMyArrayListTest {
+    private LongMyArrayList list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new LongMyArrayList();
+        for (long i = 0; i < 1000; i++) {
+            list.add(Long.MAX_VALUE - i);
+        }
+    }
+
+    @Test
+    void shouldBeGetElementsByIndex() {
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(Long.MAX_VALUE - i, list.getLong(i));
+        }
+    }
+
+    @Test
+    void shouldBeReturnIndexOfFirstOccurrence() {
+        assertEquals(10, list.indexOf(Long.MAX_VALUE - 10));
+        assertEquals(-1, list.indexOf(0L));
+    }
+
+    @Test
+    void shouldBeDeletedTheFirstOccurrenceOfTheSpecifiedElement() {
+        assertTrue(list.remove(Long.valueOf(Long.MAX_VALUE)));
+        assertEquals(Long.MAX_VALUE - 1, list.getLong(0));
+    }
+
+    @Test
+    void listShouldBeSortedByNonDecreasing() {
+        list.sort(0, list.size() - 1);
+
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.getLong(i - 1) <= list.getLong(i));
+        }
+    }
+
+    @Test
+    void listShouldBeSortedBySpecifiedComparator() {
+        list.sort(0, list.size() - 1, Comparator.naturalOrder());
+        list.sort(0, list.size() - 1, Comparator.reverseOrder());
+
+        assertEquals(Long.MAX_VALUE, list.getLong(0));
+    }
+
+    @Test
+    void listShouldBeConvertedToAndFromMyList() {
+        assertEquals(list, LongMyArrayList.from(list.toMyArrayList()));
+    }
+
+    @Test
+    void shouldBeSearchedAggregatedAndFilled() {
+        assertTrue(list.contains(Long.MAX_VALUE - 999));
+        assertEquals(999, list.indexOf(Long.MAX_VALUE - 999));
+        assertEquals(1, list.count(Long.MAX_VALUE - 500));
+        assertEquals(Long.MAX_VALUE - 999, list.min());
+        assertEquals(Long.MAX_VALUE, list.max());
+
+        list.fill(0, 999, -3);
+        assertEquals(-3000, list.sum());
+        assertEquals(1000, list.count(-3));
+        assertFalse(list.contains(Long.MAX_VALUE));
+        assertThrows(NoSuchElementException.class, () -> new LongMyArrayList().max());
+    }
+}
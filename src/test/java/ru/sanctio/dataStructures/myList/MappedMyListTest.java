@@ -0,0 +1,73 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedMyListTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        DoubleMyArrayList list = new DoubleMyArrayList();
+        for (int i = 0; i < 1000; i++) {
+            list.add(i / 4.0);
+        }
+        file = directory.resolve("doubles.bin");
+        MyListFiles.write(list, ElementCodec.DOUBLE, file);
+    }
+
+    @Test
+    void elementsShouldBeReadAcrossRegions() throws IOException {
+        try (MappedMyList<Double> mapped = new MappedMyList<>(file, ElementCodec.DOUBLE, 100)) {
+            assertEquals(1000, mapped.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(i / 4.0, mapped.get(i));
+            }
+            assertEquals(2.5, mapped.get(Double.valueOf(2.5)));
+            assertNull(mapped.get(Double.valueOf(-1)));
+            assertThrows(IndexOutOfBoundsException.class, () -> mapped.get(1000));
+            assertEquals(999 / 4.0, mapped.stream().mapToDouble(Double::doubleValue).max().orElseThrow());
+        }
+    }
+
+    @Test
+    void mappedListShouldBeEqualToMappedCopy() throws IOException {
+        try (MappedMyList<Double> first = MyListFiles.map(file, ElementCodec.DOUBLE);
+             MappedMyList<Double> second = new MappedMyList<>(file, ElementCodec.DOUBLE, 64)) {
+            assertEquals(first, second);
+            assertEquals(first.hashCode(), second.hashCode());
+        }
+    }
+
+    @Test
+    void mutatingMethodsShouldBeUnsupported() throws IOException {
+        try (MappedMyList<Double> mapped = MyListFiles.map(file, ElementCodec.DOUBLE)) {
+            assertThrows(UnsupportedOperationException.class, () -> mapped.add(1.0));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.add(0, 1.0));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.set(0, 1.0));
+            assertThrows(UnsupportedOperationException.class, () -> mapped.remove(1.0));
+            assertThrows(UnsupportedOperationException.class, mapped::clear);
+            assertThrows(UnsupportedOperationException.class, () -> mapped.sort(0, 1));
+        }
+    }
+
+    @Test
+    void shouldThrowAnIllegalStateExceptionAfterClose() throws IOException {
+        MappedMyList<Double> mapped = MyListFiles.map(file, ElementCodec.DOUBLE);
+        mapped.close();
+        mapped.close();
+
+        assertThrows(IllegalStateException.class, () -> mapped.get(0));
+        assertThrows(IllegalStateException.class, mapped::size);
+    }
+}
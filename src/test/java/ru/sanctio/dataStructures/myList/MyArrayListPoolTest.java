@@ -0,0 +1,126 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyArrayListPoolTest {
+    private MyArrayListPool pool;
+
+    @BeforeEach
+    void createNewPool() {
+        pool = new MyArrayListPool(2, 1024, false);
+    }
+
+    @Test
+    void releasedListShouldBeReusedWithItsCapacity() {
+        MyArrayList<Integer> list = pool.acquire();
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int capacity = list.capacity();
+        list.setGrowthPolicy(GrowthPolicy.fixedIncrement(1));
+        pool.release(list);
+
+        MyArrayList<String> reused = pool.acquire(50);
+        assertSame(list, reused);
+        assertTrue(reused.isEmpty());
+        assertEquals(capacity, reused.capacity());
+        assertSame(GrowthPolicy.DEFAULT, reused.getGrowthPolicy());
+    }
+
+    @Test
+    void parallelSettingsAndPivotStrategyShouldBeResetOnRelease() {
+        ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        MyArrayList<Integer> list = pool.acquire(16);
+        list.setParallelSettings(ParallelSettings.of(forkJoinPool, 1));
+        list.setPivotStrategy(PivotStrategy.seeded(1));
+        pool.release(list);
+        forkJoinPool.shutdown();
+
+        MyArrayList<Integer> reused = pool.acquire(16);
+        assertSame(list, reused);
+        assertSame(ParallelSettings.DEFAULT, reused.getParallelSettings());
+        assertSame(PivotStrategy.MEDIAN_OF_THREE, reused.getPivotStrategy());
+        for (int i = 0; i < 10; i++) {
+            reused.add(i);
+        }
+        reused.parallelReplaceAll(element -> element + 1);
+        assertEquals(10, reused.get(9));
+    }
+
+    @Test
+    void listShouldBeTakenFromSuitableSizeClass() {
+        MyArrayList<Integer> small = pool.acquire(16);
+        MyArrayList<Integer> large = pool.acquire(256);
+        pool.release(small);
+        pool.release(large);
+
+        assertSame(large, pool.acquire(100));
+        assertNotSame(small, pool.acquire(100));
+        assertSame(small, pool.acquire(10));
+    }
+
+    @Test
+    void listWithSufficientCapacityShouldBeTakenFromFloorSizeClass() {
+        MyArrayList<Integer> list = pool.acquire();
+        assertEquals(10, list.capacity());
+        pool.release(list);
+
+        assertNotSame(list, pool.acquire(11));
+        assertSame(list, pool.acquire(10));
+        pool.release(list);
+        assertSame(list, pool.acquire(9));
+    }
+
+    @Test
+    void largeListsShouldNotBePooled() {
+        MyArrayList<Integer> list = pool.acquire(2048);
+        pool.release(list);
+
+        assertNotSame(list, pool.acquire(2048));
+    }
+
+    @Test
+    void listsShouldBePooledPerThread() throws InterruptedException {
+        MyArrayList<Integer> list = pool.acquire(16);
+        pool.release(list);
+        Object[] acquired = new Object[1];
+        Thread thread = new Thread(() -> acquired[0] = pool.acquire(16));
+        thread.start();
+        thread.join();
+
+        assertNotSame(list, acquired[0]);
+        assertSame(list, pool.acquire(16));
+    }
+
+    @Test
+    void shouldThrowAnIllegalStateExceptionWhenListIsReleasedTwiceOrByAnotherPool() {
+        MyArrayList<Integer> list = pool.acquire();
+        pool.release(list);
+
+        assertThrows(IllegalStateException.class, () -> pool.release(list));
+        assertThrows(IllegalStateException.class, () -> pool.release(new MyArrayList<>()));
+        MyArrayList<Integer> other = new MyArrayListPool().acquire();
+        assertThrows(IllegalStateException.class, () -> pool.release(other));
+    }
+
+    @Test
+    void leakShouldBeReportedWhenListIsNotReleased() throws InterruptedException {
+        MyArrayListPool leakingPool = new MyArrayListPool(2, 1024, true);
+        MyArrayList<Integer> released = leakingPool.acquire();
+        leakingPool.release(released);
+        leakingPool.acquire(2000);
+
+        long leaks = 0;
+        for (int i = 0; i < 50 && leaks == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            leaks = leakingPool.reportLeaks();
+        }
+        assertEquals(1, leaks);
+    }
+}
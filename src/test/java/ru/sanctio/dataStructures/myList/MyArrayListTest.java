@@ -4,11 +4,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.*;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class MyArrayListTest {
-    private MyList<Integer> list;
+    private MyArrayList<Integer> list;
     private MyArrayList<Object> objectMyArrayList;
 
     @BeforeEach
@@ -56,6 +62,142 @@ class MyArrayListTest {
         }
     }
 
+    @Test
+    void capacityShouldBeEnsuredAndTrimmed() {
+        MyArrayList<Integer> myList = new MyArrayList<>();
+        myList.ensureCapacity(100);
+        assertEquals(100, myList.capacity());
+        myList.ensureCapacity(50);
+        assertEquals(100, myList.capacity());
+
+        myList.add(1);
+        myList.add(2);
+        myList.trimToSize();
+        assertEquals(2, myList.capacity());
+        myList.add(3);
+        assertEquals("{ 1, 2, 3 }", myList.toString());
+        assertThrows(IllegalArgumentException.class, () -> myList.ensureCapacity(-1));
+    }
+
+    @Test
+    void capacityShouldGrowByGrowthPolicy() {
+        MyArrayList<Integer> fixed = new MyArrayList<>(4, GrowthPolicy.fixedIncrement(3));
+        for (int i = 0; i < 5; i++) {
+            fixed.add(i);
+        }
+        assertEquals(7, fixed.capacity());
+
+        MyArrayList<Integer> capped = new MyArrayList<>(100, GrowthPolicy.exponential(2).capped(10));
+        for (int i = 0; i < 101; i++) {
+            capped.add(i);
+        }
+        assertEquals(110, capped.capacity());
+
+        capped.setGrowthPolicy(GrowthPolicy.exponential(2));
+        capped.ensureCapacity(111);
+        assertEquals(220, capped.capacity());
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.exponential(1));
+        assertThrows(IllegalArgumentException.class, () -> GrowthPolicy.fixedIncrement(0));
+    }
+
+    @Test
+    void listShouldBeSortedWithSpecifiedPivotStrategy() {
+        list.clear();
+        for (int i = 0; i < 100; i++) {
+            list.add((i * 37) % 100);
+        }
+        list.setPivotStrategy(PivotStrategy.seeded(1));
+        list.sort(0, 99);
+        list.setPivotStrategy(PivotStrategy.RANDOM);
+        list.sort(0, 99, Comparator.reverseOrder());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(99 - i, list.get(i));
+        }
+        assertSame(PivotStrategy.RANDOM, list.getPivotStrategy());
+        assertThrows(NullPointerException.class, () -> list.setPivotStrategy(null));
+    }
+
+    @Test
+    void pivotStrategyShouldBeAppliedPerCall() {
+        list.clear();
+        for (int i = 0; i < 100; i++) {
+            list.add((i * 37) % 100);
+        }
+        list.sort(0, 99, Comparator.reverseOrder(), PivotStrategy.seeded(3));
+        assertEquals(99, list.get(0));
+        list.parallelSort(0, 99, Comparator.naturalOrder(), PivotStrategy.RANDOM);
+        assertEquals(0, list.get(0));
+        assertEquals(50, list.select(50, Comparator.naturalOrder(), PivotStrategy.NINTHER));
+        list.partialSort(3, Comparator.reverseOrder(), PivotStrategy.RANDOM);
+        assertEquals("{ 99, 98, 97 }", list.subList(0, 3).toString());
+
+        assertSame(PivotStrategy.MEDIAN_OF_THREE, list.getPivotStrategy());
+        assertThrows(NullPointerException.class, () -> list.sort(0, 99, Comparator.naturalOrder(), null));
+    }
+
+    @Test
+    void bulkOperationsShouldProcessAllElements() {
+        list.clear();
+        for (int i = 1; i <= 100; i++) {
+            list.add(i);
+        }
+        list.setParallelSettings(ParallelSettings.withSequentialThreshold(8));
+        list.replaceAll(element -> element * 2);
+        list.parallelReplaceAll(element -> element + 1);
+
+        assertEquals(3, list.get(0));
+        assertEquals(201, list.get(99));
+        assertEquals(10200, list.reduce(0, Integer::sum));
+        assertEquals(10200, list.parallelReduce(0, Integer::sum));
+        MyArrayList<Integer> copy = list.parallelCollect(MyArrayList::new, MyArrayList::add,
+                (left, right) -> left.addAll(right));
+        assertEquals(list, copy);
+        assertThrows(ConcurrentModificationException.class, () -> list.replaceAll(element -> {
+            list.add(element);
+            return element;
+        }));
+        assertThrows(IllegalArgumentException.class, () -> ParallelSettings.withSequentialThreshold(0));
+    }
+
+    @Test
+    void selectionShouldReorderOnlyAsMuchAsNeeded() {
+        list.clear();
+        for (int i = 0; i < 100; i++) {
+            list.add((i * 37) % 100);
+        }
+        assertEquals(42, list.select(42));
+        assertEquals(42, list.get(42));
+        assertEquals(57, list.select(42, Comparator.reverseOrder()));
+
+        list.partialSort(5);
+        assertEquals("{ 0, 1, 2, 3, 4 }", list.subList(0, 5).toString());
+        assertEquals("{ 99, 98, 97 }", list.topK(3).toString());
+        assertEquals("{ 0, 1 }", list.topK(2, Comparator.reverseOrder()).toString());
+        assertEquals(100, list.topK(200).size());
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.select(100));
+        assertThrows(IllegalArgumentException.class, () -> list.partialSort(101));
+        assertThrows(IllegalArgumentException.class, () -> list.topK(-1));
+    }
+
+    @Test
+    void clearShouldRetainCapacity() {
+        for (int i = 0; i < 100; i++) {
+            list.add(i);
+        }
+        int capacity = list.capacity();
+        list.clear(true);
+
+        assertEquals(0, list.size());
+        assertEquals(capacity, list.capacity());
+        Object[] elements = (Object[]) ReflectionTestUtils.getField(list, "elements");
+        assertTrue(Arrays.stream(elements).allMatch(Objects::isNull));
+
+        list.clear(false);
+        assertEquals(10, list.capacity());
+    }
+
     @Test
     void shouldThrowAnArrayIndexOutOfBoundsExceptionWhenTheSizeIsLargerIntegerMaxValue() {
         ReflectionTestUtils.setField(list, "size", Integer.MAX_VALUE);
@@ -336,4 +478,330 @@ class MyArrayListTest {
 
         assertEquals(list1, list2);
     }
-}
\ No newline at end of file
+
+    @Test
+    void listShouldBeSortedInParallelByNonDecreasing() {
+        Random random = new Random(1);
+        MyArrayList<Integer> bigList = new MyArrayList<>();
+        int[] expected = new int[200_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = random.nextInt(1000);
+            bigList.add(expected[i]);
+        }
+        Arrays.sort(expected);
+        bigList.parallelSort(0, bigList.size() - 1);
+
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], bigList.get(i));
+        }
+    }
+
+    @Test
+    void listShouldBeSortedInParallelBySpecifiedComparator() {
+        MyArrayList<Integer> bigList = new MyArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            bigList.add(i);
+        }
+        bigList.parallelSort(10, bigList.size() - 11, (e1, e2) -> e2.compareTo(e1));
+
+        assertEquals(9, bigList.get(9));
+        assertEquals(99_989, bigList.get(10));
+        assertEquals(10, bigList.get(bigList.size() - 11));
+        assertEquals(99_990, bigList.get(bigList.size() - 10));
+    }
+
+    @Test
+    void shouldThrowAnIllegalArgumentExceptionWhenParallelSortIndexesAreReversed() {
+        assertThrows(IllegalArgumentException.class, () -> list.parallelSort(3, 1));
+    }
+
+    @Test
+    void listShouldBeSortedStablyBySpecifiedComparator() {
+        MyArrayList<String> strings = new MyArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            strings.add((char) ('a' + i % 7) + "-" + i);
+        }
+        strings.stableSort(0, strings.size() - 1, Comparator.comparing(string -> string.charAt(0)));
+
+        for (int i = 1; i < strings.size(); i++) {
+            String previous = strings.get(i - 1);
+            String current = strings.get(i);
+            assertTrue(previous.charAt(0) <= current.charAt(0));
+            if (previous.charAt(0) == current.charAt(0)) {
+                assertTrue(Integer.parseInt(previous.substring(2)) < Integer.parseInt(current.substring(2)));
+            }
+        }
+    }
+
+    @Test
+    void listShouldBeSortedStablyByNonDecreasing() {
+        list.stableSort(0, list.size() - 1);
+
+        assertEquals("{ 1, 1, 1, 1, 2, 4, 5, 8 }", list.toString());
+    }
+
+    @Test
+    void elementsShouldBeIteratedInForEachLoop() {
+        StringBuilder builder = new StringBuilder();
+        for (Integer element : list) {
+            builder.append(element);
+        }
+
+        assertEquals("11112854", builder.toString());
+    }
+
+    @Test
+    void iteratorShouldRemoveLastReturnedElement() {
+        Iterator<Integer> iterator = list.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() == 1) {
+                iterator.remove();
+            }
+        }
+
+        assertEquals("{ 2, 8, 5, 4 }", list.toString());
+    }
+
+    @Test
+    void shouldThrowAnConcurrentModificationExceptionWhenListIsModifiedDuringIteration() {
+        assertThrows(ConcurrentModificationException.class, () -> {
+            for (Integer element : list) {
+                list.add(element);
+            }
+        });
+    }
+
+    @Test
+    void listIteratorShouldMoveInBothDirectionsAndModifyList() {
+        ListIterator<Object> iterator = objectMyArrayList.listIterator();
+        iterator.add(1);
+        iterator.add(3);
+        assertEquals(3, iterator.previous());
+        iterator.add(2);
+        assertEquals(2, iterator.nextIndex());
+        assertEquals(3, iterator.next());
+        iterator.set(4);
+
+        assertEquals("{ 1, 2, 4 }", objectMyArrayList.toString());
+        assertFalse(iterator.hasNext());
+        assertTrue(iterator.hasPrevious());
+    }
+
+    @Test
+    void elementsShouldBeProcessedInStreams() {
+        for (int i = 0; i < 100_000; i++) {
+            objectMyArrayList.add(i);
+        }
+
+        assertEquals(23, list.stream().mapToInt(Integer::intValue).sum());
+        assertEquals(4_999_950_000L, objectMyArrayList.parallelStream().mapToLong(e -> (Integer) e).sum());
+    }
+
+    @Test
+    void spliteratorShouldBeSizedAndSplitInHalf() {
+        Spliterator<Integer> spliterator = list.spliterator();
+        Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+        assertEquals(4, prefix.estimateSize());
+        assertEquals(4, spliterator.estimateSize());
+        assertTrue(prefix.tryAdvance(element -> assertEquals(1, element)));
+    }
+
+    @Test
+    void shouldThrowAnConcurrentModificationExceptionWhenListIsModifiedDuringSpliteratorTraversal() {
+        Spliterator<Integer> spliterator = list.spliterator();
+
+        assertThrows(ConcurrentModificationException.class,
+                () -> spliterator.forEachRemaining(element -> list.remove(element)));
+    }
+
+    @Test
+    void elementsOfListArrayAndCollectionShouldBeAddedToTheEnd() {
+        MyList<Integer> other = new IntMyArrayList();
+        other.add(7);
+        objectMyArrayList.addAll(list);
+        objectMyArrayList.addAll(other);
+        objectMyArrayList.addAll(new Object[]{"a", null});
+        objectMyArrayList.addAll(List.of(9, 10));
+
+        assertEquals("{ 1, 1, 1, 1, 2, 8, 5, 4, 7, a, null, 9, 10 }", objectMyArrayList.toString());
+    }
+
+    @Test
+    void viewAndListItselfShouldBeAddedToTheEnd() {
+        assertTrue(list.addAll(list.subList(4, 6)));
+        assertTrue(list.addAll(list));
+
+        assertEquals("{ 1, 1, 1, 1, 2, 8, 5, 4, 2, 8, 1, 1, 1, 1, 2, 8, 5, 4, 2, 8 }", list.toString());
+    }
+
+    @Test
+    void capacityShouldBeIncreasedOnceByAddAll() {
+        MyArrayList<Integer> bigList = new MyArrayList<>(0);
+        bigList.addAll(Collections.nCopies(1000, 1));
+
+        assertEquals(1000, ((Object[]) ReflectionTestUtils.getField(bigList, "elements")).length);
+        assertFalse(bigList.addAll(new Integer[0]));
+    }
+
+    @Test
+    void elementsMatchingConditionShouldBeRemovedInSinglePass() {
+        for (int i = 0; i < 10000; i++) {
+            objectMyArrayList.add(i);
+        }
+        assertTrue(objectMyArrayList.removeIf(element -> (Integer) element % 2 == 0));
+        assertFalse(objectMyArrayList.removeIf(element -> (Integer) element % 2 == 0));
+
+        Object[] elements = (Object[]) ReflectionTestUtils.getField(objectMyArrayList, "elements");
+        assertEquals(5000, objectMyArrayList.size());
+        assertEquals(1, objectMyArrayList.get(0));
+        assertEquals(9999, objectMyArrayList.get(4999));
+        assertNull(elements[5000]);
+    }
+
+    @Test
+    void listShouldStayConsistentWhenConditionThrowsAnException() {
+        assertThrows(IllegalStateException.class, () -> list.removeIf(element -> {
+            if (element == 8) {
+                throw new IllegalStateException();
+            }
+            return element == 1;
+        }));
+
+        assertEquals("{ 2, 8, 5, 4 }", list.toString());
+    }
+
+    @Test
+    void elementsShouldBeRemovedAndRetainedByCollection() {
+        MyArrayList<Integer> copy = new MyArrayList<>();
+        copy.addAll(list);
+        list.removeAll(Set.of(1, 5));
+        copy.retainAll(Set.of(1, 5));
+
+        assertEquals("{ 2, 8, 4 }", list.toString());
+        assertEquals("{ 1, 1, 1, 1, 5 }", copy.toString());
+    }
+
+    @Test
+    void elementsShouldBeFoundByBinarySearch() {
+        list.sort(0, list.size() - 1);
+
+        assertEquals(list.size() - 1, list.binarySearch(8));
+        assertEquals(list.get(list.binarySearch(2)), 2);
+        assertEquals(-1, list.binarySearch(0));
+        assertEquals(-(list.size() + 1), list.binarySearch(9));
+
+        list.sort(0, list.size() - 1, Comparator.reverseOrder());
+        assertEquals(0, list.binarySearch(8, Comparator.reverseOrder()));
+        assertEquals(-(list.size() + 1), list.binarySearch(0, Comparator.reverseOrder()));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void listShouldBeSerializedWithoutUnusedCapacity() throws Exception {
+        list.add(null);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(list);
+        }
+        MyArrayList<Integer> restored;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored = (MyArrayList<Integer>) in.readObject();
+        }
+
+        assertEquals(list.toString(), restored.toString());
+        assertEquals(10, ((Object[]) ReflectionTestUtils.getField(restored, "elements")).length);
+        restored.add(3);
+        assertEquals(10, restored.size());
+    }
+
+    @Test
+    void subListShouldBeViewOfRange() {
+        MyArrayList<Integer> myList = new MyArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            myList.add(9 - i);
+        }
+        MyList<Integer> window = myList.subList(2, 7);
+        assertEquals("{ 7, 6, 5, 4, 3 }", window.toString());
+
+        window.sort(0, 4);
+        window.set(0, 30);
+        assertEquals("{ 9, 8, 30, 4, 5, 6, 7, 2, 1, 0 }", myList.toString());
+
+        window.add(1, 40);
+        assertTrue(window.remove(Integer.valueOf(5)));
+        assertEquals(5, window.size());
+        assertEquals(40, window.get(Integer.valueOf(40)));
+        assertEquals("{ 9, 8, 30, 40, 4, 6, 7, 2, 1, 0 }", myList.toString());
+
+        window.clear();
+        assertTrue(window.isEmpty());
+        assertEquals("{ 9, 8, 2, 1, 0 }", myList.toString());
+    }
+
+    @Test
+    void subListShouldThrowExceptionsForWrongRangeAndModification() {
+        MyList<Integer> window = list.subList(1, 3);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> window.get(2));
+        assertThrows(IllegalArgumentException.class, () -> window.sort(0, 2, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.subList(0, list.size() + 1));
+        assertThrows(IllegalArgumentException.class, () -> list.subList(2, 1));
+        assertEquals(0, list.subList(1, 1).size());
+
+        list.add(100);
+        assertThrows(ConcurrentModificationException.class, window::size);
+    }
+
+    @Test
+    void listsWithDifferentCapacitiesShouldBeEqual() {
+        MyArrayList<Integer> other = new MyArrayList<>(1000);
+        for (int i = 0; i < list.size(); i++) {
+            other.add(list.get(i));
+        }
+        other.add(7);
+        other.remove(Integer.valueOf(7));
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        assertEquals(List.of(1, 1, 1, 1, 2, 8, 5, 4).hashCode(), list.hashCode());
+    }
+
+    @Test
+    void cachedHashShouldBeInvalidatedByModification() {
+        list.setHashCaching(true);
+        int hash = list.hashCode();
+        assertEquals(hash, list.hashCode());
+
+        list.set(0, 100);
+        assertNotEquals(hash, list.hashCode());
+        list.set(0, 1);
+        assertEquals(hash, list.hashCode());
+
+        list.add(3);
+        int grown = list.hashCode();
+        assertNotEquals(hash, grown);
+        list.sort(0, list.size() - 1);
+        assertNotEquals(grown, list.hashCode());
+        list.subList(0, 1).set(0, 50);
+        assertEquals(MyLists.hashCode(list), list.hashCode());
+    }
+
+    @Test
+    void listsWithDifferentCachedHashesShouldNotBeEqual() {
+        MyArrayList<Integer> other = new MyArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            other.add(list.get(i));
+        }
+        other.set(7, 40);
+        list.setHashCaching(true);
+        other.setHashCaching(true);
+        list.hashCode();
+        other.hashCode();
+
+        assertNotEquals(list, other);
+        other.set(7, 4);
+        assertEquals(list, other);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyListFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void listShouldBeWrittenAndReadBack() throws IOException {
+        MyArrayList<Long> list = new MyArrayList<>();
+        for (long i = 0; i < 300_000; i++) {
+            list.add(i * 31 - 7);
+        }
+        Path file = directory.resolve("list.bin");
+        MyListFiles.write(list, ElementCodec.LONG, file);
+
+        assertEquals(MyListFiles.HEADER_SIZE + 300_000L * Long.BYTES, Files.size(file));
+        MyArrayList<Long> restored = MyListFiles.read(file, ElementCodec.LONG);
+        assertEquals(list.size(), restored.size());
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(list.get(i), restored.get(i));
+        }
+    }
+
+    @Test
+    void emptyListShouldBeWrittenAndReadBack() throws IOException {
+        Path file = directory.resolve("empty.bin");
+        MyListFiles.write(new IntMyArrayList(), ElementCodec.INT, file);
+
+        assertTrue(MyListFiles.read(file, ElementCodec.INT).isEmpty());
+    }
+
+    @Test
+    void shouldThrowAnIOExceptionWhenFileDoesNotMatch() throws IOException {
+        Path file = directory.resolve("ints.bin");
+        MyArrayList<Integer> list = new MyArrayList<>();
+        list.add(1);
+        list.add(2);
+        MyListFiles.write(list, ElementCodec.INT, file);
+
+        assertThrows(IOException.class, () -> MyListFiles.read(file, ElementCodec.LONG));
+
+        Path truncated = directory.resolve("truncated.bin");
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(truncated, java.util.Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> MyListFiles.read(truncated, ElementCodec.INT));
+
+        Path foreign = directory.resolve("foreign.bin");
+        Files.write(foreign, new byte[32]);
+        assertThrows(IOException.class, () -> MyListFiles.read(foreign, ElementCodec.INT));
+    }
+}
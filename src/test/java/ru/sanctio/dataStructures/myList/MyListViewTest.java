@@ -0,0 +1,73 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyListViewTest {
+    private MyArrayList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new MyArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(i);
+        }
+    }
+
+    @Test
+    void stagesShouldBeAppliedInOrder() {
+        MyListView<String> view = list.filter(i -> i % 2 == 0).map(i -> "#" + i).limit(3);
+
+        assertEquals("{ #0, #2, #4 }", view.toMyArrayList().toString());
+        assertEquals(3, view.count());
+    }
+
+    @Test
+    void stagesShouldBeEvaluatedLazilyInOnePass() {
+        int[] mapped = new int[1];
+        int[] filtered = new int[1];
+        MyListView<Integer> view = list.map(i -> {
+            mapped[0]++;
+            return i * 10;
+        }).filter(i -> {
+            filtered[0]++;
+            return i > 30;
+        }).limit(2);
+        assertEquals(0, mapped[0]);
+
+        Iterator<Integer> iterator = view.iterator();
+        assertEquals(40, iterator.next());
+        assertEquals(5, mapped[0]);
+        assertEquals(5, filtered[0]);
+        assertEquals(50, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(6, mapped[0]);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void viewShouldSeeCurrentContentOfSource() {
+        MyListView<Integer> view = list.filter(i -> i > 17);
+        assertEquals(2, view.count());
+
+        list.add(100);
+        assertEquals("{ 18, 19, 100 }", view.toMyArrayList().toString());
+    }
+
+    @Test
+    void viewShouldWorkOverSubList() {
+        long sum = 0;
+        for (int value : list.subList(5, 10).map(i -> i * i)) {
+            sum += value;
+        }
+
+        assertEquals(25 + 36 + 49 + 64 + 81, sum);
+        assertEquals(0, list.limit(0).count());
+        assertThrows(IllegalArgumentException.class, () -> list.limit(-1));
+    }
+}
@@ -0,0 +1,58 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MyListsTest {
+    private MyArrayList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new MyArrayList<>();
+        list.add(3);
+        list.add(1);
+        list.add(2);
+    }
+
+    @Test
+    void listsOfDifferentImplementationsShouldBeEqual() {
+        IntMyArrayList ints = new IntMyArrayList();
+        ChunkedMyArrayList<Integer> chunked = new ChunkedMyArrayList<>();
+        CircularMyArrayList<Integer> circular = new CircularMyArrayList<>();
+        for (int i = 0; i < list.size(); i++) {
+            ints.add(list.get(i).intValue());
+            chunked.add(list.get(i));
+            circular.addFirst(list.get(list.size() - 1 - i));
+        }
+        PersistentMyList<Integer> persistent = PersistentMyList.of(3, 1, 2);
+        List<MyList<Integer>> lists = List.of(list, ints, chunked, circular, persistent, list.subList(0, 3));
+
+        for (MyList<Integer> first : lists) {
+            for (MyList<Integer> second : lists) {
+                assertEquals(first, second);
+                assertEquals(first.hashCode(), second.hashCode());
+            }
+        }
+        assertEquals(List.of(3, 1, 2).hashCode(), MyLists.hashCode(list));
+    }
+
+    @Test
+    void listsWithDifferentElementsShouldNotBeEqual() {
+        SortedMyList<Integer> sorted = new SortedMyList<>();
+        sorted.addAllSorted(List.of(3, 1, 2));
+
+        assertNotEquals(list, sorted);
+        assertNotEquals(sorted, list);
+        assertNotEquals(list, list.subList(0, 2));
+        assertNotEquals(list, List.of(3, 1, 2));
+        assertFalse(MyLists.equals(list, null));
+
+        list.sort(0, 2);
+        assertEquals(sorted, list);
+        assertEquals(list, sorted);
+    }
+}
@@ -0,0 +1,180 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapMyListTest {
+    private OffHeapMyList<Long> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new OffHeapMyList<>(ElementCodec.LONG);
+        list.add(1L);
+        list.add(1L);
+        list.add(2L);
+        list.add(8L);
+        list.add(5L);
+        list.add(4L);
+    }
+
+    @AfterEach
+    void closeList() {
+        list.close();
+    }
+
+    @Test
+    void elementsShouldBeAddedToTheEnd() {
+        for (long i = 0; i < 10000; i++) {
+            list.add(i);
+        }
+
+        assertEquals(10006, list.size());
+        assertEquals(9999L, list.get(list.size() - 1));
+    }
+
+    @Test
+    void capacityShouldBeIncreaseByAdd() {
+        for (long i = 0; i < 1000; i++) {
+            int capacity = (int) ReflectionTestUtils.getField(list, "capacity");
+            list.add(i);
+            if (list.size() - 1 == capacity) {
+                assertEquals(capacity + (capacity >> 1), ReflectionTestUtils.getField(list, "capacity"));
+            }
+        }
+    }
+
+    @Test
+    void elementShouldBeAddedToTheSpecifiedIndex() {
+        list.add(0, 15L);
+        list.add(3, 16L);
+
+        assertEquals("{ 15, 1, 1, 16, 2, 8, 5, 4 }", list.toString());
+    }
+
+    @Test
+    void shouldThrowAnNullPointerExceptionWhenAddedElementIsNull() {
+        assertThrows(NullPointerException.class, () -> list.add(null));
+    }
+
+    @Test
+    void ShouldBeReturnFirstOccurrenceSpecifiedElement() {
+        assertEquals(8L, list.get(Long.valueOf(8)));
+        assertNull(list.get(Long.valueOf(3)));
+    }
+
+    @Test
+    void shouldBeDeletedTheFirstOccurrenceOfTheSpecifiedElement() {
+        assertTrue(list.remove(2L));
+        assertFalse(list.remove(2L));
+
+        assertEquals("{ 1, 1, 8, 5, 4 }", list.toString());
+    }
+
+    @Test
+    void shouldBeReplaceTheElementInTheSpecifiedPosition() {
+        assertEquals(1L, list.set(0, 5L));
+        assertEquals(5L, list.get(0));
+    }
+
+    @Test
+    void allElementsShouldBeRemoved() {
+        list.clear();
+
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void listShouldBeSortedByNonDecreasing() {
+        list.sort(0, list.size() - 1);
+
+        assertEquals("{ 1, 1, 2, 4, 5, 8 }", list.toString());
+    }
+
+    @Test
+    void listsShouldBeSortedBySpecifiedComparator() {
+        for (long i = -100; i < 1000; i++) {
+            list.add(i);
+        }
+        list.sort(0, list.size() - 1, Comparator.reverseOrder());
+
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) >= list.get(i));
+        }
+    }
+
+    @Test
+    void rangesWithRepeatedAndOrderedElementsShouldBeSorted() {
+        list.clear();
+        for (long i = 0; i < 5000; i++) {
+            list.add(i % 3);
+        }
+        for (long i = 5000; i > 0; i--) {
+            list.add(i);
+        }
+        list.sort(0, list.size() - 1);
+
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+        assertEquals(5000L, list.get(list.size() - 1));
+    }
+
+    @Test
+    void rangeShouldBeSortedByHeapSortWhenDepthLimitIsExhausted() {
+        for (long i = 0; i < 1000; i++) {
+            list.add(i * 7919 % 1009);
+        }
+        ReflectionTestUtils.invokeMethod(list, "introSort", 0, list.size() - 1, 0,
+                Comparator.naturalOrder(), new byte[Long.BYTES]);
+
+        for (int i = 1; i < list.size(); i++) {
+            assertTrue(list.get(i - 1) <= list.get(i));
+        }
+    }
+
+    @Test
+    void elementsShouldBeShiftedAndSortedAcrossChunks() {
+        List<Long> expected = new ArrayList<>();
+        try (OffHeapMyList<Long> chunked = new OffHeapMyList<>(ElementCodec.LONG, 0, 8 * Long.BYTES)) {
+            for (long i = 0; i < 100; i++) {
+                chunked.add(i * 37 % 101);
+                expected.add(i * 37 % 101);
+            }
+            for (int i = 0; i < 30; i++) {
+                chunked.add(i * 3, -(long) i);
+                expected.add(i * 3, -(long) i);
+            }
+            for (long i = 0; i < 20; i++) {
+                assertEquals(expected.remove(Long.valueOf(i * 5)), chunked.remove(i * 5));
+            }
+            assertContains(expected, chunked);
+
+            chunked.sort(0, chunked.size() - 1);
+            expected.sort(null);
+            assertContains(expected, chunked);
+        }
+    }
+
+    @Test
+    void shouldThrowAnIllegalStateExceptionAfterClose() {
+        list.close();
+
+        assertThrows(IllegalStateException.class, () -> list.get(0));
+        assertThrows(IllegalStateException.class, () -> list.add(1L));
+    }
+
+    private static void assertContains(List<Long> expected, OffHeapMyList<Long> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
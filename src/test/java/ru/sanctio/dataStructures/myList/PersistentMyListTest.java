@@ -0,0 +1,155 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentMyListTest {
+
+    private static void assertSameElements(List<Integer> expected, PersistentMyList<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        int i = 0;
+        for (Integer element : actual) {
+            assertEquals(expected.get(i++), element);
+        }
+    }
+
+    @Test
+    void newVersionsShouldNotChangePreviousOnes() {
+        PersistentMyList<Integer> first = PersistentMyList.of(1, 1, 2, 8, 5, null);
+        PersistentMyList<Integer> second = first.withAdded(3).withSet(0, 7);
+        PersistentMyList<Integer> third = second.withRemoved(null).withInserted(1, 9);
+
+        assertEquals("{ 1, 1, 2, 8, 5, null }", first.toString());
+        assertEquals("{ 7, 1, 2, 8, 5, null, 3 }", second.toString());
+        assertEquals("{ 7, 9, 1, 2, 8, 5, 3 }", third.toString());
+        assertSame(third, third.withRemoved(42));
+    }
+
+    @Test
+    void addedElementsShouldBeAccessibleAcrossTreeLevels() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentMyList<Integer> list = PersistentMyList.empty();
+        for (int i = 0; i < 40_000; i++) {
+            list = list.withAdded(i);
+            expected.add(i);
+        }
+        assertSameElements(expected, list);
+
+        PersistentMyList<Integer> built = PersistentMyList.<Integer>builder().build();
+        PersistentMyList.Builder<Integer> builder = PersistentMyList.builder();
+        for (int i = 0; i < 40_000; i++) {
+            builder.add(i);
+        }
+        assertTrue(built.isEmpty());
+        assertEquals(list, builder.build());
+    }
+
+    @Test
+    void elementsShouldBeRemovedFromTheEndAcrossTreeLevels() {
+        List<Integer> expected = new ArrayList<>();
+        PersistentMyList.Builder<Integer> builder = PersistentMyList.builder();
+        for (int i = 0; i < 33_000; i++) {
+            builder.add(i);
+            expected.add(i);
+        }
+        PersistentMyList<Integer> list = builder.build();
+        PersistentMyList<Integer> original = list;
+        while (expected.size() > 1000) {
+            expected.remove(expected.size() - 1);
+            list = list.withoutLast();
+        }
+        assertSameElements(expected, list);
+        assertEquals(33_000, original.size());
+        assertEquals(32_999, original.get(32_999));
+
+        PersistentMyList.Builder<Integer> shrinking = original.toBuilder();
+        while (shrinking.size() > 1000) {
+            shrinking.removeLast();
+        }
+        assertEquals(list, shrinking.build());
+        assertThrows(NoSuchElementException.class, () -> PersistentMyList.empty().withoutLast());
+    }
+
+    @Test
+    void randomVersionsShouldMatchArrayList() {
+        Random random = new Random(5);
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+        List<PersistentMyList<Integer>> versions = new ArrayList<>();
+        List<Integer> expected = new ArrayList<>();
+        PersistentMyList<Integer> list = PersistentMyList.empty();
+        for (int step = 0; step < 3000; step++) {
+            int operation = random.nextInt(5);
+            if (operation <= 1 || expected.isEmpty()) {
+                list = list.withAdded(step);
+                expected.add(step);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.withInserted(index, step);
+                expected.add(index, step);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                list = list.withRemovedAt(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.withSet(index, -step);
+                expected.set(index, -step);
+            }
+            if (step % 100 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertSameElements(expectedVersions.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    void rangeShouldBeSortedInNewVersion() {
+        PersistentMyList<Integer> list = PersistentMyList.of(5, 3, 8, 1, 2);
+
+        assertEquals("{ 1, 2, 3, 5, 8 }", list.withSorted(0, 4).toString());
+        assertEquals("{ 5, 8, 3, 1, 2 }", list.withSorted(1, 2, Comparator.reverseOrder()).toString());
+        assertEquals("{ 5, 3, 8, 1, 2 }", list.toString());
+        assertThrows(IllegalArgumentException.class, () -> list.withSorted(0, 5));
+    }
+
+    @Test
+    void mutatingMethodsShouldBeUnsupported() {
+        PersistentMyList<Integer> list = PersistentMyList.of(1, 2);
+
+        assertThrows(UnsupportedOperationException.class, () -> list.add(3));
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(1));
+        assertThrows(UnsupportedOperationException.class, list::clear);
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.stableSort(0, 1));
+    }
+
+    @Test
+    void builderShouldNotChangeSourceAndBeUnusableAfterBuild() {
+        PersistentMyList<Integer> source = PersistentMyList.of(1, 2, 3);
+        PersistentMyList.Builder<Integer> builder = source.toBuilder();
+        builder.set(0, 9).add(4);
+        PersistentMyList<Integer> built = builder.build();
+
+        assertEquals("{ 1, 2, 3 }", source.toString());
+        assertEquals("{ 9, 2, 3, 4 }", built.toString());
+        assertThrows(IllegalStateException.class, () -> builder.add(5));
+        assertThrows(IllegalStateException.class, builder::build);
+        assertEquals(2, built.get(Integer.valueOf(2)));
+        assertNull(built.get(Integer.valueOf(7)));
+    }
+}
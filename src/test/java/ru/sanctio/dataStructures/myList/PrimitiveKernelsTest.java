@@ -0,0 +1,83 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveKernelsTest {
+    private Random random;
+
+    @BeforeEach
+    void createRandom() {
+        random = new Random(20);
+    }
+
+    @Test
+    void vectorApiShouldBeUsedOnlyWhenModuleIsPresent() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(), PrimitiveKernels.VECTORIZED);
+    }
+
+    @Test
+    void intKernelsShouldMatchScalarLoops() {
+        for (int length = 0; length < 150; length++) {
+            int[] a = random.ints(length, -5, 5).toArray();
+            int from = length / 3;
+            int to = length - length / 5;
+            for (int key = -6; key < 6; key++) {
+                assertEquals(PrimitiveKernels.scalarIndexOf(a, from, to, key), PrimitiveKernels.indexOf(a, from, to, key));
+                assertEquals(PrimitiveKernels.scalarCount(a, from, to, key), PrimitiveKernels.count(a, from, to, key));
+            }
+            assertEquals(PrimitiveKernels.scalarMin(a, from, to), PrimitiveKernels.min(a, from, to));
+            assertEquals(PrimitiveKernels.scalarMax(a, from, to), PrimitiveKernels.max(a, from, to));
+            assertEquals(PrimitiveKernels.scalarSum(a, from, to), PrimitiveKernels.sum(a, from, to));
+        }
+    }
+
+    @Test
+    void intSumShouldNotOverflow() {
+        int[] a = new int[100];
+        PrimitiveKernels.fill(a, 0, a.length, Integer.MAX_VALUE);
+
+        assertEquals(100L * Integer.MAX_VALUE, PrimitiveKernels.sum(a, 0, a.length));
+    }
+
+    @Test
+    void longKernelsShouldMatchScalarLoops() {
+        for (int length = 0; length < 100; length++) {
+            long[] a = random.longs(length, -3, 3).toArray();
+            int from = length / 4;
+            int to = length - length / 3;
+            for (long key = -4; key < 4; key++) {
+                assertEquals(PrimitiveKernels.scalarIndexOf(a, from, to, key), PrimitiveKernels.indexOf(a, from, to, key));
+                assertEquals(PrimitiveKernels.scalarCount(a, from, to, key), PrimitiveKernels.count(a, from, to, key));
+            }
+            assertEquals(PrimitiveKernels.scalarMin(a, from, to), PrimitiveKernels.min(a, from, to));
+            assertEquals(PrimitiveKernels.scalarMax(a, from, to), PrimitiveKernels.max(a, from, to));
+            assertEquals(PrimitiveKernels.scalarSum(a, from, to), PrimitiveKernels.sum(a, from, to));
+        }
+    }
+
+    @Test
+    void doubleKernelsShouldMatchScalarLoops() {
+        double[] values = {0.0, -0.0, 1.5, -2.0, Double.NaN, Double.POSITIVE_INFINITY};
+        for (int length = 0; length < 100; length++) {
+            double[] a = new double[length];
+            for (int i = 0; i < length; i++) {
+                a[i] = values[random.nextInt(values.length - 2)];
+            }
+            if (length > 50) {
+                a[length - 3] = Double.NaN;
+            }
+            for (double key : values) {
+                assertEquals(PrimitiveKernels.scalarIndexOf(a, 0, length, key), PrimitiveKernels.indexOf(a, 0, length, key));
+                assertEquals(PrimitiveKernels.scalarCount(a, 0, length, key), PrimitiveKernels.count(a, 0, length, key));
+            }
+            assertEquals(PrimitiveKernels.scalarMin(a, 0, length), PrimitiveKernels.min(a, 0, length));
+            assertEquals(PrimitiveKernels.scalarMax(a, 0, length), PrimitiveKernels.max(a, 0, length));
+            assertEquals(PrimitiveKernels.scalarSum(a, 0, length), PrimitiveKernels.sum(a, 0, length));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RunMergeSortTest {
+
+    private static final Comparator<int[]> BY_KEY = Comparator.comparingInt(pair -> pair[0]);
+
+    private static int[][] randomPairs(int length, int keys, long seed) {
+        Random random = new Random(seed);
+        int[][] pairs = new int[length][];
+        for (int i = 0; i < length; i++) {
+            pairs[i] = new int[]{random.nextInt(keys), i};
+        }
+        return pairs;
+    }
+
+    private static void assertSortedAndStable(int[][] pairs, int from, int to) {
+        for (int i = from + 1; i <= to; i++) {
+            assertTrue(pairs[i - 1][0] <= pairs[i][0]);
+            if (pairs[i - 1][0] == pairs[i][0]) {
+                assertTrue(pairs[i - 1][1] < pairs[i][1]);
+            }
+        }
+    }
+
+    @Test
+    void arrayShouldBeSortedStably() {
+        int[][] pairs = randomPairs(100_000, 100, 3);
+        RunMergeSort.sort(pairs, 0, pairs.length - 1, BY_KEY);
+
+        assertSortedAndStable(pairs, 0, pairs.length - 1);
+    }
+
+    @Test
+    void shortRangeShouldBeSortedStably() {
+        int[][] pairs = randomPairs(40, 5, 4);
+        int[][] expected = pairs.clone();
+        RunMergeSort.sort(pairs, 10, 30, BY_KEY);
+        Arrays.sort(expected, 10, 31, BY_KEY);
+
+        assertArrayEquals(expected, pairs);
+    }
+
+    @Test
+    void partiallyOrderedArrayShouldBeSortedStably() {
+        int[][] pairs = randomPairs(50_000, 1_000_000, 5);
+        Arrays.sort(pairs, 0, 20_000, BY_KEY);
+        Arrays.sort(pairs, 20_000, 40_000, BY_KEY.reversed());
+        RunMergeSort.sort(pairs, 0, pairs.length - 1, BY_KEY);
+
+        assertSortedAndStable(pairs, 0, pairs.length - 1);
+    }
+
+    @Test
+    void sortedArrayShouldBeSortedInLinearComparisons() {
+        Integer[] array = new Integer[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+        AtomicInteger comparisons = new AtomicInteger();
+        RunMergeSort.sort(array, 0, array.length - 1, (e1, e2) -> {
+            comparisons.incrementAndGet();
+            return e1.compareTo(e2);
+        });
+
+        assertTrue(comparisons.get() < array.length);
+    }
+
+    @Test
+    void reversedArrayShouldBeSorted() {
+        Integer[] array = new Integer[100_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array.length - i;
+        }
+        RunMergeSort.sort(array, 0, array.length - 1, Sorting.NATURAL_ORDER);
+
+        for (int i = 0; i < array.length; i++) {
+            assertEquals(i + 1, array[i]);
+        }
+    }
+}
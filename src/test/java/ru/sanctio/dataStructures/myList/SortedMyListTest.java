@@ -0,0 +1,106 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedMyListTest {
+    private SortedMyList<Integer> list;
+
+    @BeforeEach
+    void createNewList() {
+        list = new SortedMyList<>();
+        list.add(1);
+        list.add(1);
+        list.add(2);
+        list.add(8);
+        list.add(5);
+    }
+
+    @Test
+    void elementsShouldBeKeptSortedOnAdd() {
+        list.add(0);
+        list.add(9);
+        list.add(4);
+
+        assertEquals("{ 0, 1, 1, 2, 4, 5, 8, 9 }", list.toString());
+    }
+
+    @Test
+    void equalElementsShouldKeepInsertionOrder() {
+        SortedMyList<String> byLength = new SortedMyList<>(Comparator.comparing(String::length));
+        byLength.add("bb");
+        byLength.add("a");
+        byLength.add("cc");
+        byLength.addAllSorted(List.of("d", "ee"));
+
+        assertEquals("{ a, d, bb, cc, ee }", byLength.toString());
+        assertEquals("cc", byLength.get("cc"));
+        assertNull(byLength.get("ff"));
+        assertTrue(byLength.remove("cc"));
+        assertFalse(byLength.remove("ff"));
+        assertEquals("{ a, d, bb, ee }", byLength.toString());
+    }
+
+    @Test
+    void sortedBatchShouldBeMergedInOnePass() {
+        Random random = new Random(3);
+        List<Integer> expected = new ArrayList<>(List.of(1, 1, 2, 5, 8));
+        for (int round = 0; round < 20; round++) {
+            List<Integer> batch = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                batch.add(random.nextInt(100));
+            }
+            if (round % 2 == 0) {
+                MyArrayList<Integer> sortedBatch = new MyArrayList<>();
+                sortedBatch.addAll(batch);
+                sortedBatch.sort(0, sortedBatch.size() - 1);
+                list.addAllSorted(sortedBatch);
+            } else {
+                list.addAllSorted(batch);
+            }
+            expected.addAll(batch);
+        }
+        expected.sort(null);
+
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertFalse(list.addAllSorted(List.of()));
+    }
+
+    @Test
+    void elementsShouldBeFoundByBinarySearch() {
+        assertEquals(2, list.binarySearch(2));
+        assertEquals(-4, list.binarySearch(3));
+        assertEquals(8, list.get(Integer.valueOf(8)));
+        assertThrows(NullPointerException.class, () -> list.get(null));
+    }
+
+    @Test
+    void positionalMethodsShouldBeUnsupported() {
+        assertThrows(UnsupportedOperationException.class, () -> list.add(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.set(0, 3));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(0, 1));
+        assertThrows(UnsupportedOperationException.class, () -> list.sort(0, 1, Comparator.reverseOrder()));
+        assertThrows(UnsupportedOperationException.class, () -> list.stableSort(0, 1));
+    }
+
+    @Test
+    void listsWithSameElementsShouldBeEqual() {
+        SortedMyList<Integer> other = new SortedMyList<>();
+        other.addAllSorted(List.of(8, 5, 2, 1, 1));
+
+        assertEquals(list, other);
+        assertEquals(list.hashCode(), other.hashCode());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+}
@@ -0,0 +1,202 @@
+package ru.sanctio.dataStructures.myList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortingTest {
+    private ForkJoinPool pool;
+    private Integer[] array;
+    private Integer[] expected;
+
+    @BeforeEach
+    void createArray() {
+        pool = new ForkJoinPool(4);
+        Random random = new Random(7);
+        array = new Integer[300_000];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = random.nextInt(5000);
+        }
+        expected = array.clone();
+    }
+
+    @AfterEach
+    void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Test
+    void arrayShouldBeSortedByIntroSort() {
+        Sorting.introSort(array, 0, array.length - 1, Sorting.NATURAL_ORDER);
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void arrayShouldBeSortedInParallel() {
+        Sorting.parallelSort(array, 0, array.length - 1, Sorting.NATURAL_ORDER, pool);
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void rangeShouldBeSortedInParallelBySpecifiedComparator() {
+        Sorting.parallelSort(array, 100, array.length - 101, Comparator.reverseOrder(), pool);
+        Arrays.sort(expected, 100, expected.length - 100, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortedArrayShouldStaySortedInParallel() {
+        Arrays.sort(array);
+        Arrays.sort(expected);
+        Sorting.parallelSort(array, 0, array.length - 1, Sorting.NATURAL_ORDER, pool);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void arrayWithManyDuplicatesShouldBeSortedByIntroSort() {
+        for (int i = 0; i < array.length; i++) {
+            array[i] = array[i] % 3;
+        }
+        expected = array.clone();
+        Sorting.introSort(array, 0, array.length - 1, Sorting.NATURAL_ORDER);
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void sortedAndReversedArraysShouldBeSortedWithoutStackOverflow() {
+        Integer[] sorted = new Integer[2_000_000];
+        Integer[] reversed = new Integer[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i;
+            reversed[i] = sorted.length - i;
+        }
+        Sorting.introSort(sorted, 0, sorted.length - 1, Sorting.NATURAL_ORDER);
+        Sorting.introSort(reversed, 0, reversed.length - 1, Sorting.NATURAL_ORDER);
+
+        for (int i = 1; i < sorted.length; i++) {
+            assertTrue(sorted[i - 1] <= sorted[i]);
+            assertTrue(reversed[i - 1] <= reversed[i]);
+        }
+    }
+
+    @Test
+    void rangeShouldBeSortedByHeapSort() {
+        Sorting.heapSort(array, 10, array.length - 11, Comparator.reverseOrder());
+        Arrays.sort(expected, 10, expected.length - 10, Comparator.reverseOrder());
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void rangeShouldBeSortedByInsertionSort() {
+        Sorting.insertionSort(array, 5, 20, Sorting.NATURAL_ORDER);
+        Arrays.sort(expected, 5, 21);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void rangeShouldBePartitionedIntoThreeParts() {
+        int[] bounds = new int[2];
+        Sorting.partition(array, 0, array.length - 1, 0, Sorting.NATURAL_ORDER, bounds);
+        Integer border = array[bounds[0]];
+
+        for (int i = 0; i < array.length; i++) {
+            int expectedSign = i < bounds[0] ? -1 : i > bounds[1] ? 1 : 0;
+            assertEquals(expectedSign, Integer.signum(array[i].compareTo(border)));
+        }
+    }
+
+    @Test
+    void arrayShouldBeSortedWithEveryPivotStrategy() {
+        Arrays.sort(expected);
+        for (PivotStrategy strategy : new PivotStrategy[]{PivotStrategy.MEDIAN_OF_THREE, PivotStrategy.NINTHER,
+                PivotStrategy.RANDOM, PivotStrategy.seeded(42)}) {
+            Integer[] copy = array.clone();
+            Sorting.introSort(copy, 0, copy.length - 1, Sorting.NATURAL_ORDER, strategy);
+
+            assertArrayEquals(expected, copy);
+        }
+    }
+
+    @Test
+    void arrayShouldBeSortedInParallelWithRandomPivot() {
+        Sorting.parallelSort(array, 0, array.length - 1, Sorting.NATURAL_ORDER, PivotStrategy.RANDOM, pool);
+        Arrays.sort(expected);
+
+        assertArrayEquals(expected, array);
+    }
+
+    @Test
+    void seededStrategyShouldRepeatTheSameComparisons() {
+        PivotStrategy strategy = PivotStrategy.seeded(42);
+        int[] counts = new int[2];
+        for (int i = 0; i < counts.length; i++) {
+            int run = i;
+            Integer[] copy = array.clone();
+            Sorting.introSort(copy, 0, copy.length - 1, (e1, e2) -> {
+                counts[run]++;
+                return e1.compareTo(e2);
+            }, strategy);
+        }
+
+        assertEquals(counts[0], counts[1]);
+    }
+
+    @Test
+    void nintherShouldReturnIndexOfMedianOfNineElements() {
+        Integer[] values = new Integer[PivotStrategy.NINTHER_THRESHOLD];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        int pivot = PivotStrategy.NINTHER.choosePivot(values, 0, values.length - 1, Sorting.NATURAL_ORDER);
+
+        assertEquals(19, pivot);
+    }
+
+    @Test
+    void selectShouldPlaceKthElementAndPartitionAroundIt() {
+        Arrays.sort(expected);
+        for (int k : new int[]{0, 1, 12_345, array.length / 2, array.length - 1}) {
+            Integer[] copy = array.clone();
+            Sorting.select(copy, 0, copy.length - 1, k, Sorting.NATURAL_ORDER, PivotStrategy.MEDIAN_OF_THREE);
+
+            assertEquals(expected[k], copy[k]);
+            for (int i = 0; i < copy.length; i++) {
+                assertTrue(i < k ? copy[i] <= copy[k] : copy[i] >= copy[k]);
+            }
+        }
+    }
+
+    @Test
+    void partialSortShouldSortOnlyBeginningOfRange() {
+        Sorting.partialSort(array, 100, array.length - 1, 500, Sorting.NATURAL_ORDER, PivotStrategy.NINTHER);
+        Arrays.sort(expected, 100, expected.length);
+
+        assertArrayEquals(Arrays.copyOfRange(expected, 0, 600), Arrays.copyOfRange(array, 0, 600));
+    }
+
+    @Test
+    void topKShouldReturnGreatestElementsInDescendingOrder() {
+        Object[] top = Sorting.topK(array, 0, array.length - 1, 100, Sorting.NATURAL_ORDER);
+        Arrays.sort(expected, Comparator.reverseOrder());
+
+        assertArrayEquals(Arrays.copyOf(expected, 100), top);
+        assertEquals(3, Sorting.topK(array, 0, 2, 10, Sorting.NATURAL_ORDER).length);
+    }
+}